@@ -0,0 +1,54 @@
+package com.example.demo.benchmark;
+
+import com.example.demo.dto.AdminResponse;
+import com.example.demo.dto.SensorMeasurementResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 📊 대량 조회 응답 직렬화 (AdminResponse<List<SensorMeasurementResponse>>)
+ * - Spring Boot 기본값과 같은 설정의 ObjectMapper 사용 (JavaTimeModule, ISO-8601 시각)
+ * - toBytes: 전체 byte[] 생성 / streaming: 출력 스트림에 바로 기록
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class AdminResponseSerializationBenchmark {
+
+    @Param({"100", "10000", "100000"})
+    private int size;
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json()
+            .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .build();
+    private AdminResponse<List<SensorMeasurementResponse>> response;
+
+    @Setup
+    public void setUp() {
+        Instant base = Instant.parse("2025-01-01T00:00:00Z");
+        List<SensorMeasurementResponse> rows = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            rows.add(new SensorMeasurementResponse((long) (i % 5) + 1, 10.0 + (i % 100) / 10.0, base.plusSeconds(3600L * i)));
+        }
+        response = AdminResponse.ok(rows);
+    }
+
+    @Benchmark
+    public byte[] toBytes() throws IOException {
+        return objectMapper.writeValueAsBytes(response);
+    }
+
+    @Benchmark
+    public void streaming() throws IOException {
+        objectMapper.writeValue(OutputStream.nullOutputStream(), response);
+    }
+}
@@ -0,0 +1,115 @@
+package com.example.demo.benchmark;
+
+import com.example.demo.config.ApiKeyCache;
+import com.example.demo.config.ApiKeyRateLimitFilter;
+import com.example.demo.config.LocalApiKeyRateLimiter;
+import com.example.demo.config.QueryCostEstimator;
+import com.example.demo.domain.ApiKey;
+import com.example.demo.repository.ApiKeyRepository;
+import com.example.demo.repository.SensorRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 📊 API Key 필터 동시성 (캐시 조회 → 요청 Bucket → 비용 Bucket → SecurityContext)
+ * - DB 대신 스텁 레포지토리 사용 → 캐시 적중 후의 필터 경로만 측정
+ * - shared: 모든 스레드가 같은 API Key (같은 Bucket 경합)
+ * - distinct: 스레드마다 다른 API Key
+ * - 단건 조회(비용 1)와 24시간 조회(비용 24 → 비용 Bucket 차감) 경로
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Threads(8)
+public class ApiKeyRateLimitFilterBenchmark {
+
+    private static final FilterChain NO_OP_CHAIN = (req, res) -> { };
+
+    @Param({"shared", "distinct"})
+    private String clients;
+
+    private ApiKeyRateLimitFilter filter;
+    private final AtomicInteger threadIds = new AtomicInteger();
+
+    @Setup
+    public void setUp() {
+        ApiKeyRepository apiKeyRepository = Fixtures.stub(ApiKeyRepository.class, Map.of(
+                "findByApiKey", args -> Optional.of(ApiKey.builder()
+                        .apiKey((String) args[0])
+                        .owner("bench")
+                        .limitPerMinute(Integer.MAX_VALUE)
+                        .computeBudgetPerMinute(Integer.MAX_VALUE)
+                        .active(true)
+                        .build())));
+        SensorRepository sensorRepository = Fixtures.stub(SensorRepository.class, Map.of("count", args -> 5L));
+
+        ApiKeyCache apiKeyCache = new ApiKeyCache(apiKeyRepository, 600, 30, 10_000, 100_000);
+        QueryCostEstimator costEstimator = new QueryCostEstimator(sensorRepository);
+        ReflectionTestUtils.setField(costEstimator, "fullScanCost", 5000L);
+
+        filter = new ApiKeyRateLimitFilter(apiKeyCache, new LocalApiKeyRateLimiter(10),
+                costEstimator, new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(filter, "defaultComputeBudget", 2000);
+    }
+
+    @State(Scope.Thread)
+    public static class ClientRequest {
+        MockHttpServletRequest singleHour;
+        MockHttpServletRequest fullDay;
+        MockHttpServletResponse response;
+
+        @Setup
+        public void setUp(ApiKeyRateLimitFilterBenchmark benchmark) {
+            String apiKey = "shared".equals(benchmark.clients)
+                    ? "bench-key"
+                    : "bench-key-" + benchmark.threadIds.incrementAndGet();
+
+            singleHour = new MockHttpServletRequest("GET", "/api/measurements/1");
+            singleHour.addHeader("X-API-KEY", apiKey);
+            singleHour.setParameter("durationSec", "3600");
+
+            fullDay = new MockHttpServletRequest("GET", "/api/measurements/1");
+            fullDay.addHeader("X-API-KEY", apiKey);
+            fullDay.setParameter("durationSec", "86400");
+
+            response = new MockHttpServletResponse();
+        }
+
+        @TearDown
+        public void tearDown() {
+            SecurityContextHolder.clearContext();
+        }
+    }
+
+    @Benchmark
+    public int singleHour(ClientRequest client) throws IOException, ServletException {
+        return filter(client, client.singleHour);
+    }
+
+    @Benchmark
+    public int fullDay(ClientRequest client) throws IOException, ServletException {
+        return filter(client, client.fullDay);
+    }
+
+    private int filter(ClientRequest client, MockHttpServletRequest request)
+            throws IOException, ServletException {
+        filter.doFilter(request, client.response, NO_OP_CHAIN);
+        int status = client.response.getStatus();
+        if (status != 200) {
+            client.response = new MockHttpServletResponse(); // sendError로 커밋된 응답 교체
+        }
+        return status;
+    }
+}
@@ -0,0 +1,48 @@
+package com.example.demo.benchmark;
+
+import com.example.demo.repository.InfluxDBRepository;
+import com.example.demo.repository.embedded.EmbeddedInfluxDBRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.stream.Stream;
+
+/**
+ * 📊 임베디드 저장소 조회
+ * - compacted=false: 시간별 적재 그대로 (파일당 블록 24개)
+ * - compacted=true: 압축 후 (파일당 블록 1개)
+ */
+public class EmbeddedStoreBenchmark extends TimeSeriesReadBenchmark {
+
+    @Param({"false", "true"})
+    public boolean compacted;
+
+    private Path dir;
+    private EmbeddedInfluxDBRepository embedded;
+
+    @Override
+    protected InfluxDBRepository createRepository() throws IOException {
+        dir = Files.createTempDirectory("tsdb-bench");
+        embedded = new EmbeddedInfluxDBRepository(dir.toString(), 24, false, 2, new SimpleMeterRegistry());
+        return embedded;
+    }
+
+    @Override
+    protected void afterLoad() {
+        if (compacted) embedded.compact();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        embedded.destroy();
+        try (Stream<Path> files = Files.walk(dir)) {
+            files.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+}
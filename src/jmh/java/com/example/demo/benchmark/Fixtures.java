@@ -0,0 +1,48 @@
+package com.example.demo.benchmark;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Proxy;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * 📌 벤치마크 공용 픽스처/스텁
+ * - fixtures/*.txt: KMA API Hub 응답 형식의 샘플 페이로드 (src/jmh/resources)
+ * - 레포지토리 스텁: DB 없이 필터 경로만 측정
+ */
+final class Fixtures {
+
+    private Fixtures() {
+        throw new AssertionError("Fixtures is a utility class and cannot be instantiated.");
+    }
+
+    static String load(String name) {
+        try (InputStream in = Fixtures.class.getResourceAsStream("/fixtures/" + name)) {
+            if (in == null) {
+                throw new IllegalStateException("픽스처 없음: " + name);
+            }
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * ✅ 인터페이스 스텁 (메서드 이름 → 응답)
+     * - 정의되지 않은 메서드 호출 시 UnsupportedOperationException
+     */
+    @SuppressWarnings("unchecked")
+    static <T> T stub(Class<T> type, Map<String, Function<Object[], Object>> answers) {
+        return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (proxy, method, args) -> {
+            Function<Object[], Object> answer = answers.get(method.getName());
+            if (answer != null) return answer.apply(args);
+            if (method.getName().equals("toString")) return type.getSimpleName() + "Stub";
+            if (method.getName().equals("hashCode")) return System.identityHashCode(proxy);
+            if (method.getName().equals("equals")) return proxy == args[0];
+            throw new UnsupportedOperationException(method.getName());
+        });
+    }
+}
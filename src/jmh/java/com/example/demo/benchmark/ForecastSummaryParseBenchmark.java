@@ -0,0 +1,32 @@
+package com.example.demo.benchmark;
+
+import com.example.demo.domain.ForecastSummary;
+import com.example.demo.service.ForecastSummaryParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 📊 단기예보 개황(fct_afs_ds) 응답 파싱
+ * - 마커 제거 + 따옴표 없는 JSON 파싱 + ForecastSummary 변환 (60건)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ForecastSummaryParseBenchmark {
+
+    private final ForecastSummaryParser parser = new ForecastSummaryParser();
+    private String response;
+
+    @Setup
+    public void setUp() {
+        response = Fixtures.load("fct_afs_ds_sample.txt");
+    }
+
+    @Benchmark
+    public List<ForecastSummary> parse() throws JsonProcessingException {
+        return parser.parse(response);
+    }
+}
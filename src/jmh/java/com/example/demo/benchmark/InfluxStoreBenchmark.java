@@ -0,0 +1,38 @@
+package com.example.demo.benchmark;
+
+import com.example.demo.repository.InfluxDBRepository;
+import com.example.demo.repository.InfluxDBRepositoryImpl;
+import com.influxdb.client.InfluxDBClient;
+import com.influxdb.client.InfluxDBClientFactory;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.Map;
+
+/**
+ * 📊 InfluxDB 조회 (비교 기준)
+ * - 실행 중인 InfluxDB 필요 → 기본 제외, -PjmhInflux 로 실행
+ * - 접속 정보: INFLUX_URL / INFLUX_TOKEN / INFLUX_ORG / INFLUX_BUCKET (application.properties 기본값과 동일)
+ * - ⚠️ bench_* 센서로 데이터를 기록하므로 운영 버킷에는 실행 금지
+ */
+public class InfluxStoreBenchmark extends TimeSeriesReadBenchmark {
+
+    private InfluxDBClient client;
+
+    @Override
+    protected InfluxDBRepository createRepository() {
+        Map<String, String> env = System.getenv();
+        client = InfluxDBClientFactory.create(
+                env.getOrDefault("INFLUX_URL", "http://localhost:8086"),
+                env.getOrDefault("INFLUX_TOKEN", "my-super-secret-token").toCharArray(),
+                env.getOrDefault("INFLUX_ORG", "my-org"),
+                BUCKET);
+        return new InfluxDBRepositoryImpl(client, new SimpleMeterRegistry());
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        client.close();
+    }
+}
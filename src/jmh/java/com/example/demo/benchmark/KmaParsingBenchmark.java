@@ -0,0 +1,77 @@
+package com.example.demo.benchmark;
+
+import com.example.demo.domain.SensorMeasurement;
+import com.example.demo.repository.SensorPoints;
+import com.example.demo.service.KmaObservationParser;
+import com.influxdb.client.write.Point;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 📊 KMA 지상관측(kma_sfctm3) 수집 경로
+ * - 응답 전체 파싱 (744줄 = 1개 지점 31일치)
+ * - 시각 파싱 단건
+ * - SensorMeasurement → Point 생성 / Line Protocol 인코딩
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class KmaParsingBenchmark {
+
+    private String response;
+    private String[] lines;
+    private List<SensorMeasurement> measurements;
+
+    @Setup
+    public void setUp() {
+        response = Fixtures.load("kma_sfctm3_108_744h.txt");
+        lines = response.split("\n");
+        measurements = new ArrayList<>();
+        for (String line : lines) {
+            if (KmaObservationParser.isDataLine(line)) {
+                measurements.addAll(KmaObservationParser.parseLine(line));
+            }
+        }
+    }
+
+    @Benchmark
+    public List<SensorMeasurement> parseResponse() {
+        List<SensorMeasurement> batch = new ArrayList<>();
+        for (String line : response.split("\n")) {
+            if (!KmaObservationParser.isDataLine(line)) continue;
+            batch.addAll(KmaObservationParser.parseLine(line));
+        }
+        return batch;
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    public List<SensorMeasurement> parseLine() {
+        return KmaObservationParser.parseLine(lines[lines.length / 2]);
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    public Object parseTime() {
+        return KmaObservationParser.parseTime("202501151300");
+    }
+
+    @Benchmark
+    public void toPoint(Blackhole bh) {
+        for (SensorMeasurement m : measurements) {
+            bh.consume(SensorPoints.toPoint(m));
+        }
+    }
+
+    @Benchmark
+    public void toLineProtocol(Blackhole bh) {
+        for (SensorMeasurement m : measurements) {
+            Point point = SensorPoints.toPoint(m);
+            bh.consume(point.toLineProtocol());
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package com.example.demo.benchmark;
+
+import com.example.demo.config.IpRateLimitProperties;
+import com.example.demo.config.RateLimitFilter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 📊 IP Rate Limit 필터 (GCRA) 동시성
+ * - shared: 모든 스레드가 같은 IP → 같은 상태에 CAS 경합
+ * - distinct: 스레드마다 다른 IP → 경합 없는 기준값
+ * - 한도를 충분히 크게 두어 허용 경로를 측정 (거절은 카운트만)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Threads(8)
+public class RateLimitFilterBenchmark {
+
+    private static final FilterChain NO_OP_CHAIN = (req, res) -> { };
+
+    @Param({"shared", "distinct"})
+    private String clients;
+
+    private RateLimitFilter filter;
+    private final AtomicInteger threadIds = new AtomicInteger();
+
+    @Setup
+    public void setUp() {
+        IpRateLimitProperties properties = new IpRateLimitProperties();
+        properties.setDefaultPerMinute(Integer.MAX_VALUE);
+        properties.getRoutes().put("/api/measurements/all", Integer.MAX_VALUE);
+        filter = new RateLimitFilter(properties, new SimpleMeterRegistry());
+    }
+
+    @State(Scope.Thread)
+    public static class ClientRequest {
+        MockHttpServletRequest request;
+        MockHttpServletResponse response;
+
+        @Setup
+        public void setUp(RateLimitFilterBenchmark benchmark) {
+            request = new MockHttpServletRequest("GET", "/api/measurements/1");
+            request.setRemoteAddr("shared".equals(benchmark.clients)
+                    ? "10.0.0.1"
+                    : "10.0.1." + benchmark.threadIds.incrementAndGet());
+            response = new MockHttpServletResponse();
+        }
+    }
+
+    @Benchmark
+    public int doFilter(ClientRequest client) throws IOException, ServletException {
+        filter.doFilter(client.request, client.response, NO_OP_CHAIN);
+        int status = client.response.getStatus();
+        if (status != 200) {
+            client.response = new MockHttpServletResponse(); // 거절 응답은 커밋될 수 있어 교체
+        }
+        return status;
+    }
+}
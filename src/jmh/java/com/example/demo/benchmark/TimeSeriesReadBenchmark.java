@@ -0,0 +1,77 @@
+package com.example.demo.benchmark;
+
+import com.example.demo.domain.SensorMeasurement;
+import com.example.demo.repository.InfluxDBRepository;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 📊 시계열 저장소 조회 비교 (InfluxDB vs 임베디드)
+ * - 센서 5종 × 1개 지점 × 최근 35일 정시 데이터 적재 후
+ *   findBySensorIdWithin(24h / 7d), findBySensorIdBetween(1d / 30d) 측정
+ * - 적재는 수집 경로와 같이 1시간 단위 배치로 저장
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public abstract class TimeSeriesReadBenchmark {
+
+    protected static final String BUCKET = System.getenv().getOrDefault("INFLUX_BUCKET", "demo_bucket");
+    protected static final String STATION = "bench";
+    protected static final String[] SENSORS = {
+            "bench_temperature", "bench_pressure", "bench_wind_speed", "bench_wind_dir", "bench_rainfall"
+    };
+    private static final int DAYS = 35;
+
+    protected InfluxDBRepository repository;
+    private Instant now;
+
+    /** 저장소 생성 (데이터 적재 전) */
+    protected abstract InfluxDBRepository createRepository() throws Exception;
+
+    /** 적재 후 처리 (압축 등) */
+    protected void afterLoad() {
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        repository = createRepository();
+        now = Instant.now().truncatedTo(ChronoUnit.HOURS);
+
+        Instant from = now.minus(DAYS, ChronoUnit.DAYS);
+        for (Instant t = from; t.isBefore(now); t = t.plus(1, ChronoUnit.HOURS)) {
+            List<SensorMeasurement> batch = new ArrayList<>(SENSORS.length);
+            long hour = t.getEpochSecond() / 3600;
+            for (int i = 0; i < SENSORS.length; i++) {
+                batch.add(new SensorMeasurement(SENSORS[i], STATION, 10.0 + i + (hour % 24) * 0.1, t));
+            }
+            repository.saveAll(batch);
+        }
+        afterLoad();
+    }
+
+    @Benchmark
+    public List<SensorMeasurement> within24h() {
+        return repository.findBySensorIdWithin(BUCKET, SENSORS[0], 86_400L);
+    }
+
+    @Benchmark
+    public List<SensorMeasurement> within7d() {
+        return repository.findBySensorIdWithin(BUCKET, SENSORS[0], 7 * 86_400L);
+    }
+
+    @Benchmark
+    public List<SensorMeasurement> between1d() {
+        return repository.findBySensorIdBetween(BUCKET, SENSORS[0], now.minus(2, ChronoUnit.DAYS), now.minus(1, ChronoUnit.DAYS));
+    }
+
+    @Benchmark
+    public List<SensorMeasurement> between30d() {
+        return repository.findBySensorIdBetween(BUCKET, SENSORS[0], now.minus(31, ChronoUnit.DAYS), now.minus(1, ChronoUnit.DAYS));
+    }
+}
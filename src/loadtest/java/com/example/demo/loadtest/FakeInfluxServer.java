@@ -0,0 +1,323 @@
+package com.example.demo.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * 📌 InfluxDB v2 HTTP API fake (메모리 저장)
+ * - POST /api/v2/write: Line Protocol 파싱 → (sensor, station) 시리즈별 정렬 맵에 저장
+ * - POST /api/v2/query: 앱이 보내는 Flux 쿼리(FluxQueries) 형태만 해석 → Annotated CSV 응답
+ *   range / r["sensor"|"station"] 필터 / timeShift / aggregateWindow(count)
+ * - 실제 InfluxDB의 저장/압축 비용은 재현하지 않음 → 앱 쪽(클라이언트, 매핑, 직렬화) 병목 측정용
+ */
+@Slf4j
+public class FakeInfluxServer implements AutoCloseable {
+
+    private static final Pattern RANGE = Pattern.compile("range\\(start:\\s*([^,)\\s]+)\\s*(?:,\\s*stop:\\s*([^)\\s]+))?\\s*\\)");
+    private static final Pattern TAG_FILTER = Pattern.compile("r\\[\"(sensor|station)\"]\\s*==\\s*\"((?:[^\"\\\\]|\\\\.)*)\"");
+    private static final Pattern TIME_SHIFT = Pattern.compile("timeShift\\(duration:\\s*(-?\\d+)h\\)");
+    private static final Pattern COUNT_WINDOW = Pattern.compile("aggregateWindow\\(every:\\s*(\\d+)h,\\s*fn:\\s*count");
+    private static final Pattern RELATIVE = Pattern.compile("-(\\d+)([smhd])");
+
+    private final HttpServer server;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final long queryLatencyMs;
+
+    // (sensor, station) → 시각(ns) → 값
+    private final Map<SeriesKey, ConcurrentSkipListMap<Long, Double>> series = new ConcurrentHashMap<>();
+
+    private final LongAdder pointsWritten = new LongAdder();
+    private final LongAdder writeRequests = new LongAdder();
+    private final LongAdder queryRequests = new LongAdder();
+    private final LongAdder rowsReturned = new LongAdder();
+
+    private record SeriesKey(String sensor, String station) {}
+
+    public FakeInfluxServer(long queryLatencyMs) throws IOException {
+        this.queryLatencyMs = queryLatencyMs;
+        this.server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        this.server.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+        this.server.createContext("/api/v2/write", this::write);
+        this.server.createContext("/api/v2/query", this::query);
+        this.server.createContext("/ping", exchange -> empty(exchange, 204));
+        this.server.createContext("/health", exchange -> empty(exchange, 200));
+    }
+
+    public void start() {
+        server.start();
+        log.info("🧪 InfluxDB fake 시작: {}", url());
+    }
+
+    public String url() {
+        return "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    public long pointsWritten() {
+        return pointsWritten.sum();
+    }
+
+    public long writeRequests() {
+        return writeRequests.sum();
+    }
+
+    public long queryRequests() {
+        return queryRequests.sum();
+    }
+
+    public long rowsReturned() {
+        return rowsReturned.sum();
+    }
+
+    public long seriesCount() {
+        return series.size();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+    }
+
+    // =========================
+    // ✅ 쓰기 (Line Protocol)
+    // =========================
+    private void write(HttpExchange exchange) throws IOException {
+        writeRequests.increment();
+        long multiplier = precisionToNanos(KmaStubServer.query(exchange).getOrDefault("precision", "ns"));
+
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(body(exchange), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (!line.isBlank()) {
+                    writeLine(line, multiplier);
+                }
+            }
+        } catch (RuntimeException e) {
+            log.warn("⚠️ Line Protocol 파싱 실패: {}", e.getMessage());
+            empty(exchange, 400);
+            return;
+        }
+        empty(exchange, 204);
+    }
+
+    /**
+     * sensor_data,sensor=temperature,station=108 value=12.3 1735657200000000000
+     * (stub 데이터에는 공백/콤마 이스케이프가 필요한 태그 값이 없음)
+     */
+    private void writeLine(String line, long multiplier) {
+        String[] parts = line.split(" ");
+        String[] measurementAndTags = parts[0].split(",");
+
+        String sensor = null;
+        String station = null;
+        for (int i = 1; i < measurementAndTags.length; i++) {
+            String tag = measurementAndTags[i];
+            if (tag.startsWith("sensor=")) sensor = tag.substring(7);
+            else if (tag.startsWith("station=")) station = tag.substring(8);
+        }
+
+        Double value = null;
+        for (String field : parts[1].split(",")) {
+            if (field.startsWith("value=")) {
+                String raw = field.substring(6);
+                value = Double.parseDouble(raw.endsWith("i") ? raw.substring(0, raw.length() - 1) : raw);
+            }
+        }
+        if (sensor == null || value == null) return;
+
+        long timeNs = parts.length > 2
+                ? Long.parseLong(parts[2]) * multiplier
+                : System.currentTimeMillis() * 1_000_000L;
+
+        series.computeIfAbsent(new SeriesKey(sensor, station), k -> new ConcurrentSkipListMap<>())
+                .put(timeNs, value);
+        pointsWritten.increment();
+    }
+
+    // =========================
+    // ✅ 조회 (Flux → Annotated CSV)
+    // =========================
+    private void query(HttpExchange exchange) throws IOException {
+        queryRequests.increment();
+        KmaStubServer.sleep(queryLatencyMs);
+
+        String flux;
+        try (InputStream in = body(exchange)) {
+            flux = objectMapper.readTree(in).path("query").asText();
+        }
+
+        Matcher range = RANGE.matcher(flux);
+        if (!range.find()) {
+            empty(exchange, 400);
+            return;
+        }
+        Instant now = Instant.now();
+        long startNs = toNanos(parseTime(range.group(1), now));
+        long stopNs = range.group(2) == null ? toNanos(now) : toNanos(parseTime(range.group(2), now));
+
+        String sensorFilter = null;
+        String stationFilter = null;
+        Matcher tag = TAG_FILTER.matcher(flux);
+        while (tag.find()) {
+            String value = tag.group(2).replace("\\\"", "\"").replace("\\\\", "\\");
+            if (tag.group(1).equals("sensor")) sensorFilter = value;
+            else stationFilter = value;
+        }
+
+        Matcher shift = TIME_SHIFT.matcher(flux);
+        long shiftNs = shift.find() ? TimeUnit.HOURS.toNanos(Long.parseLong(shift.group(1))) : 0;
+        Matcher window = COUNT_WINDOW.matcher(flux);
+        long windowNs = window.find() ? TimeUnit.HOURS.toNanos(Long.parseLong(window.group(1))) : 0;
+
+        List<Map.Entry<SeriesKey, NavigableMap<Long, Double>>> matched = new ArrayList<>();
+        for (Map.Entry<SeriesKey, ConcurrentSkipListMap<Long, Double>> entry : series.entrySet()) {
+            SeriesKey key = entry.getKey();
+            if (sensorFilter != null && !sensorFilter.equals(key.sensor())) continue;
+            if (stationFilter != null && !stationFilter.equals(key.station())) continue;
+            matched.add(Map.entry(key, entry.getValue().subMap(startNs, true, stopNs, false)));
+        }
+
+        exchange.getResponseHeaders().set("Content-Type", "text/csv; charset=utf-8");
+        exchange.sendResponseHeaders(200, 0); // chunked
+        try (Writer out = new BufferedWriter(new OutputStreamWriter(exchange.getResponseBody(), StandardCharsets.UTF_8), 64 * 1024)) {
+            if (windowNs > 0) {
+                writeCounts(out, matched, windowNs);
+            } else {
+                writeRows(out, matched, startNs, stopNs, shiftNs);
+            }
+        }
+    }
+
+    private void writeRows(Writer out, List<Map.Entry<SeriesKey, NavigableMap<Long, Double>>> matched,
+                           long startNs, long stopNs, long shiftNs) throws IOException {
+        boolean headerWritten = false;
+        String start = format(startNs + shiftNs);
+        String stop = format(stopNs + shiftNs);
+        int table = 0;
+        for (Map.Entry<SeriesKey, NavigableMap<Long, Double>> entry : matched) {
+            if (entry.getValue().isEmpty()) continue;
+            if (!headerWritten) {
+                out.write("#datatype,string,long,dateTime:RFC3339,dateTime:RFC3339,dateTime:RFC3339,double,string,string,string,string\r\n");
+                out.write("#group,false,false,true,true,false,false,true,true,true,true\r\n");
+                out.write("#default,_result,,,,,,,,,\r\n");
+                out.write(",result,table,_start,_stop,_time,_value,_field,_measurement,sensor,station\r\n");
+                headerWritten = true;
+            }
+            String sensor = entry.getKey().sensor();
+            String station = entry.getKey().station() == null ? "" : entry.getKey().station();
+            for (Map.Entry<Long, Double> point : entry.getValue().entrySet()) {
+                out.write(",," + table + ',' + start + ',' + stop + ',' + format(point.getKey() + shiftNs) + ','
+                        + point.getValue() + ",value,sensor_data," + sensor + ',' + station + "\r\n");
+                rowsReturned.increment();
+            }
+            table++;
+        }
+    }
+
+    /**
+     * aggregateWindow(count, timeSrc: "_start") + keep(_time, _value, sensor)
+     */
+    private void writeCounts(Writer out, List<Map.Entry<SeriesKey, NavigableMap<Long, Double>>> matched,
+                             long windowNs) throws IOException {
+        Map<String, TreeMap<Long, Long>> countsBySensor = new TreeMap<>();
+        for (Map.Entry<SeriesKey, NavigableMap<Long, Double>> entry : matched) {
+            TreeMap<Long, Long> counts = countsBySensor.computeIfAbsent(entry.getKey().sensor(), k -> new TreeMap<>());
+            for (Long timeNs : entry.getValue().keySet()) {
+                counts.merge(Math.floorDiv(timeNs, windowNs) * windowNs, 1L, Long::sum);
+            }
+        }
+
+        boolean headerWritten = false;
+        int table = 0;
+        for (Map.Entry<String, TreeMap<Long, Long>> entry : countsBySensor.entrySet()) {
+            if (entry.getValue().isEmpty()) continue;
+            if (!headerWritten) {
+                out.write("#datatype,string,long,dateTime:RFC3339,long,string\r\n");
+                out.write("#group,false,false,false,false,true\r\n");
+                out.write("#default,_result,,,,\r\n");
+                out.write(",result,table,_time,_value,sensor\r\n");
+                headerWritten = true;
+            }
+            for (Map.Entry<Long, Long> count : entry.getValue().entrySet()) {
+                out.write(",," + table + ',' + format(count.getKey()) + ',' + count.getValue() + ',' + entry.getKey() + "\r\n");
+                rowsReturned.increment();
+            }
+            table++;
+        }
+    }
+
+    // =========================
+    // 공통
+    // =========================
+    private static InputStream body(HttpExchange exchange) throws IOException {
+        InputStream in = exchange.getRequestBody();
+        String encoding = exchange.getRequestHeaders().getFirst("Content-Encoding");
+        return "gzip".equalsIgnoreCase(encoding) ? new GZIPInputStream(in) : in;
+    }
+
+    private static void empty(HttpExchange exchange, int status) throws IOException {
+        exchange.sendResponseHeaders(status, -1);
+        exchange.close();
+    }
+
+    private static Instant parseTime(String expr, Instant now) {
+        if (expr.equals("0")) return Instant.EPOCH;
+        Matcher relative = RELATIVE.matcher(expr);
+        if (relative.matches()) {
+            long amount = Long.parseLong(relative.group(1));
+            Duration duration = switch (relative.group(2)) {
+                case "s" -> Duration.ofSeconds(amount);
+                case "m" -> Duration.ofMinutes(amount);
+                case "h" -> Duration.ofHours(amount);
+                default -> Duration.ofDays(amount);
+            };
+            return now.minus(duration);
+        }
+        return Instant.parse(expr);
+    }
+
+    private static long precisionToNanos(String precision) {
+        return switch (precision) {
+            case "s" -> 1_000_000_000L;
+            case "ms" -> 1_000_000L;
+            case "us" -> 1_000L;
+            default -> 1L;
+        };
+    }
+
+    private static long toNanos(Instant instant) {
+        return instant.getEpochSecond() * 1_000_000_000L + instant.getNano();
+    }
+
+    private static String format(long epochNanos) {
+        return DateTimeFormatter.ISO_INSTANT.format(
+                Instant.ofEpochSecond(Math.floorDiv(epochNanos, 1_000_000_000L), Math.floorMod(epochNanos, 1_000_000_000L)));
+    }
+}
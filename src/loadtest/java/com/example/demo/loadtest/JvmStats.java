@@ -0,0 +1,81 @@
+package com.example.demo.loadtest;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 📌 구간별 힙/GC 측정 (MXBean)
+ * - 앱/stub/드라이버가 같은 JVM → 수치는 프로세스 전체 기준
+ * - begin() 시점에 힙 풀의 peak를 초기화 → 구간 내 최대 사용량 측정
+ */
+public class JvmStats {
+
+    private final Map<String, long[]> gcAtStart = new LinkedHashMap<>();
+    private final long allocatedAtStart;
+    private final long startedNanos;
+
+    public record Report(double elapsedSec, long gcCount, long gcTimeMs, double gcTimeRatio,
+                         Map<String, String> collectors, long heapUsedMb, long heapPeakMb,
+                         long heapMaxMb, long allocatedMb, double allocationMbPerSec) {}
+
+    private JvmStats() {
+        for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+            gcAtStart.put(gc.getName(), new long[]{gc.getCollectionCount(), gc.getCollectionTime()});
+        }
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (pool.getType() == MemoryType.HEAP) pool.resetPeakUsage();
+        }
+        allocatedAtStart = allocatedBytes();
+        startedNanos = System.nanoTime();
+    }
+
+    public static JvmStats begin() {
+        return new JvmStats();
+    }
+
+    public Report end() {
+        double elapsedSec = (System.nanoTime() - startedNanos) / 1e9;
+
+        long gcCount = 0;
+        long gcTimeMs = 0;
+        Map<String, String> collectors = new LinkedHashMap<>();
+        for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+            long[] start = gcAtStart.getOrDefault(gc.getName(), new long[]{0, 0});
+            long count = gc.getCollectionCount() - start[0];
+            long timeMs = gc.getCollectionTime() - start[1];
+            gcCount += count;
+            gcTimeMs += timeMs;
+            collectors.put(gc.getName(), count + " 회 / " + timeMs + " ms");
+        }
+
+        long peak = 0;
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (pool.getType() == MemoryType.HEAP) peak += pool.getPeakUsage().getUsed();
+        }
+
+        var heap = ManagementFactory.getMemoryMXBean().getHeapMemoryUsage();
+        long allocated = allocatedBytes() - allocatedAtStart;
+
+        return new Report(elapsedSec, gcCount, gcTimeMs,
+                elapsedSec > 0 ? gcTimeMs / (elapsedSec * 1000) : 0,
+                collectors,
+                heap.getUsed() >> 20, peak >> 20, heap.getMax() >> 20,
+                allocated >> 20,
+                elapsedSec > 0 ? (allocated >> 20) / elapsedSec : 0);
+    }
+
+    /**
+     * JVM 전체 누적 할당 바이트 (HotSpot 전용, 미지원 시 0)
+     */
+    private static long allocatedBytes() {
+        if (ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean threads
+                && threads.isThreadAllocatedMemorySupported() && threads.isThreadAllocatedMemoryEnabled()) {
+            return threads.getTotalThreadAllocatedBytes();
+        }
+        return 0;
+    }
+}
@@ -0,0 +1,201 @@
+package com.example.demo.loadtest;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * 📌 KMA API Hub stub (로컬 HTTP, 네트워크 불필요)
+ * - kma_sfctm3.php: tm1~tm2 구간의 시간별 관측 행 생성 (KMA 텍스트 형식, 46개 컬럼)
+ * - fct_afs_ds.php: #START7777 ~ #7777END 로 감싼 따옴표 없는 JSON
+ * - 같은 (시각, 지점)은 항상 같은 값 → 재수집해도 결과 동일
+ */
+@Slf4j
+public class KmaStubServer implements AutoCloseable {
+
+    public static final String SFCTM3_PATH = "/api/typ01/url/kma_sfctm3.php";
+    public static final String FCT_PATH = "/api/typ01/url/fct_afs_ds.php";
+
+    private static final DateTimeFormatter TM = DateTimeFormatter.ofPattern("yyyyMMddHHmm");
+    private static final DateTimeFormatter TMF = DateTimeFormatter.ofPattern("yyyyMMddHH");
+    private static final DateTimeFormatter FCT_TM = DateTimeFormatter.ofPattern("yyyy.MM.dd.HH:mm");
+    private static final String HEADER = """
+            #START7777
+            #--------------------------------------------------------------------------------------------------
+            #  기상청 지상관측 시간자료 (load-test stub)
+            #--------------------------------------------------------------------------------------------------
+            # TM STN WD WS GST_WD GST_WS GST_TM PA PS PT PR TA TD HM PV RN RN_DAY RN_JUN RN_INT SD_HR3 SD_DAY SD_TOT WC WP WW CA_TOT CA_MID CH_MIN CT CT_TOP CT_MID CT_LOW VS SS SI ST_GD TS TE_005 TE_01 TE_02 TE_03 ST_SEA WH BF IR IX
+            #--------------------------------------------------------------------------------------------------
+            """;
+
+    private final HttpServer server;
+    private final long latencyMs;
+    private final int rowsPerHour;
+    private final int fctItems;
+
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder bytesServed = new LongAdder();
+
+    public KmaStubServer(long latencyMs, int rowsPerHour, int fctItems) throws IOException {
+        this.latencyMs = latencyMs;
+        this.rowsPerHour = Math.max(1, rowsPerHour);
+        this.fctItems = fctItems;
+        this.server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        this.server.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+        this.server.createContext(SFCTM3_PATH, exchange -> handle(exchange, this::sfctm3));
+        this.server.createContext(FCT_PATH, exchange -> handle(exchange, this::fctAfsDs));
+    }
+
+    public void start() {
+        server.start();
+        log.info("🧪 KMA stub 시작: http://127.0.0.1:{} (latency={}ms, rows/hour={})", port(), latencyMs, rowsPerHour);
+    }
+
+    public int port() {
+        return server.getAddress().getPort();
+    }
+
+    public String baseUrl(String path) {
+        return "http://127.0.0.1:" + port() + path;
+    }
+
+    public long requests() {
+        return requests.sum();
+    }
+
+    public long bytesServed() {
+        return bytesServed.sum();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+    }
+
+    /**
+     * ✅ 지상관측 응답: tm1 ~ tm2 (정시, 양끝 포함) × rowsPerHour
+     */
+    String sfctm3(Map<String, String> params) {
+        LocalDateTime from = LocalDateTime.parse(params.get("tm1"), TM).withMinute(0);
+        LocalDateTime to = LocalDateTime.parse(params.get("tm2"), TM);
+        int station = Integer.parseInt(params.getOrDefault("stn", "108"));
+
+        StringBuilder sb = new StringBuilder(HEADER);
+        for (LocalDateTime t = from; !t.isAfter(to); t = t.plusHours(1)) {
+            String tm = t.format(TM);
+            for (int i = 0; i < rowsPerHour; i++) {
+                appendObservation(sb, tm, station + i);
+            }
+        }
+        return sb.append("#7777END\n").toString();
+    }
+
+    private void appendObservation(StringBuilder sb, String tm, int station) {
+        SplittableRandom random = new SplittableRandom(tm.hashCode() * 31L + station);
+        double ta = round(random.nextDouble(-12, 30));
+        double pa = round(random.nextDouble(1000, 1030));
+        double rn = random.nextInt(10) < 8 ? -9.0 : round(random.nextDouble(0, 20));
+
+        sb.append(tm).append(' ').append(station)
+                .append(' ').append(random.nextInt(37) * 10)            // WD
+                .append(' ').append(round(random.nextDouble(0, 15)))    // WS
+                .append(" -9 -9.0 -9")
+                .append(' ').append(pa)                                 // PA
+                .append(' ').append(round(pa + 8.5))                    // PS
+                .append(" -9 -9.0")
+                .append(' ').append(ta)                                 // TA
+                .append(' ').append(round(ta - 3.0))                    // TD
+                .append(' ').append(round(random.nextDouble(20, 95)))   // HM
+                .append(" 5.2")
+                .append(' ').append(rn)                                 // RN
+                .append(" -9.0 -9.0 -9.0 -9.0 -9.0 -9.0 -9 -9 -9 7 -9 -9 - -9 -9 -9 2000 0.0 -9.0")
+                .append(' ').append(round(ta + 0.3))
+                .append(" -9.0 -9.0 -9.0 -9.0 -9.0 -9.0 -9.0 -9 3 -\n");
+    }
+
+    /**
+     * ✅ 예보 개황 응답: tmf1(yyyyMMddHH, 뒤 자리 무시) 기준 12시간 간격 fctItems건
+     */
+    String fctAfsDs(Map<String, String> params) {
+        LocalDateTime from = LocalDateTime.parse(params.getOrDefault("tmf1", "2025010105").substring(0, 10), TMF);
+        int station = Integer.parseInt(params.getOrDefault("stn", "108"));
+
+        StringBuilder sb = new StringBuilder("#START7777\n{fct_afs_ds:[\n");
+        for (int i = 0; i < fctItems; i++) {
+            if (i > 0) sb.append(",\n");
+            sb.append("{stn_id:").append(station)
+                    .append(",tm_fc:\"").append(from.plusHours(12L * i).format(FCT_TM)).append('"')
+                    .append(",man_fc_id:\"F").append(i).append('"')
+                    .append(",man_fc:\"예보관").append(i % 5).append('"')
+                    .append(",cnt:").append(i % 3 + 1)
+                    .append(",wf_sv1:\"구름많다가 밤부터 차차 맑아지겠습니다.\"")
+                    .append(",wf_sv2:\"(강수) 내일 새벽까지 5mm 미만의 비가 예상됩니다.\"")
+                    .append(",wf_sv3:\"(바다) 앞바다 물결은 0.5~1.5m로 일겠습니다.\"")
+                    .append(",wn:\"\",wr:\"\",rem:\"\"}");
+        }
+        return sb.append("\n]}\n#7777END\n").toString();
+    }
+
+    private void handle(HttpExchange exchange, Function<Map<String, String>, String> generator) throws IOException {
+        requests.increment();
+        sleep(latencyMs);
+
+        String body;
+        int status = 200;
+        try {
+            body = generator.apply(query(exchange));
+        } catch (RuntimeException e) {
+            status = 400;
+            body = "#ERROR " + e.getMessage() + "\n";
+        }
+
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "text/plain; charset=utf-8");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+        bytesServed.add(bytes.length);
+    }
+
+    static Map<String, String> query(HttpExchange exchange) {
+        Map<String, String> params = new HashMap<>();
+        String raw = exchange.getRequestURI().getRawQuery();
+        if (raw == null) return params;
+        for (String pair : raw.split("&")) {
+            int eq = pair.indexOf('=');
+            if (eq > 0) {
+                params.put(URLDecoder.decode(pair.substring(0, eq), StandardCharsets.UTF_8),
+                        URLDecoder.decode(pair.substring(eq + 1), StandardCharsets.UTF_8));
+            }
+        }
+        return params;
+    }
+
+    static void sleep(long millis) {
+        if (millis <= 0) return;
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 10) / 10.0;
+    }
+}
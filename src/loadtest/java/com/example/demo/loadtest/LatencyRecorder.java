@@ -0,0 +1,73 @@
+package com.example.demo.loadtest;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 📌 스레드별 지연 시간 기록 (락 없음) → 측정 종료 후 합쳐서 백분위 계산
+ * - 작업 스레드 하나가 인스턴스 하나를 단독 사용
+ */
+public class LatencyRecorder {
+
+    private long[] samples = new long[4096];
+    private int count;
+    private long bytes;
+    private final Map<Integer, Integer> statusCounts = new TreeMap<>();
+
+    public void record(long latencyNanos, int status, long responseBytes) {
+        if (count == samples.length) {
+            samples = Arrays.copyOf(samples, samples.length * 2);
+        }
+        samples[count++] = latencyNanos;
+        bytes += responseBytes;
+        statusCounts.merge(status, 1, Integer::sum);
+    }
+
+    /**
+     * 결과 요약 (지연 시간 단위: ms)
+     */
+    public record Summary(long requests, long errors, double throughputPerSec, double mbPerSec,
+                          double p50, double p90, double p99, double p999, double max,
+                          Map<Integer, Integer> statuses) {}
+
+    public static Summary summarize(List<LatencyRecorder> recorders, double elapsedSec) {
+        int total = 0;
+        long bytes = 0;
+        Map<Integer, Integer> statuses = new TreeMap<>();
+        for (LatencyRecorder recorder : recorders) {
+            total += recorder.count;
+            bytes += recorder.bytes;
+            recorder.statusCounts.forEach((status, n) -> statuses.merge(status, n, Integer::sum));
+        }
+
+        long[] merged = new long[total];
+        int offset = 0;
+        for (LatencyRecorder recorder : recorders) {
+            System.arraycopy(recorder.samples, 0, merged, offset, recorder.count);
+            offset += recorder.count;
+        }
+        Arrays.sort(merged);
+
+        long errors = statuses.entrySet().stream()
+                .filter(e -> e.getKey() < 200 || e.getKey() >= 300)
+                .mapToLong(Map.Entry::getValue)
+                .sum();
+
+        return new Summary(total, errors,
+                elapsedSec > 0 ? total / elapsedSec : 0,
+                elapsedSec > 0 ? bytes / 1_048_576.0 / elapsedSec : 0,
+                percentile(merged, 0.50), percentile(merged, 0.90),
+                percentile(merged, 0.99), percentile(merged, 0.999),
+                merged.length == 0 ? 0 : merged[merged.length - 1] / 1_000_000.0,
+                new LinkedHashMap<>(statuses));
+    }
+
+    private static double percentile(long[] sorted, double quantile) {
+        if (sorted.length == 0) return 0;
+        int index = (int) Math.ceil(quantile * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(sorted.length - 1, index))] / 1_000_000.0;
+    }
+}
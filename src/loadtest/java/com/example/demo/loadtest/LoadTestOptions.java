@@ -0,0 +1,71 @@
+package com.example.demo.loadtest;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 📌 부하 테스트 옵션 (--key=value)
+ * 예) ./gradlew loadTest -PloadTestArgs="--concurrency=128 --duration-sec=120 --kma-latency-ms=300"
+ */
+@Getter
+@Builder
+public class LoadTestOptions {
+
+    // 조회 부하
+    private final int concurrency;          // 동시 클라이언트 수
+    private final int durationSec;          // 측정 시간
+    private final int warmupSec;            // 측정 제외 구간 (JIT/커넥션 풀 예열)
+
+    // 백필 재현
+    private final int initDays;             // 기동 시 초기 적재 일수 (kma.init-days)
+    private final int backfillDays;         // 기동 후 재현할 백필 일수 (1일 단위 요청)
+    private final int backfillConcurrency;  // 동시 백필 요청 수
+    private final String stations;          // 수집 지점 (콤마 구분)
+
+    // KMA stub
+    private final long kmaLatencyMs;        // 응답 지연
+    private final int kmaRowsPerHour;       // 시간당 관측 행 수 (응답 크기)
+    private final int fctItems;             // 예보 개황 항목 수
+
+    // InfluxDB fake
+    private final long influxLatencyMs;     // 쿼리 응답 지연
+
+    // 앱
+    private final boolean virtualThreads;   // spring.threads.virtual.enabled
+    private final String report;            // JSON 결과 파일 경로
+
+    public static LoadTestOptions parse(String[] args) {
+        Map<String, String> values = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("옵션 형식은 --key=value: " + arg);
+            }
+            int eq = arg.indexOf('=');
+            values.put(arg.substring(2, eq), arg.substring(eq + 1));
+        }
+
+        return LoadTestOptions.builder()
+                .concurrency(intValue(values, "concurrency", 64))
+                .durationSec(intValue(values, "duration-sec", 60))
+                .warmupSec(intValue(values, "warmup-sec", 10))
+                .initDays(intValue(values, "init-days", 1))
+                .backfillDays(intValue(values, "backfill-days", 31))
+                .backfillConcurrency(intValue(values, "backfill-concurrency", 4))
+                .stations(values.getOrDefault("stations", "108"))
+                .kmaLatencyMs(intValue(values, "kma-latency-ms", 200))
+                .kmaRowsPerHour(intValue(values, "kma-rows-per-hour", 1))
+                .fctItems(intValue(values, "fct-items", 60))
+                .influxLatencyMs(intValue(values, "influx-latency-ms", 0))
+                .virtualThreads(Boolean.parseBoolean(values.getOrDefault("virtual-threads", "false")))
+                .report(values.getOrDefault("report", "build/reports/loadtest/report.json"))
+                .build();
+    }
+
+    private static int intValue(Map<String, String> values, String key, int defaultValue) {
+        String value = values.get(key);
+        return value == null ? defaultValue : Integer.parseInt(value);
+    }
+}
@@ -0,0 +1,335 @@
+package com.example.demo.loadtest;
+
+import com.example.demo.DemoApplication;
+import com.example.demo.domain.ApiKey;
+import com.example.demo.repository.ApiKeyRepository;
+import com.example.demo.service.ForecastSummaryService;
+import com.example.demo.service.KmaRequestPriority;
+import com.example.demo.service.KmaService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+/**
+ * 📌 End-to-end 부하 테스트 드라이버
+ * 1️⃣ KMA stub + InfluxDB fake 기동, 앱은 H2(MariaDB 모드)로 같은 JVM에서 기동
+ * 2️⃣ 백필 재현: KmaService / ForecastSummaryService 를 1일 단위로 동시 호출
+ *    (POST API는 CSRF 토큰이 필요 → 서비스 빈을 직접 호출, KMA stub/InfluxDB fake 경로는 동일)
+ * 3️⃣ 조회 부하: /api/measurements 혼합 요청을 동시 클라이언트로 반복
+ * 4️⃣ 처리량, 지연 백분위, 힙/GC 요약 출력 + JSON 저장
+ *
+ * 실행: ./gradlew loadTest -PloadTestArgs="--concurrency=64 --duration-sec=60"
+ */
+@Slf4j
+public class LoadTestRunner {
+
+    private static final String API_KEY = "LOADTEST_API_KEY";
+    private static final DateTimeFormatter TM = DateTimeFormatter.ofPattern("yyyyMMddHHmm");
+    private static final DateTimeFormatter ISO = DateTimeFormatter.ISO_LOCAL_DATE_TIME;
+
+    /**
+     * 조회 시나리오 (가중치만큼 선택 확률)
+     */
+    private record Scenario(String name, int weight, Supplier<String> path) {}
+
+    public static void main(String[] args) throws Exception {
+        LoadTestOptions options = LoadTestOptions.parse(args);
+
+        try (KmaStubServer kma = new KmaStubServer(options.getKmaLatencyMs(), options.getKmaRowsPerHour(), options.getFctItems());
+             FakeInfluxServer influx = new FakeInfluxServer(options.getInfluxLatencyMs())) {
+            kma.start();
+            influx.start();
+
+            Map<String, Object> report = new LinkedHashMap<>();
+            report.put("options", options);
+
+            // 1️⃣ 앱 기동 (초기 적재 포함)
+            JvmStats startupStats = JvmStats.begin();
+            ConfigurableApplicationContext app = startApp(options, kma, influx);
+            report.put("startup", startupStats.end());
+
+            try {
+                int port = Integer.parseInt(app.getEnvironment().getProperty("local.server.port"));
+                seedApiKey(app);
+
+                HttpClient client = HttpClient.newBuilder()
+                        .version(HttpClient.Version.HTTP_1_1)
+                        .executor(Executors.newVirtualThreadPerTaskExecutor())
+                        .connectTimeout(Duration.ofSeconds(5))
+                        .build();
+                String base = "http://127.0.0.1:" + port;
+
+                // 2️⃣ 백필
+                long pointsBefore = influx.pointsWritten();
+                JvmStats backfillStats = JvmStats.begin();
+                LatencyRecorder.Summary backfill = backfill(app, options);
+                Map<String, Object> backfillReport = new LinkedHashMap<>();
+                backfillReport.put("requests", backfill);
+                backfillReport.put("pointsWritten", influx.pointsWritten() - pointsBefore);
+                backfillReport.put("jvm", backfillStats.end());
+                report.put("backfill", backfillReport);
+                log.info("📥 백필 완료: {}", backfillReport);
+
+                // 3️⃣ 조회 부하
+                Map<String, Object> queryReport = queries(client, base, options);
+                report.put("queries", queryReport);
+
+                Map<String, Object> stubs = new LinkedHashMap<>();
+                stubs.put("kmaRequests", kma.requests());
+                stubs.put("kmaBytesServed", kma.bytesServed());
+                stubs.put("influxWriteRequests", influx.writeRequests());
+                stubs.put("influxQueryRequests", influx.queryRequests());
+                stubs.put("influxRowsReturned", influx.rowsReturned());
+                stubs.put("influxSeries", influx.seriesCount());
+                report.put("stubs", stubs);
+            } finally {
+                app.close();
+            }
+
+            // 4️⃣ 결과
+            ObjectMapper mapper = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+            String json = mapper.writeValueAsString(report);
+            Path reportPath = Path.of(options.getReport());
+            if (reportPath.getParent() != null) Files.createDirectories(reportPath.getParent());
+            Files.writeString(reportPath, json);
+            log.info("📊 부하 테스트 결과 ({}):\n{}", reportPath.toAbsolutePath(), json);
+        }
+    }
+
+    private static ConfigurableApplicationContext startApp(LoadTestOptions options, KmaStubServer kma, FakeInfluxServer influx) {
+        Map<String, Object> props = new HashMap<>();
+        props.put("server.port", 0);
+
+        // 외부 의존성 → 로컬 stub/fake
+        props.put("kma.base-url", kma.baseUrl(KmaStubServer.SFCTM3_PATH));
+        props.put("kma.fct-url", kma.baseUrl(KmaStubServer.FCT_PATH));
+        props.put("kma.auth-key", "loadtest");
+        props.put("kma.stations", options.getStations());
+        props.put("kma.init-days", options.getInitDays());
+        props.put("kma.gap.enabled", false);
+        props.put("influx.url", influx.url());
+
+        // MariaDB → H2 (MariaDB 호환 모드)
+        props.put("spring.datasource.url", "jdbc:h2:mem:loadtest;MODE=MariaDB;DB_CLOSE_DELAY=-1");
+        props.put("spring.datasource.username", "sa");
+        props.put("spring.datasource.password", "");
+        props.put("spring.datasource.driver-class-name", "org.h2.Driver");
+        props.put("spring.jpa.hibernate.ddl-auto", "create-drop");
+        props.put("spring.jpa.show-sql", false);
+
+        // 요청 제한은 측정 대상이 아니므로 해제 (API Key는 seedApiKey에서 한도 최대로 등록)
+        props.put("ratelimit.ip.default-per-minute", Integer.MAX_VALUE);
+        props.put("ratelimit.ip.routes[/api/measurements/all]", Integer.MAX_VALUE);
+        // KMA 호출 속도 제한도 해제 (stub 서버 상대)
+        props.put("kma.outbound.rate-per-second", 100_000);
+        props.put("kma.outbound.burst", 100_000);
+
+        props.put("spring.threads.virtual.enabled", options.isVirtualThreads());
+
+        // 요청마다 남는 INFO 로그가 결과를 왜곡하지 않도록
+        props.put("logging.level.root", "WARN");
+        props.put("logging.level.com.example.demo", "WARN");
+        props.put("logging.level.com.example.demo.loadtest", "INFO");
+
+        return new SpringApplicationBuilder(DemoApplication.class)
+                .properties(props)
+                .run();
+    }
+
+    private static void seedApiKey(ConfigurableApplicationContext app) {
+        ApiKeyRepository repository = app.getBean(ApiKeyRepository.class);
+        if (repository.findByApiKey(API_KEY).isEmpty()) {
+            repository.save(ApiKey.builder()
+                    .apiKey(API_KEY)
+                    .owner("loadtest")
+                    .limitPerMinute(Integer.MAX_VALUE)
+                    .computeBudgetPerMinute(Integer.MAX_VALUE)
+                    .active(true)
+                    .build());
+        }
+    }
+
+    // =========================
+    // 2️⃣ 백필 재현
+    // =========================
+    private static LatencyRecorder.Summary backfill(ConfigurableApplicationContext app, LoadTestOptions options) throws Exception {
+        KmaService kmaService = app.getBean(KmaService.class);
+        ForecastSummaryService forecastService = app.getBean(ForecastSummaryService.class);
+
+        LocalDateTime end = LocalDateTime.now().truncatedTo(ChronoUnit.HOURS);
+        List<Callable<Integer>> jobs = new ArrayList<>();
+        for (int day = options.getBackfillDays(); day > 0; day--) {
+            String tm1 = end.minusDays(day).format(TM);
+            String tm2 = end.minusDays(day - 1).minusHours(1).format(TM);
+            for (String station : options.getStations().split(",")) {
+                jobs.add(() -> kmaService.fetchAndStore(tm1, tm2, station.trim(), KmaRequestPriority.BACKFILL));
+            }
+            jobs.add(() -> forecastService.fetchAndSave(tm1, tm2, KmaRequestPriority.BACKFILL));
+        }
+
+        List<LatencyRecorder> recorders = new ArrayList<>();
+        long started = System.nanoTime();
+        try (ExecutorService workers = Executors.newFixedThreadPool(Math.max(1, options.getBackfillConcurrency()))) {
+            List<Future<LatencyRecorder>> futures = new ArrayList<>();
+            for (Callable<Integer> job : jobs) {
+                futures.add(workers.submit(() -> {
+                    LatencyRecorder recorder = new LatencyRecorder();
+                    long jobStarted = System.nanoTime();
+                    int status;
+                    try {
+                        job.call();
+                        status = 200;
+                    } catch (Exception e) {
+                        status = 500;
+                    }
+                    recorder.record(System.nanoTime() - jobStarted, status, 0);
+                    return recorder;
+                }));
+            }
+            for (Future<LatencyRecorder> future : futures) {
+                recorders.add(future.get());
+            }
+        }
+        return LatencyRecorder.summarize(recorders, (System.nanoTime() - started) / 1e9);
+    }
+
+    // =========================
+    // 3️⃣ 조회 부하
+    // =========================
+    private static Map<String, Object> queries(HttpClient client, String base, LoadTestOptions options) throws Exception {
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.HOURS);
+        int days = Math.max(1, options.getBackfillDays());
+        List<Scenario> scenarios = List.of(
+                new Scenario("by-name-24h", 4, () -> "/api/measurements/by-name/" + randomSensor() + "?durationSec=86400"),
+                new Scenario("by-name-7d", 2, () -> "/api/measurements/by-name/" + randomSensor() + "?durationSec=604800"),
+                new Scenario("list-1d", 2, () -> {
+                    LocalDateTime start = now.minusDays(ThreadLocalRandom.current().nextInt(1, days + 1));
+                    return "/api/measurements/list?sensorName=" + randomSensor()
+                            + "&start=" + start.format(ISO) + "&end=" + start.plusDays(1).format(ISO);
+                }),
+                new Scenario("grouped-7d", 1, () -> "/api/measurements/list/grouped?start=" + now.minusDays(7).format(ISO) + "&end=" + now.format(ISO)),
+                new Scenario("reactive-24h", 1, () -> "/api/measurements/reactive/by-name/" + randomSensor() + "?durationSec=86400"));
+        int totalWeight = scenarios.stream().mapToInt(Scenario::weight).sum();
+
+        long warmupEnd = System.nanoTime() + Duration.ofSeconds(options.getWarmupSec()).toNanos();
+        long deadline = warmupEnd + Duration.ofSeconds(options.getDurationSec()).toNanos();
+
+        log.info("🔥 조회 부하 시작: concurrency={}, warmup={}s, duration={}s",
+                options.getConcurrency(), options.getWarmupSec(), options.getDurationSec());
+
+        List<Map<String, LatencyRecorder>> perWorker = new ArrayList<>();
+        JvmStats measured;
+        try (ExecutorService workers = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<Map<String, LatencyRecorder>>> futures = new ArrayList<>();
+            for (int i = 0; i < options.getConcurrency(); i++) {
+                futures.add(workers.submit(() -> {
+                    Map<String, LatencyRecorder> recorders = new HashMap<>();
+                    while (System.nanoTime() < deadline) {
+                        Scenario scenario = pick(scenarios, totalWeight);
+                        LatencyRecorder recorder = System.nanoTime() < warmupEnd
+                                ? null
+                                : recorders.computeIfAbsent(scenario.name(), k -> new LatencyRecorder());
+                        send(client, base, scenario.path().get(), recorder);
+                    }
+                    return recorders;
+                }));
+            }
+
+            // 예열 종료 시점부터 JVM 지표 측정
+            long sleepNanos = warmupEnd - System.nanoTime();
+            if (sleepNanos > 0) Thread.sleep(Duration.ofNanos(sleepNanos));
+            measured = JvmStats.begin();
+
+            for (Future<Map<String, LatencyRecorder>> future : futures) {
+                perWorker.add(future.get());
+            }
+        }
+        JvmStats.Report jvm = measured.end();
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        List<LatencyRecorder> all = new ArrayList<>();
+        Map<String, Object> byScenario = new LinkedHashMap<>();
+        for (Scenario scenario : scenarios) {
+            List<LatencyRecorder> recorders = new ArrayList<>();
+            for (Map<String, LatencyRecorder> worker : perWorker) {
+                LatencyRecorder recorder = worker.get(scenario.name());
+                if (recorder != null) recorders.add(recorder);
+            }
+            all.addAll(recorders);
+            byScenario.put(scenario.name(), LatencyRecorder.summarize(recorders, jvm.elapsedSec()));
+        }
+        result.put("total", LatencyRecorder.summarize(all, jvm.elapsedSec()));
+        result.put("scenarios", byScenario);
+        result.put("jvm", jvm);
+        return result;
+    }
+
+    private static Scenario pick(List<Scenario> scenarios, int totalWeight) {
+        int r = ThreadLocalRandom.current().nextInt(totalWeight);
+        for (Scenario scenario : scenarios) {
+            r -= scenario.weight();
+            if (r < 0) return scenario;
+        }
+        return scenarios.get(scenarios.size() - 1);
+    }
+
+    private static String randomSensor() {
+        return KmaService.SENSOR_NAMES.get(ThreadLocalRandom.current().nextInt(KmaService.SENSOR_NAMES.size()));
+    }
+
+    /**
+     * 요청 1건 전송 + 응답 본문을 끝까지 읽은 시점까지를 지연 시간으로 기록 (recorder == null → 예열, 기록 안 함)
+     */
+    private static void send(HttpClient client, String base, String path, LatencyRecorder recorder) {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(base + path))
+                .header("X-API-KEY", API_KEY)
+                .GET()
+                .timeout(Duration.ofMinutes(2))
+                .build();
+
+        long started = System.nanoTime();
+        int status;
+        long bytes = 0;
+        try {
+            HttpResponse<InputStream> response = client.send(request, HttpResponse.BodyHandlers.ofInputStream());
+            try (InputStream body = response.body()) {
+                bytes = body.transferTo(OutputStream.nullOutputStream());
+            }
+            status = response.statusCode();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        } catch (Exception e) {
+            status = 599; // 연결 실패/타임아웃
+        }
+        if (recorder != null) {
+            recorder.record(System.nanoTime() - started, status, bytes);
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package com.example.demo.alert;
+
+import com.example.demo.dto.AlertNotification;
+
+/**
+ * 📌 알림 전달 대상 (규칙의 sinks 목록에 name()으로 지정)
+ * - AlertEngine의 전송 스레드에서 호출 (수집 스레드 아님) → 외부 호출로 잠깐 막혀도 됨
+ */
+public interface AlertSink {
+
+    String name();
+
+    void send(AlertNotification notification) throws Exception;
+}
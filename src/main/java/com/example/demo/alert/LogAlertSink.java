@@ -0,0 +1,27 @@
+package com.example.demo.alert;
+
+import com.example.demo.dto.AlertNotification;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+public class LogAlertSink implements AlertSink {
+
+    @Override
+    public String name() {
+        return "log";
+    }
+
+    @Override
+    public void send(AlertNotification n) {
+        if ("FIRING".equals(n.getState())) {
+            log.warn("🚨 알림 발생: rule={} sensor={} station={} {}({}m)={} {} {} observedAt={}",
+                    n.getRuleName(), n.getSensorName(), n.getStation(), n.getAggregate(), n.getWindowMinutes(),
+                    n.getValue(), n.getOperator(), n.getThreshold(), n.getObservedAt());
+        } else {
+            log.info("✅ 알림 해제: rule={} sensor={} station={} value={} since={} observedAt={}",
+                    n.getRuleName(), n.getSensorName(), n.getStation(), n.getValue(), n.getFiringSince(), n.getObservedAt());
+        }
+    }
+}
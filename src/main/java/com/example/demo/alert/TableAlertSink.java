@@ -0,0 +1,37 @@
+package com.example.demo.alert;
+
+import com.example.demo.domain.AlertEvent;
+import com.example.demo.dto.AlertNotification;
+import com.example.demo.repository.AlertEventRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * ✅ alert_event 테이블 기록 (GET /api/alerts/events)
+ */
+@Component
+@RequiredArgsConstructor
+public class TableAlertSink implements AlertSink {
+
+    private final AlertEventRepository alertEventRepository;
+
+    @Override
+    public String name() {
+        return "table";
+    }
+
+    @Override
+    public void send(AlertNotification n) {
+        alertEventRepository.save(AlertEvent.builder()
+                .ruleId(n.getRuleId())
+                .ruleName(n.getRuleName())
+                .sensorName(n.getSensorName())
+                .station(n.getStation())
+                .state(n.getState())
+                .value(n.getValue())
+                .threshold(n.getThreshold())
+                .observedAt(n.getObservedAt())
+                .createdAt(n.getNotifiedAt())
+                .build());
+    }
+}
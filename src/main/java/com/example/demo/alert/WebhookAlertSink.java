@@ -0,0 +1,43 @@
+package com.example.demo.alert;
+
+import com.example.demo.dto.AlertNotification;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.time.Duration;
+
+/**
+ * ✅ 알림 JSON POST (alert.webhook.url 설정 시에만 등록)
+ * - 실패는 AlertEngine이 로그/메트릭으로 남김 (재시도 없음, 이력은 table sink로 확인)
+ */
+@Component
+@ConditionalOnExpression("!'${alert.webhook.url:}'.isEmpty()")
+public class WebhookAlertSink implements AlertSink {
+
+    private final WebClient webClient;
+    private final Duration timeout;
+
+    public WebhookAlertSink(@Value("${alert.webhook.url}") String url,
+                            @Value("${alert.webhook.timeout-ms:5000}") long timeoutMs) {
+        this.webClient = WebClient.create(url);
+        this.timeout = Duration.ofMillis(timeoutMs);
+    }
+
+    @Override
+    public String name() {
+        return "webhook";
+    }
+
+    @Override
+    public void send(AlertNotification notification) {
+        webClient.post()
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(notification)
+                .retrieve()
+                .toBodilessEntity()
+                .block(timeout);
+    }
+}
@@ -0,0 +1,72 @@
+package com.example.demo.config;
+
+import com.example.demo.domain.ApiKey;
+import com.example.demo.repository.ApiKeyRepository;
+import com.example.demo.util.LogMaskUtil;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * 📌 API Key 조회 캐시
+ * - 유효 Key: TTL 동안 DB 조회 없이 인증 (limitPerMinute/active 변경은 TTL 후 반영)
+ * - 존재하지 않는 Key: 별도 캐시에 짧은 TTL로 기록 → 무작위 Key 대입 공격이 DB까지 가지 않음
+ * - 두 캐시의 크기를 분리해 대입 공격이 정상 Key를 밀어내지 못하도록 함
+ */
+@Slf4j
+@Component
+public class ApiKeyCache {
+
+    private final ApiKeyRepository apiKeyRepository;
+    private final Cache<String, ApiKey> knownKeys;
+    private final Cache<String, Boolean> unknownKeys;
+
+    public ApiKeyCache(ApiKeyRepository apiKeyRepository,
+                       @Value("${ratelimit.api-key.cache-ttl-sec:60}") long ttlSec,
+                       @Value("${ratelimit.api-key.negative-ttl-sec:30}") long negativeTtlSec,
+                       @Value("${ratelimit.api-key.max-keys:10000}") long maxKeys,
+                       @Value("${ratelimit.api-key.max-unknown-keys:100000}") long maxUnknownKeys) {
+        this.apiKeyRepository = apiKeyRepository;
+        this.knownKeys = Caffeine.newBuilder()
+                .maximumSize(maxKeys)
+                .expireAfterWrite(Duration.ofSeconds(ttlSec))
+                .build();
+        this.unknownKeys = Caffeine.newBuilder()
+                .maximumSize(maxUnknownKeys)
+                .expireAfterWrite(Duration.ofSeconds(negativeTtlSec))
+                .build();
+    }
+
+    /**
+     * ✅ API Key 조회 (캐시 → 없으면 DB)
+     */
+    public Optional<ApiKey> find(String apiKey) {
+        ApiKey cached = knownKeys.getIfPresent(apiKey);
+        if (cached != null) return Optional.of(cached);
+        if (unknownKeys.getIfPresent(apiKey) != null) return Optional.empty();
+
+        Optional<ApiKey> loaded = apiKeyRepository.findByApiKey(apiKey);
+        if (loaded.isPresent()) {
+            knownKeys.put(apiKey, loaded.get());
+        } else {
+            unknownKeys.put(apiKey, Boolean.TRUE);
+        }
+        return loaded;
+    }
+
+    /**
+     * ✅ 무효화 훅 (Key 등록/수정/삭제 시 호출)
+     * - 다음 요청에서 DB를 다시 읽고, 한도가 바뀌었으면 Bucket 설정도 재구성됨
+     * - 다른 인스턴스는 TTL 만료 시점에 반영
+     */
+    public void invalidate(String apiKey) {
+        knownKeys.invalidate(apiKey);
+        unknownKeys.invalidate(apiKey);
+        log.info("🔄 API Key 캐시 무효화: {}", LogMaskUtil.mask(apiKey));
+    }
+}
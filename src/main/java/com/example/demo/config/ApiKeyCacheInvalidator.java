@@ -0,0 +1,29 @@
+package com.example.demo.config;
+
+import com.example.demo.domain.ApiKey;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+/**
+ * 📌 ApiKey 엔티티 변경 시 캐시 무효화 (JPA Entity Listener)
+ * - Hibernate가 Spring Bean으로 생성하므로 생성자 주입 사용 가능
+ */
+@Component
+public class ApiKeyCacheInvalidator {
+
+    private final ObjectProvider<ApiKeyCache> apiKeyCache;
+
+    public ApiKeyCacheInvalidator(ObjectProvider<ApiKeyCache> apiKeyCache) {
+        this.apiKeyCache = apiKeyCache;
+    }
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void onChange(ApiKey apiKey) {
+        apiKeyCache.ifAvailable(cache -> cache.invalidate(apiKey.getApiKey()));
+    }
+}
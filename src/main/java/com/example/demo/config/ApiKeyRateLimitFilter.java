@@ -2,14 +2,15 @@ package com.example.demo.config;
 
 import com.example.demo.constants.HttpStatusCodeConstants;
 import com.example.demo.domain.ApiKey;
-import com.example.demo.repository.ApiKeyRepository;
-import io.github.bucket4j.Bandwidth;
-import io.github.bucket4j.Bucket;
-import io.github.bucket4j.Refill;
+import com.example.demo.util.RequestTimings;
+import com.example.demo.util.TimeUtils;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -17,33 +18,56 @@ import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
-import java.time.Duration;
 import java.util.Collections;
-import java.util.Map;
 import java.util.Optional;
-import java.util.concurrent.ConcurrentHashMap;
 
 @Component
 public class ApiKeyRateLimitFilter extends OncePerRequestFilter {
 
-    private final ApiKeyRepository apiKeyRepository;
-
-    public ApiKeyRateLimitFilter(ApiKeyRepository apiKeyRepository) {
-        this.apiKeyRepository = apiKeyRepository;
+    private final ApiKeyCache apiKeyCache;
+
+    // API Key별 요청 제한 (local: 인스턴스 Bucket / distributed: MariaDB 공용 Bucket)
+    private final ApiKeyRateLimiter rateLimiter;
+
+    // 요청 비용(센서·시간) 추정 → API Key별 비용 Bucket에서 차감
+    private final QueryCostEstimator costEstimator;
+
+    @Value("${ratelimit.cost.default-budget-per-minute:2000}")
+    private int defaultComputeBudget;
+
+    // 📊 거절 사유별 카운터
+    private final Counter authRejections;
+    private final Counter rateRejections;
+    private final Counter budgetRejections;
+    private final Counter costRejections;
+
+    public ApiKeyRateLimitFilter(ApiKeyCache apiKeyCache,
+                                 ApiKeyRateLimiter rateLimiter,
+                                 QueryCostEstimator costEstimator,
+                                 MeterRegistry meterRegistry) {
+        this.apiKeyCache = apiKeyCache;
+        this.rateLimiter = rateLimiter;
+        this.costEstimator = costEstimator;
+        this.authRejections = rejectionCounter(meterRegistry, "auth");
+        this.rateRejections = rejectionCounter(meterRegistry, "rate");
+        this.budgetRejections = rejectionCounter(meterRegistry, "budget");
+        this.costRejections = rejectionCounter(meterRegistry, "cost");
     }
 
-    // API Key별 요청 제한 Bucket 캐시
-    private final Map<String, Bucket> bucketCache = new ConcurrentHashMap<>();
-
-    private Bucket createNewBucket(ApiKey apiKey) {
-        int limit = apiKey.getLimitPerMinute();
-        Refill refill = Refill.intervally(limit, Duration.ofMinutes(1));
-        Bandwidth bandwidth = Bandwidth.classic(limit, refill);
-        return Bucket.builder().addLimit(bandwidth).build();
+    private static Counter rejectionCounter(MeterRegistry meterRegistry, String reason) {
+        return Counter.builder("ratelimit.rejections")
+                .tag("filter", "api_key")
+                .tag("reason", reason)
+                .register(meterRegistry);
     }
 
-    private Bucket resolveBucket(ApiKey apiKey) {
-        return bucketCache.computeIfAbsent(apiKey.getApiKey(), k -> createNewBucket(apiKey));
+    /**
+     * 헬스체크/메트릭 수집 경로는 API Key 없이 허용 (모니터링 스크레이퍼용)
+     */
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String uri = request.getRequestURI();
+        return uri.equals("/actuator/health") || uri.equals("/actuator/prometheus");
     }
 
     @Override
@@ -56,13 +80,15 @@ public class ApiKeyRateLimitFilter extends OncePerRequestFilter {
 
         // 1️⃣ API Key 없으면 401 Unauthorized
         if (apiKeyHeader == null || apiKeyHeader.isBlank()) {
+            authRejections.increment();
             response.sendError(HttpStatusCodeConstants.AUTHENTICATION_FAILURE, "API Key missing");
             return;
         }
 
-        // 2️⃣ DB 조회 후 유효성 체크
-        Optional<ApiKey> apiKeyOpt = apiKeyRepository.findByApiKey(apiKeyHeader);
+        // 2️⃣ 캐시(→ 미스 시 DB) 조회 후 유효성 체크
+        Optional<ApiKey> apiKeyOpt = RequestTimings.time("apikey", () -> apiKeyCache.find(apiKeyHeader));
         if (apiKeyOpt.isEmpty() || !apiKeyOpt.get().getActive()) {
+            authRejections.increment();
             response.sendError(HttpStatusCodeConstants.AUTHENTICATION_FAILURE, "Invalid or inactive API Key");
             return;
         }
@@ -70,18 +96,45 @@ public class ApiKeyRateLimitFilter extends OncePerRequestFilter {
         ApiKey apiKey = apiKeyOpt.get();
 
         // 3️⃣ Rate Limit 체크
-        Bucket bucket = resolveBucket(apiKey);
-        if (!bucket.tryConsume(1)) {
+        long waitNanos = RequestTimings.time("ratelimit",
+                () -> rateLimiter.tryConsume(apiKey.getApiKey(), apiKey.getLimitPerMinute(), 1));
+        if (waitNanos > 0) {
+            rateRejections.increment();
+            response.setHeader("Retry-After", String.valueOf(TimeUtils.toRetryAfterSeconds(waitNanos)));
             response.sendError(HttpStatusCodeConstants.TOO_MANY_REQUESTS, "Rate limit exceeded for this API Key");
             return;
         }
 
-        // 4️⃣ SecurityContext에 인증 등록
+        // 4️⃣ 조회 비용 체크 (실행 전 차단)
+        //    - 한 번에 예산을 넘는 요청 → 기다려도 불가능하므로 422
+        //    - 예산 부족 → 429 + 충전될 때까지 Retry-After
+        int budget = apiKey.getComputeBudgetPerMinute() != null
+                ? apiKey.getComputeBudgetPerMinute()
+                : defaultComputeBudget;
+        long cost = RequestTimings.time("ratelimit", () -> costEstimator.estimate(request));
+        if (cost > budget) {
+            costRejections.increment();
+            response.sendError(HttpStatusCodeConstants.ERROR_VALIDATION_FAILED,
+                    "Query cost " + cost + " exceeds compute budget " + budget + " per minute");
+            return;
+        }
+        if (cost > 1) {
+            long costWaitNanos = RequestTimings.time("ratelimit",
+                    () -> rateLimiter.tryConsume("cost:" + apiKey.getApiKey(), budget, cost));
+            if (costWaitNanos > 0) {
+                budgetRejections.increment();
+                response.setHeader("Retry-After", String.valueOf(TimeUtils.toRetryAfterSeconds(costWaitNanos)));
+                response.sendError(HttpStatusCodeConstants.TOO_MANY_REQUESTS, "Compute budget exceeded for this API Key");
+                return;
+            }
+        }
+
+        // 5️⃣ SecurityContext에 인증 등록
         Authentication authentication =
                 new UsernamePasswordAuthenticationToken(apiKey.getOwner(), null, Collections.emptyList());
         SecurityContextHolder.getContext().setAuthentication(authentication);
 
-        // 5️⃣ 다음 필터 진행
+        // 6️⃣ 다음 필터 진행
         filterChain.doFilter(request, response);
     }
 }
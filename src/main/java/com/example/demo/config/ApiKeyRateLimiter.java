@@ -0,0 +1,19 @@
+package com.example.demo.config;
+
+/**
+ * 📌 API Key 요청 제한기
+ * - local: 인스턴스별 Bucket4j 메모리 Bucket
+ * - distributed: MariaDB에 Bucket 상태 저장 (replica 전체 합산 한도)
+ */
+public interface ApiKeyRateLimiter {
+
+    /**
+     * 토큰 소비 시도
+     *
+     * @param bucketKey      Bucket 식별자 (API Key 값)
+     * @param limitPerMinute 1분당 허용량 (= Bucket 용량)
+     * @param tokens         소비할 토큰 수
+     * @return 0 이면 허용, 양수면 재시도까지 대기 시간(ns)
+     */
+    long tryConsume(String bucketKey, int limitPerMinute, long tokens);
+}
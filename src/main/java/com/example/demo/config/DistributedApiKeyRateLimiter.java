@@ -0,0 +1,230 @@
+package com.example.demo.config;
+
+import com.example.demo.service.RateLimitStateStore;
+import com.example.demo.util.LogMaskUtil;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.github.benmanes.caffeine.cache.Scheduler;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.transaction.TransactionException;
+
+import java.time.Duration;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+
+/**
+ * 📌 클러스터 공용 요청 제한기 (MariaDB)
+ * - replica 수와 무관하게 API Key 한도를 전체 합산으로 적용
+ * - DB에서 prefetch 개씩 토큰을 임대해 로컬에서 소비 → DB 조회는 prefetch 건당 1회
+ * - 쓰지 않은 임대 토큰은 lease-ttl 이후 DB로 반납 (저빈도 Key가 limit/prefetch 로 묶이지 않도록)
+ * - DB 장애 시 db-retry-sec 동안 로컬 Bucket(인스턴스별 한도)으로 대체
+ *   DB 호출은 db-timeout-ms까지만 대기 → 연결 불가 시 커넥션 풀 대기(connection-timeout)만큼 요청이 멈추지 않음
+ */
+@Slf4j
+public class DistributedApiKeyRateLimiter implements ApiKeyRateLimiter {
+
+    private static final int MAX_ATTEMPTS = 3;
+
+    private final RateLimitStateStore stateStore;
+    private final ApiKeyRateLimiter fallback;
+    private final long prefetch;
+    private final long leaseTtlMs;
+    private final long dbRetryMs;
+    private final long dbTimeoutMs;
+    private final LongSupplier clock;
+
+    // DB 호출 전용 스레드 (호출 스레드는 db-timeout-ms까지만 대기)
+    private final ExecutorService storeExecutor;
+
+    // Bucket Key별 로컬 임대 토큰 (ReentrantLock → 가상 스레드 pinning 없음)
+    // - lease-ttl 동안 접근이 없으면 제거되며, 남은 토큰은 제거 시점에 반납
+    private final Cache<String, LocalLease> leases;
+
+    private volatile long dbUnavailableUntilMs = 0;
+
+    private static final class LocalLease {
+        private final ReentrantLock lock = new ReentrantLock();
+        private int limitPerMinute;
+        private long remaining;
+        private long expiresAtMs;
+        private boolean retired;    // 캐시에서 제거됨 (반납 완료 → 더 이상 사용 금지)
+    }
+
+    public DistributedApiKeyRateLimiter(RateLimitStateStore stateStore,
+                                        ApiKeyRateLimiter fallback,
+                                        long prefetch,
+                                        long leaseTtlMs,
+                                        long dbRetrySec,
+                                        long dbTimeoutMs) {
+        this(stateStore, fallback, prefetch, leaseTtlMs, dbRetrySec, dbTimeoutMs,
+                System::currentTimeMillis, ForkJoinPool.commonPool(), Scheduler.systemScheduler());
+    }
+
+    // 테스트용: 시계 / 반납 실행기 / 만료 스케줄러 지정
+    DistributedApiKeyRateLimiter(RateLimitStateStore stateStore,
+                                 ApiKeyRateLimiter fallback,
+                                 long prefetch,
+                                 long leaseTtlMs,
+                                 long dbRetrySec,
+                                 long dbTimeoutMs,
+                                 LongSupplier clock,
+                                 Executor executor,
+                                 Scheduler scheduler) {
+        this.stateStore = stateStore;
+        this.fallback = fallback;
+        this.prefetch = Math.max(1, prefetch);
+        this.leaseTtlMs = leaseTtlMs;
+        this.dbRetryMs = TimeUnit.SECONDS.toMillis(dbRetrySec);
+        this.dbTimeoutMs = Math.max(1, dbTimeoutMs);
+        this.clock = clock;
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("ratelimit-store-");
+        threadFactory.setDaemon(true);
+        this.storeExecutor = Executors.newCachedThreadPool(threadFactory);
+        this.leases = Caffeine.newBuilder()
+                .expireAfterAccess(Duration.ofMillis(Math.max(leaseTtlMs, 1)))
+                .ticker(() -> TimeUnit.MILLISECONDS.toNanos(clock.getAsLong()))
+                .executor(executor)
+                .scheduler(scheduler)
+                .removalListener(this::onLeaseRemoved)
+                .build();
+    }
+
+    @Override
+    public long tryConsume(String bucketKey, int limitPerMinute, long tokens) {
+        long now = clock.getAsLong();
+        if (now < dbUnavailableUntilMs) {
+            return fallback.tryConsume(bucketKey, limitPerMinute, tokens);
+        }
+
+        LocalLease lease = lockLease(bucketKey);
+        try {
+            lease.limitPerMinute = limitPerMinute;
+
+            // 1️⃣ 로컬 임대분으로 처리 가능하면 DB 왕복 없음
+            if (lease.expiresAtMs > now && lease.remaining >= tokens) {
+                lease.remaining -= tokens;
+                return 0;
+            }
+
+            // 2️⃣ 남은 임대분(만료 또는 부족)은 반납하면서 DB에서 추가 임대 (요청 토큰 + prefetch, 한도 이내)
+            long wanted = Math.max(tokens, Math.min(prefetch, limitPerMinute));
+            RateLimitStateStore.Lease granted =
+                    leaseFromStore(bucketKey, limitPerMinute, tokens, wanted, lease.remaining, now);
+            if (granted == null) {
+                // 반납 반영 여부를 알 수 없음 → 다시 반납하지 않도록 버림 (한도 초과보다 덜 허용하는 쪽)
+                lease.remaining = 0;
+                return fallback.tryConsume(bucketKey, limitPerMinute, tokens);
+            }
+            if (granted.granted() < tokens) {
+                lease.remaining = 0;
+                return Math.max(1, TimeUnit.MILLISECONDS.toNanos(granted.waitMillis()));
+            }
+
+            lease.remaining = granted.granted() - tokens;
+            lease.expiresAtMs = now + leaseTtlMs;
+            return 0;
+        } finally {
+            lease.lock.unlock();
+        }
+    }
+
+    /**
+     * 캐시의 현재 임대 객체를 잠금 (제거·반납 직후의 객체면 새로 조회)
+     */
+    private LocalLease lockLease(String bucketKey) {
+        while (true) {
+            LocalLease lease = leases.get(bucketKey, k -> new LocalLease());
+            lease.lock.lock();
+            if (!lease.retired) {
+                return lease;
+            }
+            lease.lock.unlock();
+        }
+    }
+
+    // 테스트용: 만료된 임대분 즉시 제거 (→ 반납)
+    void expireLeases() {
+        leases.cleanUp();
+    }
+
+    /**
+     * ✅ 만료 제거된 임대분 반납
+     */
+    private void onLeaseRemoved(String bucketKey, LocalLease lease, RemovalCause cause) {
+        if (bucketKey == null || lease == null || !cause.wasEvicted()) {
+            return;
+        }
+        long unused;
+        int limitPerMinute;
+        lease.lock.lock();
+        try {
+            lease.retired = true;
+            unused = lease.remaining;
+            limitPerMinute = lease.limitPerMinute;
+            lease.remaining = 0;
+        } finally {
+            lease.lock.unlock();
+        }
+        if (unused > 0) {
+            leaseFromStore(bucketKey, limitPerMinute, 0, 0, unused, clock.getAsLong());
+        }
+    }
+
+    /**
+     * 낙관적 락 충돌 시 재시도, DB 연결 실패/db-timeout-ms 초과 시 null (→ 로컬 대체)
+     */
+    private RateLimitStateStore.Lease leaseFromStore(String bucketKey, int limitPerMinute,
+                                                     long required, long wanted, long returned, long nowMs) {
+        for (int attempt = 1; attempt <= MAX_ATTEMPTS; attempt++) {
+            Future<RateLimitStateStore.Lease> call = storeExecutor.submit(
+                    () -> stateStore.lease(bucketKey, limitPerMinute, required, wanted, returned, nowMs));
+            try {
+                return call.get(dbTimeoutMs, TimeUnit.MILLISECONDS);
+            } catch (TimeoutException e) {
+                call.cancel(true);
+                openCircuit("응답 지연(" + dbTimeoutMs + "ms 초과)", null);
+                return null;
+            } catch (InterruptedException e) {
+                call.cancel(true);
+                Thread.currentThread().interrupt();
+                return null;
+            } catch (ExecutionException e) {
+                Throwable cause = e.getCause();
+                if (cause instanceof ConcurrencyFailureException || cause instanceof DataIntegrityViolationException) {
+                    log.debug("🔁 Rate Limit 상태 갱신 충돌 재시도 ({}/{}): {}", attempt, MAX_ATTEMPTS, LogMaskUtil.mask(bucketKey));
+                } else if (cause instanceof DataAccessException || cause instanceof TransactionException) {
+                    openCircuit("접근 실패", cause);
+                    return null;
+                } else if (cause instanceof RuntimeException runtime) {
+                    throw runtime;
+                } else {
+                    throw new IllegalStateException(cause);
+                }
+            }
+        }
+        return null;
+    }
+
+    private void openCircuit(String reason, Throwable cause) {
+        dbUnavailableUntilMs = clock.getAsLong() + dbRetryMs;
+        log.warn("⚠️ 분산 Rate Limit 저장소 {} → {}초간 로컬 한도로 대체", reason, dbRetryMs / 1000, cause);
+    }
+
+    // @Bean 종료 시 자동 호출 (추론된 destroy 메서드)
+    public void shutdown() {
+        storeExecutor.shutdownNow();
+    }
+}
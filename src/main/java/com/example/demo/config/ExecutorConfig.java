@@ -0,0 +1,32 @@
+package com.example.demo.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * 📌 Fan-out Executor (센서/지점별 병렬 조회·수집)
+ * - spring.threads.virtual.enabled=true → 작업당 가상 스레드 (OS 스레드 수와 무관)
+ * - 그 외 → 고정 크기 Platform 스레드 풀
+ */
+@Configuration
+public class ExecutorConfig {
+
+    @Bean(name = "fanOutExecutor", destroyMethod = "shutdown")
+    @ConditionalOnThreading(Threading.VIRTUAL)
+    public ExecutorService virtualFanOutExecutor() {
+        return Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("fan-out-", 0).factory());
+    }
+
+    @Bean(name = "fanOutExecutor", destroyMethod = "shutdown")
+    @ConditionalOnThreading(Threading.PLATFORM)
+    public ExecutorService platformFanOutExecutor(@Value("${app.fan-out.pool-size:8}") int poolSize) {
+        return Executors.newFixedThreadPool(poolSize, new CustomizableThreadFactory("fan-out-"));
+    }
+}
@@ -0,0 +1,56 @@
+package com.example.demo.config;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 📌 GCRA(Generic Cell Rate Algorithm) 요청 제한기
+ * - 클라이언트별 상태는 "이론적 도착 시각(TAT)" long 하나 → 슬라이딩 윈도우와 동일한 평균 속도 보장
+ * - ConcurrentHashMap(분할 잠금) + AtomicLong CAS → 같은 클라이언트 동시 요청도 락 없이 처리
+ * - TAT가 현재보다 과거인 상태는 "버킷이 가득 찬 상태"와 같으므로 제거해도 동작이 바뀌지 않음
+ */
+public class GcraRateLimiter {
+
+    private static final long ONE_MINUTE_NANOS = TimeUnit.MINUTES.toNanos(1);
+
+    private final Map<String, AtomicLong> states = new ConcurrentHashMap<>();
+
+    /**
+     * 요청 1건 허용 여부 판단
+     *
+     * @return 0 이면 허용, 양수면 다음 요청까지 기다려야 하는 시간(ns)
+     */
+    public long tryAcquire(String key, int limitPerMinute, long nowNanos) {
+        int limit = Math.max(1, limitPerMinute);
+        long interval = ONE_MINUTE_NANOS / limit;                   // 요청 1건당 간격
+        long tolerance = interval * (limit - 1L);                   // 최대 burst 허용 폭
+
+        AtomicLong tat = states.computeIfAbsent(key, k -> new AtomicLong(nowNanos));
+        while (true) {
+            long current = tat.get();
+            long base = Math.max(current, nowNanos);
+            long wait = base - nowNanos - tolerance;
+            if (wait > 0) {
+                return wait;
+            }
+            if (tat.compareAndSet(current, base + interval)) {
+                return 0;
+            }
+        }
+    }
+
+    /**
+     * idle 클라이언트 상태 제거 (TAT + 유예시간이 지난 항목)
+     */
+    public int evictIdle(long nowNanos, long idleNanos) {
+        int before = states.size();
+        states.entrySet().removeIf(e -> nowNanos - e.getValue().get() > idleNanos);
+        return before - states.size();
+    }
+
+    public int size() {
+        return states.size();
+    }
+}
@@ -2,11 +2,22 @@ package com.example.demo.config;
 
 import com.influxdb.client.InfluxDBClient;
 import com.influxdb.client.InfluxDBClientFactory;
+import com.influxdb.client.InfluxDBClientOptions;
+import com.influxdb.client.reactive.InfluxDBClientReactive;
+import com.influxdb.client.reactive.InfluxDBClientReactiveFactory;
+import okhttp3.ConnectionPool;
+import okhttp3.OkHttpClient;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+// storage.type=embedded 이면 InfluxDB 클라이언트 생성 안 함
 @Configuration
+@ConditionalOnProperty(name = "storage.type", havingValue = "influx", matchIfMissing = true)
 public class InfluxDBConfig {
 
     @Value("${influx.url}")
@@ -21,8 +32,38 @@ public class InfluxDBConfig {
     @Value("${influx.bucket}")
     private String bucket;
 
+    @Value("${influx.connection-pool-size:64}")
+    private int connectionPoolSize;
+
+    @Value("${influx.read-timeout-sec:60}")
+    private long readTimeoutSec;
+
     @Bean(destroyMethod = "close")  // ✅ 종료 시 안전하게 닫힘
     public InfluxDBClient influxDBClient() {
-        return InfluxDBClientFactory.create(url, token.toCharArray(), org, bucket);
+        return InfluxDBClientFactory.create(options());
+    }
+
+    // ✅ Non-blocking 조회용 Reactive 클라이언트
+    @Bean(destroyMethod = "close")
+    public InfluxDBClientReactive influxDBClientReactive() {
+        return InfluxDBClientReactiveFactory.create(options());
+    }
+
+    /**
+     * 📌 OkHttp 커넥션 풀 크기 지정
+     * - 기본값(유휴 5개)은 동시 조회가 많으면 매번 새 연결을 맺음 → 동시성에 맞춰 유지 개수 확대
+     */
+    private InfluxDBClientOptions options() {
+        OkHttpClient.Builder okHttp = new OkHttpClient.Builder()
+                .connectionPool(new ConnectionPool(connectionPoolSize, 5, TimeUnit.MINUTES))
+                .readTimeout(Duration.ofSeconds(readTimeoutSec));
+
+        return InfluxDBClientOptions.builder()
+                .url(url)
+                .authenticateToken(token.toCharArray())
+                .org(org)
+                .bucket(bucket)
+                .okHttpClient(okHttp)
+                .build();
     }
 }
@@ -0,0 +1,25 @@
+package com.example.demo.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 📌 IP 기준 요청 제한 설정 (ratelimit.ip.*)
+ * - routes: Ant 패턴 → 1분당 허용량 (선언 순서대로 처음 일치하는 패턴 적용)
+ *   예) ratelimit.ip.routes[/api/measurements/all]=5
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "ratelimit.ip")
+public class IpRateLimitProperties {
+
+    private int defaultPerMinute = 60;           // 기본 1분당 최대 요청 수
+    private Map<String, Integer> routes = new LinkedHashMap<>();
+    private long idleEvictSec = 120;             // 이 시간 동안 요청 없는 클라이언트 상태 제거
+}
@@ -0,0 +1,54 @@
+package com.example.demo.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.github.bucket4j.Bandwidth;
+import io.github.bucket4j.Bucket;
+import io.github.bucket4j.BucketConfiguration;
+import io.github.bucket4j.ConsumptionProbe;
+import io.github.bucket4j.Refill;
+import io.github.bucket4j.TokensInheritanceStrategy;
+
+import java.time.Duration;
+
+/**
+ * 📌 인스턴스 로컬 Bucket4j 요청 제한기
+ * - Bucket은 일정 시간 요청이 없으면 제거
+ * - limitPerMinute 변경 시 기존 Bucket 설정 교체 (남은 토큰은 비율 유지)
+ */
+public class LocalApiKeyRateLimiter implements ApiKeyRateLimiter {
+
+    // Bucket Key별 요청 제한 Bucket 캐시
+    private final Cache<String, LimitedBucket> bucketCache;
+
+    public LocalApiKeyRateLimiter(long bucketIdleMin) {
+        this.bucketCache = Caffeine.newBuilder()
+                .expireAfterAccess(Duration.ofMinutes(bucketIdleMin))
+                .build();
+    }
+
+    // Bucket + 생성 당시 한도 (한도 변경 감지용)
+    private record LimitedBucket(int limitPerMinute, Bucket bucket) {}
+
+    private Bandwidth createBandwidth(int limit) {
+        Refill refill = Refill.intervally(limit, Duration.ofMinutes(1));
+        return Bandwidth.classic(limit, refill);
+    }
+
+    private Bucket resolveBucket(String bucketKey, int limit) {
+        LimitedBucket current = bucketCache.get(bucketKey,
+                k -> new LimitedBucket(limit, Bucket.builder().addLimit(createBandwidth(limit)).build()));
+        if (current.limitPerMinute() != limit) {
+            BucketConfiguration configuration = BucketConfiguration.builder().addLimit(createBandwidth(limit)).build();
+            current.bucket().replaceConfiguration(configuration, TokensInheritanceStrategy.PROPORTIONALLY);
+            bucketCache.put(bucketKey, new LimitedBucket(limit, current.bucket()));
+        }
+        return current.bucket();
+    }
+
+    @Override
+    public long tryConsume(String bucketKey, int limitPerMinute, long tokens) {
+        ConsumptionProbe probe = resolveBucket(bucketKey, limitPerMinute).tryConsumeAndReturnRemaining(tokens);
+        return probe.isConsumed() ? 0 : Math.max(1, probe.getNanosToWaitForRefill());
+    }
+}
@@ -0,0 +1,121 @@
+package com.example.demo.config;
+
+import com.example.demo.repository.SensorRepository;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 📌 요청 비용 추정 (단위: 센서·시간)
+ * - 요청 실행 전에 경로/기간/durationSec/센서 수만으로 계산 → InfluxDB/DB 조회 없음
+ * - 1시간 단건 조회 = 1, 센서 5개 × 1년 그룹/격자 조회 = 43,800
+ */
+@Component
+public class QueryCostEstimator {
+
+    private static final String MEASUREMENTS = "/api/measurements/";
+    private static final long DEFAULT_DURATION_SEC = 86400;
+
+    private final SensorRepository sensorRepository;
+
+    // 전체 조회 / 기간을 해석할 수 없는 요청의 비용 (기본 예산 이하로 유지해야 /all 이 422로 막히지 않음)
+    @Value("${ratelimit.cost.full-scan:1000}")
+    private long fullScanCost;
+
+    @Value("${kma.stations}")
+    private List<String> stations;
+
+    // 센서 수 캐시 (요청마다 count 쿼리 방지)
+    private volatile long sensorCount = -1;
+    private volatile long sensorCountLoadedAt = 0;
+    private static final long SENSOR_COUNT_TTL_MS = TimeUnit.MINUTES.toMillis(1);
+
+    public QueryCostEstimator(SensorRepository sensorRepository) {
+        this.sensorRepository = sensorRepository;
+    }
+
+    public long estimate(HttpServletRequest request) {
+        String uri = request.getRequestURI();
+        if (!"GET".equals(request.getMethod()) || !uri.startsWith(MEASUREMENTS)) {
+            return 1;
+        }
+
+        if (uri.equals(MEASUREMENTS + "live") || uri.equals(MEASUREMENTS + "latest")) {
+            return 1; // 구독 1건 / 메모리 인덱스 (InfluxDB 조회 없음)
+        }
+        if (uri.equals(MEASUREMENTS + "all")) {
+            return fullScanCost;
+        }
+        if (uri.endsWith("/list/grouped")) {
+            return rangeHours(request) * sensorCount();
+        }
+        if (uri.endsWith("/list") || uri.endsWith("/list/by-station") || uri.endsWith("/stations/aggregate")) {
+            // stations 생략 = 설정된 전체 지점
+            return rangeHours(request) * stationCount(request, stations.size());
+        }
+        if (uri.equals(MEASUREMENTS + "wide")) {
+            // 기간 × 센서 수 × 지점 수 (station 필수 → 보통 1곳)
+            return rangeHours(request) * Math.max(1, countValues(request, "sensors")) * Math.max(1, countValues(request, "station"));
+        }
+        // /{sensorId}, /by-name/{sensorName} (+ reactive) → durationSec 기준
+        return durationHours(request);
+    }
+
+    // Controller와 같은 ISO DATE_TIME 해석 (오프셋 포함 값도 허용), 해석 실패 시 전체 조회 비용
+    private long rangeHours(HttpServletRequest request) {
+        try {
+            LocalDateTime start = LocalDateTime.from(DateTimeFormatter.ISO_DATE_TIME.parse(request.getParameter("start")));
+            LocalDateTime end = LocalDateTime.from(DateTimeFormatter.ISO_DATE_TIME.parse(request.getParameter("end")));
+            return ceilHours(Duration.between(start, end).getSeconds());
+        } catch (RuntimeException e) {
+            return fullScanCost;
+        }
+    }
+
+    // 지정한 지점 수 (stations=108,112 또는 반복 파라미터, 생략 시 whenAbsent)
+    private long stationCount(HttpServletRequest request, long whenAbsent) {
+        long count = countValues(request, "stations");
+        return Math.max(1, count == 0 ? whenAbsent : count);
+    }
+
+    // 콤마 구분 또는 반복 파라미터 값 개수
+    private long countValues(HttpServletRequest request, String name) {
+        String[] values = request.getParameterValues(name);
+        if (values == null) return 0;
+        long count = 0;
+        for (String value : values) {
+            for (String item : value.split(",")) {
+                if (!item.isBlank()) count++;
+            }
+        }
+        return count;
+    }
+
+    private long durationHours(HttpServletRequest request) {
+        String durationSec = request.getParameter("durationSec");
+        try {
+            return ceilHours(durationSec == null ? DEFAULT_DURATION_SEC : Long.parseLong(durationSec));
+        } catch (NumberFormatException e) {
+            return fullScanCost;
+        }
+    }
+
+    private long ceilHours(long seconds) {
+        return Math.max(1, (seconds + 3599) / 3600);
+    }
+
+    private long sensorCount() {
+        long now = System.currentTimeMillis();
+        if (sensorCount < 0 || now - sensorCountLoadedAt > SENSOR_COUNT_TTL_MS) {
+            sensorCount = Math.max(1, sensorRepository.count());
+            sensorCountLoadedAt = now;
+        }
+        return sensorCount;
+    }
+}
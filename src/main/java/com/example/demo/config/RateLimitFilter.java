@@ -1,27 +1,50 @@
 package com.example.demo.config;
 
 import com.example.demo.constants.HttpStatusCodeConstants;
+import com.example.demo.util.TimeUtils;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
 import jakarta.servlet.Filter;
 import jakarta.servlet.annotation.WebFilter;
 
 import java.io.IOException;
 import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.TimeUnit;
 
+@Slf4j
 @Component
 @WebFilter("/*") // 모든 요청에 대해 적용
 public class RateLimitFilter implements Filter {
 
-    private static final int MAX_REQUESTS_PER_MINUTE = 60; // 1분당 최대 요청 수
-    // 클라이언트 IP 별 요청 수를 기록 (동시성 안전)
-    private final Map<String, AtomicInteger> requestCounts = new ConcurrentHashMap<>();
+    private static final String DEFAULT_ROUTE = "*";
 
+    private final IpRateLimitProperties properties;
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+
+    // 클라이언트 IP(+경로 패턴)별 GCRA 상태 (idle 항목은 주기적으로 제거)
+    private final GcraRateLimiter limiter = new GcraRateLimiter();
+
+    private final Counter rejections;
+
+    public RateLimitFilter(IpRateLimitProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.rejections = Counter.builder("ratelimit.rejections")
+                .tag("filter", "ip")
+                .tag("reason", "rate")
+                .register(meterRegistry);
+        Gauge.builder("ratelimit.ip.clients", limiter, GcraRateLimiter::size)
+                .description("IP Rate Limit 추적 중인 클라이언트 수")
+                .register(meterRegistry);
+    }
 
     @Override
     public void doFilter(jakarta.servlet.ServletRequest req, jakarta.servlet.ServletResponse res, FilterChain chain)
@@ -29,17 +52,27 @@ public class RateLimitFilter implements Filter {
 
         HttpServletRequest request = (HttpServletRequest) req;
         HttpServletResponse response = (HttpServletResponse) res;
-        
-        // 클라이언트 식별: IP 기준
+
+        // 클라이언트 식별: IP 기준 + 경로별 한도
         String clientIp = request.getRemoteAddr();
-        requestCounts.putIfAbsent(clientIp, new AtomicInteger(0));
+        String route = DEFAULT_ROUTE;
+        int limit = properties.getDefaultPerMinute();
+        String uri = request.getRequestURI();
+        for (Map.Entry<String, Integer> entry : properties.getRoutes().entrySet()) {
+            if (pathMatcher.match(entry.getKey(), uri)) {
+                route = entry.getKey();
+                limit = entry.getValue();
+                break;
+            }
+        }
 
-        // 요청 카운트 증가
-        int requests = requestCounts.get(clientIp).incrementAndGet();
+        long waitNanos = limiter.tryAcquire(clientIp + '|' + route, limit, System.nanoTime());
 
-        // 제한 초과 시 응답 반환
-        if (requests > MAX_REQUESTS_PER_MINUTE) {
+        // 제한 초과 시 응답 반환 (Retry-After: 다음 요청 가능 시각까지 초)
+        if (waitNanos > 0) {
+            rejections.increment();
             response.setStatus(HttpStatusCodeConstants.TOO_MANY_REQUESTS);
+            response.setHeader("Retry-After", String.valueOf(TimeUtils.toRetryAfterSeconds(waitNanos)));
             response.getWriter().write("Too many requests - Rate limit exceeded");
             return;
         }
@@ -47,4 +80,15 @@ public class RateLimitFilter implements Filter {
         // 제한 미만이면 다음 필터 또는 컨트롤러로 요청 전달
         chain.doFilter(req, res);
     }
+
+    /**
+     * idle 클라이언트 제거 → 다수의 IP가 들어와도 메모리 사용량이 활성 클라이언트 수에 비례
+     */
+    @Scheduled(fixedDelayString = "${ratelimit.ip.evict-interval-ms:30000}")
+    public void evictIdleClients() {
+        int evicted = limiter.evictIdle(System.nanoTime(), TimeUnit.SECONDS.toNanos(properties.getIdleEvictSec()));
+        if (evicted > 0) {
+            log.debug("🧹 IP Rate Limit idle 항목 제거: {}건 (남은 항목 {}건)", evicted, limiter.size());
+        }
+    }
 }
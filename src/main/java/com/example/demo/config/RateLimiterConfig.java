@@ -0,0 +1,35 @@
+package com.example.demo.config;
+
+import com.example.demo.service.RateLimitStateStore;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 📌 API Key 요청 제한기 선택 (ratelimit.api-key.mode = local | distributed)
+ */
+@Configuration
+public class RateLimiterConfig {
+
+    @Value("${ratelimit.api-key.bucket-idle-min:10}")
+    private long bucketIdleMin;
+
+    @Bean
+    @ConditionalOnProperty(name = "ratelimit.api-key.mode", havingValue = "local", matchIfMissing = true)
+    public ApiKeyRateLimiter localApiKeyRateLimiter() {
+        return new LocalApiKeyRateLimiter(bucketIdleMin);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "ratelimit.api-key.mode", havingValue = "distributed")
+    public ApiKeyRateLimiter distributedApiKeyRateLimiter(
+            RateLimitStateStore stateStore,
+            @Value("${ratelimit.api-key.prefetch:5}") long prefetch,
+            @Value("${ratelimit.api-key.lease-ttl-ms:1000}") long leaseTtlMs,
+            @Value("${ratelimit.api-key.db-retry-sec:30}") long dbRetrySec,
+            @Value("${ratelimit.api-key.db-timeout-ms:300}") long dbTimeoutMs) {
+        return new DistributedApiKeyRateLimiter(
+                stateStore, new LocalApiKeyRateLimiter(bucketIdleMin), prefetch, leaseTtlMs, dbRetrySec, dbTimeoutMs);
+    }
+}
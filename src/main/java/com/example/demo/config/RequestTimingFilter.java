@@ -0,0 +1,170 @@
+package com.example.demo.config;
+
+import com.example.demo.util.RequestTimings;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 📌 요청 구간별 소요 시간 측정
+ * - 샘플링된 요청: RequestTimings 바인딩 → API Key 조회, Sensor DB, InfluxDB, 응답 변환 구간 기록
+ *   응답 본문을 쓰기 직전에 Server-Timing 헤더 추가 (직렬화 시간은 헤더 이후라 로그에만 포함)
+ * - 모든 요청: 전체 시간이 임계값을 넘으면 느린 요청 로그 (미샘플 요청은 전체 시간만)
+ * - 보안 필터보다 먼저 실행되어 API Key 검사 시간도 포함
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class RequestTimingFilter extends OncePerRequestFilter {
+
+    @Value("${timing.enabled:true}")
+    private boolean enabled;
+
+    @Value("${timing.sample-rate:0.1}")
+    private double sampleRate;
+
+    @Value("${timing.slow-request-ms:1000}")
+    private long slowRequestMs;
+
+    // 쿼리 원문 최대 길이 (로그 크기 제한)
+    @Value("${timing.max-query-chars:2000}")
+    private int maxQueryChars;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !enabled;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain)
+            throws ServletException, IOException {
+
+        long started = System.nanoTime();
+        boolean sampled = sampleRate >= 1.0 || ThreadLocalRandom.current().nextDouble() < sampleRate;
+        RequestTimings timings = sampled ? new RequestTimings() : null;
+
+        HttpServletResponse target = sampled ? new ServerTimingResponse(response, timings, started) : response;
+        if (sampled) RequestTimings.bind(timings);
+        try {
+            filterChain.doFilter(request, target);
+        } finally {
+            if (sampled) RequestTimings.unbind();
+
+            // 비동기(NDJSON 스트리밍) 응답은 완료/타임아웃/오류 시점에 한 번만 기록
+            // (타임아웃/오류 뒤에도 onComplete가 오므로 먼저 온 쪽만)
+            if (request.isAsyncStarted()) {
+                AtomicBoolean recorded = new AtomicBoolean();
+                request.getAsyncContext().addListener(new AsyncListener() {
+                    @Override public void onComplete(AsyncEvent event) { once(null); }
+                    @Override public void onTimeout(AsyncEvent event) { once("timeout"); }
+                    @Override public void onError(AsyncEvent event) { once("error"); }
+                    @Override public void onStartAsync(AsyncEvent event) { }
+
+                    private void once(String failure) {
+                        if (recorded.compareAndSet(false, true)) {
+                            finish(request, response, timings, started, target, failure);
+                        }
+                    }
+                });
+            } else {
+                finish(request, response, timings, started, target, null);
+            }
+        }
+    }
+
+    /**
+     * @param failure 비동기 요청 타임아웃/오류 ("timeout" | "error") → 소요 시간과 무관하게 기록, 정상 완료는 null
+     */
+    private void finish(HttpServletRequest request, HttpServletResponse response,
+                        RequestTimings timings, long started, HttpServletResponse target, String failure) {
+        long totalNanos = System.nanoTime() - started;
+
+        // 본문 쓰기 시작 ~ 종료 = 직렬화 + 전송
+        if (timings != null && target instanceof ServerTimingResponse wrapper && wrapper.bodyStartedNanos > 0) {
+            timings.add("serialize", System.nanoTime() - wrapper.bodyStartedNanos);
+        }
+
+        if (failure == null) {
+            if (totalNanos < slowRequestMs * 1_000_000L) return;
+            // SSE 구독은 연결 유지 시간이 곧 요청 시간 → 느린 요청 아님
+            String contentType = response.getContentType();
+            if (contentType != null && contentType.startsWith("text/event-stream")) return;
+        }
+
+        String title = failure == null ? "🐢 느린 요청" : "⚠️ 비동기 요청 " + failure;
+        String uri = request.getRequestURI();
+        if (timings == null) {
+            log.warn("{}: method={} uri={} status={} totalMs={} sampled=false",
+                    title, request.getMethod(), uri, response.getStatus(), totalNanos / 1_000_000);
+            return;
+        }
+
+        log.warn("{}: method={} uri={} status={} totalMs={} sampled=true phasesMs={} queries={} rows={}",
+                title, request.getMethod(), uri, response.getStatus(), totalNanos / 1_000_000,
+                timings.phaseMillis(), timings.queries().size() + timings.droppedQueries(), timings.totalRows());
+        for (RequestTimings.QueryRecord query : timings.queries()) {
+            log.warn("🐢   query op={} rows={} ms={} flux={}",
+                    query.op(), query.rows(), query.millis(), truncate(query.query()));
+        }
+    }
+
+    private String truncate(String query) {
+        String oneLine = query.replaceAll("\\s*\\n\\s*", " ");
+        return oneLine.length() <= maxQueryChars ? oneLine : oneLine.substring(0, maxQueryChars) + "...";
+    }
+
+    /**
+     * 📌 본문 출력 스트림을 처음 가져가는 시점(= 직렬화 시작 직전, 헤더 미전송)에 Server-Timing 추가
+     */
+    private static final class ServerTimingResponse extends HttpServletResponseWrapper {
+
+        private final RequestTimings timings;
+        private final long started;
+        private volatile long bodyStartedNanos;
+
+        ServerTimingResponse(HttpServletResponse response, RequestTimings timings, long started) {
+            super(response);
+            this.timings = timings;
+            this.started = started;
+        }
+
+        private void beforeBody() {
+            if (bodyStartedNanos == 0) {
+                bodyStartedNanos = System.nanoTime();
+                if (!isCommitted()) {
+                    setHeader("Server-Timing", timings.toServerTiming(bodyStartedNanos - started));
+                }
+            }
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            beforeBody();
+            return super.getOutputStream();
+        }
+
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            beforeBody();
+            return super.getWriter();
+        }
+    }
+}
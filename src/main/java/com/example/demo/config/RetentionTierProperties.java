@@ -0,0 +1,40 @@
+package com.example.demo.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 📌 보존 기간 계층 설정 (influx.tiers.*)
+ * - 원본 버킷(influx.bucket)은 raw-retention-days 동안만 보관
+ * - levels: 다운샘플 계층 (버킷 이름 = <influx.bucket>_<name>, retention-days 0 = 무기한)
+ *   예) influx.tiers.levels[0].name=10m / every=10m / retention-days=365
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "influx.tiers")
+public class RetentionTierProperties {
+
+    private boolean enabled = false;
+    private int rawRetentionDays = 30;      // 0 = 원본 버킷 보존 기간 변경 안 함
+    private int recomputeHours = 72;        // 늦게 들어온 데이터(누락 재수집) 반영을 위해 매번 다시 계산하는 범위
+    private int settleMinutes = 15;         // 현재 시각 - settle 이전 구간만 집계 (정시 수집 지연 고려)
+    private int backfillDays = 31;          // 계층 버킷이 비어 있을 때 처음 집계할 기간
+    private int sliceHours = 24;            // 집계 쿼리 1회당 범위
+    private int maxPointsPerSeries = 2000;  // resolution 미지정 시 기간 / 이 값 = 요구 해상도
+    private List<Level> levels = new ArrayList<>();
+
+    @Getter
+    @Setter
+    public static class Level {
+        private String name;
+        private Duration every;
+        private int retentionDays;
+    }
+}
@@ -27,6 +27,7 @@ public class SecurityConfig {
             // URL 권한 설정
             .authorizeHttpRequests(auth -> auth
                 .requestMatchers("/api/**").permitAll() // API 요청은 인증 없이 접근 허용
+                .requestMatchers("/actuator/health", "/actuator/prometheus").permitAll() // 헬스체크/메트릭 수집
                 .anyRequest().authenticated()           // 나머지는 인증 필요
             )
             // 보안 헤더 설정
@@ -0,0 +1,99 @@
+package com.example.demo.controller;
+
+import com.example.demo.domain.AlertEvent;
+import com.example.demo.domain.AlertRule;
+import com.example.demo.dto.AdminResponse;
+import com.example.demo.dto.AlertNotification;
+import com.example.demo.dto.AlertRuleRequest;
+import com.example.demo.service.AlertEngine;
+import com.example.demo.service.AlertRuleService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/alerts")
+@RequiredArgsConstructor
+@Slf4j
+public class AlertController {
+
+    private final AlertRuleService alertRuleService;
+    private final AlertEngine alertEngine;
+
+    /**
+     * 알림 규칙 목록
+     * GET /api/alerts/rules
+     */
+    @GetMapping("/rules")
+    public AdminResponse<List<AlertRule>> getRules() {
+        return AdminResponse.<List<AlertRule>>builder()
+                .payload(alertRuleService.list())
+                .build();
+    }
+
+    /**
+     * 알림 규칙 생성 (같은 이름이면 409)
+     * POST /api/alerts/rules
+     * { "name": "heavy-rain", "sensorName": "rainfall", "aggregate": "SUM", "windowMinutes": 60,
+     *   "operator": "GT", "threshold": 30, "clearThreshold": 20, "sinks": "log,table,webhook" }
+     */
+    @PostMapping("/rules")
+    public AdminResponse<AlertRule> createRule(@RequestBody AlertRuleRequest request) {
+        log.info("알림 규칙 생성 요청: name={}, sensorName={}", request.getName(), request.getSensorName());
+
+        return AdminResponse.<AlertRule>builder()
+                .payload(alertRuleService.create(request))
+                .build();
+    }
+
+    /**
+     * 알림 규칙 수정 (요청 본문으로 전체 교체)
+     * PUT /api/alerts/rules/{id}
+     */
+    @PutMapping("/rules/{id}")
+    public AdminResponse<AlertRule> updateRule(@PathVariable("id") Long id, @RequestBody AlertRuleRequest request) {
+        log.info("알림 규칙 수정 요청: id={}", id);
+
+        return AdminResponse.<AlertRule>builder()
+                .payload(alertRuleService.update(id, request))
+                .build();
+    }
+
+    /**
+     * 알림 규칙 삭제
+     * DELETE /api/alerts/rules/{id}
+     */
+    @DeleteMapping("/rules/{id}")
+    public AdminResponse<String> deleteRule(@PathVariable("id") Long id) {
+        log.info("알림 규칙 삭제 요청: id={}", id);
+        alertRuleService.delete(id);
+
+        return AdminResponse.<String>builder()
+                .payload("Deleted")
+                .build();
+    }
+
+    /**
+     * 발생 중인 알림 (이 인스턴스가 판정 중인 지점 기준)
+     * GET /api/alerts/active
+     */
+    @GetMapping("/active")
+    public AdminResponse<List<AlertNotification>> getActive() {
+        return AdminResponse.<List<AlertNotification>>builder()
+                .payload(alertEngine.active())
+                .build();
+    }
+
+    /**
+     * 최근 발생/해제 이력 (table sink)
+     * GET /api/alerts/events?limit=100
+     */
+    @GetMapping("/events")
+    public AdminResponse<List<AlertEvent>> getEvents(@RequestParam(defaultValue = "100") int limit) {
+        return AdminResponse.<List<AlertEvent>>builder()
+                .payload(alertRuleService.events(limit))
+                .build();
+    }
+}
@@ -0,0 +1,28 @@
+package com.example.demo.controller;
+
+import com.example.demo.dto.AdminResponse;
+import com.example.demo.dto.ClusterStatus;
+import com.example.demo.service.ClusterCoordinator;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/cluster")
+@RequiredArgsConstructor
+public class ClusterController {
+
+    private final ClusterCoordinator clusterCoordinator;
+
+    /**
+     * 클러스터 멤버, 리더, 이 인스턴스의 담당 지점
+     * GET /api/cluster
+     */
+    @GetMapping
+    public AdminResponse<ClusterStatus> getStatus() {
+        return AdminResponse.<ClusterStatus>builder()
+                .payload(clusterCoordinator.status())
+                .build();
+    }
+}
@@ -0,0 +1,74 @@
+package com.example.demo.controller;
+
+import com.example.demo.dto.AdminResponse;
+import com.example.demo.dto.FetchJobStatus;
+import com.example.demo.service.FetchJobService;
+import com.example.demo.util.LogMaskUtil;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.bind.annotation.*;
+
+import jakarta.validation.constraints.Pattern;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/fetch-jobs")
+@RequiredArgsConstructor
+@Slf4j
+public class FetchJobController {
+
+    private final FetchJobService fetchJobService;
+
+    /**
+     * 장기간 수집 작업 제출 → 작업 id 즉시 반환 (겹치는 작업 진행 중이면 409)
+     * POST /api/fetch-jobs?type=KMA&tm1=202401010000&tm2=202406302300&station=108
+     */
+    @PostMapping
+    public AdminResponse<FetchJobStatus> submit(
+            @RequestParam(defaultValue = "KMA") FetchJobService.Type type,
+            @RequestParam @Pattern(regexp = "\\d{10,12}", message = "tm1 must be 10~12 digits") String tm1,
+            @RequestParam @Pattern(regexp = "\\d{10,12}", message = "tm2 must be 10~12 digits") String tm2,
+            @RequestParam(required = false) String station
+    ) {
+        log.info("수집 작업 제출 요청: type={}, tm1={}, tm2={}, station={}",
+                type, LogMaskUtil.mask(tm1), LogMaskUtil.mask(tm2), LogMaskUtil.mask(station));
+
+        return AdminResponse.<FetchJobStatus>builder()
+                .payload(fetchJobService.submit(type, station, tm1, tm2))
+                .build();
+    }
+
+    /**
+     * 전체 작업 진행 상황 (대기/진행 중 + 최근 완료)
+     * GET /api/fetch-jobs
+     */
+    @GetMapping
+    public AdminResponse<List<FetchJobStatus>> list() {
+        return AdminResponse.<List<FetchJobStatus>>builder()
+                .payload(fetchJobService.list())
+                .build();
+    }
+
+    /**
+     * 작업 진행 상황 (완료 구간, 저장 건수, 실패 구간)
+     * GET /api/fetch-jobs/{id}
+     */
+    @GetMapping("/{id}")
+    public AdminResponse<FetchJobStatus> get(@PathVariable("id") String id) {
+        return AdminResponse.<FetchJobStatus>builder()
+                .payload(fetchJobService.get(id))
+                .build();
+    }
+
+    /**
+     * 작업 취소
+     * DELETE /api/fetch-jobs/{id}
+     */
+    @DeleteMapping("/{id}")
+    public AdminResponse<FetchJobStatus> cancel(@PathVariable("id") String id) {
+        return AdminResponse.<FetchJobStatus>builder()
+                .payload(fetchJobService.cancel(id))
+                .build();
+    }
+}
@@ -2,6 +2,7 @@ package com.example.demo.controller;
 
 import com.example.demo.dto.AdminResponse;
 import com.example.demo.service.ForecastSummaryService;
+import com.example.demo.service.KmaRequestPriority;
 import com.example.demo.util.LogMaskUtil;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -27,7 +28,7 @@ public class ForecastSummaryController {
 
         log.info("ForecastSummary 호출: tm1={}, tm2={}", maskedTm1, maskedTm2);
 
-        int status = service.fetchAndSave(tm1, tm2);
+        int status = service.fetchAndSave(tm1, tm2, KmaRequestPriority.MANUAL);
 
         log.info("✅ ForecastSummary 처리 완료: tm1={}, tm2={}, status={}", maskedTm1, maskedTm2, status);
 
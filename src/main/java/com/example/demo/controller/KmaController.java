@@ -1,7 +1,12 @@
 package com.example.demo.controller;
 
+import com.example.demo.service.GapRepairService;
+import com.example.demo.service.KmaArchiveLoader;
+import com.example.demo.service.KmaRequestPriority;
 import com.example.demo.service.KmaService;
 import com.example.demo.dto.AdminResponse;
+import com.example.demo.dto.ArchiveImportStatus;
+import com.example.demo.dto.GapRange;
 import com.example.demo.util.LogMaskUtil;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -9,6 +14,8 @@ import org.springframework.web.bind.annotation.*;
 
 import jakarta.validation.constraints.Pattern;
 
+import java.util.List;
+
 @RestController
 @RequestMapping("/api/kma")
 @RequiredArgsConstructor
@@ -16,6 +23,8 @@ import jakarta.validation.constraints.Pattern;
 public class KmaController {
 
     private final KmaService kmaService;
+    private final GapRepairService gapRepairService;
+    private final KmaArchiveLoader kmaArchiveLoader;
 
     /**
      * KMA 데이터를 조회하고 DB에 저장
@@ -32,7 +41,7 @@ public class KmaController {
         String maskedTm2 = LogMaskUtil.mask(tm2);
         log.info("KMA API 호출 시작 tm1={}, tm2={}", maskedTm1, maskedTm2);
 
-        int savedCount = kmaService.fetchAndStore(tm1, tm2);
+        int savedCount = kmaService.fetchAndStore(tm1, tm2, KmaRequestPriority.MANUAL);
 
         log.info("KMA API 호출 완료. 저장 건수: {}", savedCount);
 
@@ -40,4 +49,61 @@ public class KmaController {
                 .payload("Saved count: " + savedCount)
                 .build();
     }
+
+    /**
+     * 누락 구간 조회 (지점 기준)
+     * GET /api/kma/gaps?station=108
+     */
+    @GetMapping("/gaps")
+    public AdminResponse<List<GapRange>> getGaps(@RequestParam String station) {
+        log.info("누락 구간 조회: station={}", LogMaskUtil.mask(station));
+
+        return AdminResponse.<List<GapRange>>builder()
+                .payload(gapRepairService.scan(station))
+                .build();
+    }
+
+    /**
+     * 누락 구간 즉시 재수집 (전체 지점)
+     * POST /api/kma/gaps/repair
+     */
+    @PostMapping("/gaps/repair")
+    public AdminResponse<String> repairGaps() {
+        log.info("누락 구간 재수집 요청");
+
+        int savedCount = gapRepairService.repair();
+
+        log.info("누락 구간 재수집 완료. 저장 건수: {}", savedCount);
+
+        return AdminResponse.<String>builder()
+                .payload("Saved count: " + savedCount)
+                .build();
+    }
+
+    /**
+     * 아카이브 파일/디렉터리 일괄 적재 예약 (kma.archive.dir 기준 상대 경로)
+     * POST /api/kma/archive/import?path=2023&force=false
+     */
+    @PostMapping("/archive/import")
+    public AdminResponse<List<ArchiveImportStatus>> importArchive(
+            @RequestParam(defaultValue = "") String path,
+            @RequestParam(defaultValue = "false") boolean force
+    ) {
+        log.info("아카이브 적재 요청: path={}, force={}", path, force);
+
+        return AdminResponse.<List<ArchiveImportStatus>>builder()
+                .payload(kmaArchiveLoader.submit(path, force))
+                .build();
+    }
+
+    /**
+     * 아카이브 적재 진행 상황
+     * GET /api/kma/archive/imports
+     */
+    @GetMapping("/archive/imports")
+    public AdminResponse<List<ArchiveImportStatus>> getArchiveImports() {
+        return AdminResponse.<List<ArchiveImportStatus>>builder()
+                .payload(kmaArchiveLoader.statuses())
+                .build();
+    }
 }
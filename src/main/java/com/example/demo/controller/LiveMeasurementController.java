@@ -0,0 +1,61 @@
+package com.example.demo.controller;
+
+import com.example.demo.dto.LiveMeasurement;
+import com.example.demo.service.LiveMeasurementHub;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 📌 실시간 측정값 push (Server-Sent Events)
+ * - 수집 경로가 저장하는 즉시 전달 → 최신 값을 얻으려고 조회 API를 반복 호출하지 않음
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/measurements/live")
+@RequiredArgsConstructor
+public class LiveMeasurementController {
+
+    private final LiveMeasurementHub liveMeasurementHub;
+
+    /**
+     * ✅ 구독
+     * GET /api/measurements/live?sensors=temperature,rainfall&stations=108&snapshot=10
+     * - sensors/stations 생략 시 전체, snapshot: 시리즈별 최근 포인트 수 (기본 0)
+     * - 재연결 시 Last-Event-ID 헤더가 있으면 snapshot 대신 그 이후 포인트부터
+     */
+    @GetMapping(produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public Flux<ServerSentEvent<LiveMeasurement>> subscribe(
+            @RequestParam(required = false) List<String> sensors,
+            @RequestParam(required = false) List<String> stations,
+            @RequestParam(defaultValue = "0") int snapshot,
+            @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId
+    ) {
+        log.info("실시간 구독: sensors={}, stations={}, snapshot={}, lastEventId={}", sensors, stations, snapshot, lastEventId);
+
+        LiveMeasurementHub.Filter filter = new LiveMeasurementHub.Filter(normalize(sensors), normalize(stations));
+        return liveMeasurementHub.sse(filter, snapshot, parseEventId(lastEventId));
+    }
+
+    private static Set<String> normalize(List<String> values) {
+        if (values == null) return Set.of();
+        return values.stream().map(String::trim).filter(v -> !v.isEmpty()).collect(Collectors.toSet());
+    }
+
+    // 형식이 다른 id는 무시 (snapshot부터 다시)
+    private static Long parseEventId(String lastEventId) {
+        if (lastEventId == null || lastEventId.isBlank()) return null;
+        try {
+            return Long.parseLong(lastEventId.trim());
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
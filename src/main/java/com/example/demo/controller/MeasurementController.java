@@ -1,10 +1,17 @@
 package com.example.demo.controller;
 
 import com.example.demo.dto.AdminResponse;
+import com.example.demo.dto.LatestValueResponse;
 import com.example.demo.dto.SensorMeasurementRequest;
 import com.example.demo.dto.SensorMeasurementResponse;
+import com.example.demo.dto.WideTableResponse;
+import com.example.demo.exception.CustomException;
+import com.example.demo.exception.ErrorCode;
+import com.example.demo.service.LatestValueIndex;
 import com.example.demo.service.MeasurementService;
+import com.example.demo.service.QueryTierRouter;
 import com.example.demo.util.LogMaskUtil;
+import com.example.demo.util.SeriesResampler;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.web.bind.annotation.*;
@@ -13,6 +20,8 @@ import org.springframework.format.annotation.DateTimeFormat;
 import java.time.*;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 @Slf4j
 @RestController
@@ -21,6 +30,7 @@ import java.util.Map;
 public class MeasurementController {
 
         private final MeasurementService measurementService;
+        private final LatestValueIndex latestValueIndex;
 
         /**
          * ✅ 수동 저장 API
@@ -75,6 +85,23 @@ public class MeasurementController {
                         .build();
         }
 
+        /**
+         * ✅ 모든 센서·지점의 현재 값 (메모리 인덱스, InfluxDB 조회 없음)
+         * GET /api/measurements/latest?sensors=temperature,rainfall&stations=108
+         * - sensors/stations 생략 시 전체, 항목별 관측 후 경과 시간(ageSec)과 stale 여부 포함
+         */
+        @GetMapping("/latest")
+        public AdminResponse<List<LatestValueResponse>> getLatest(
+                @RequestParam(required = false) List<String> sensors,
+                @RequestParam(required = false) List<String> stations
+        ) {
+                List<LatestValueResponse> list = latestValueIndex.snapshot(toSet(sensors), toSet(stations));
+
+                return AdminResponse.<List<LatestValueResponse>>builder()
+                        .payload(list)
+                        .build();
+        }
+
         /**
          * ✅ 전체 조회 (⚠️ 성능 주의)
          */
@@ -91,20 +118,25 @@ public class MeasurementController {
 
         /**
          * ✅ 기간 조회 (오프셋 없는 문자열 → 한국시간 처리)
+         * - resolution: auto(기본) | raw | 10m, 1h 등 → 만족하는 가장 거친 계층 버킷에서 조회
+         * - stations: 지점 코드 목록 (생략 시 전 지점)
          */
         @GetMapping("/list")
         public AdminResponse<List<SensorMeasurementResponse>> getMeasurementsBetween(
                 @RequestParam String sensorName,
                 @RequestParam("start") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime start,
-                @RequestParam("end") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime end
+                @RequestParam("end") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime end,
+                @RequestParam(required = false) String resolution,
+                @RequestParam(required = false) List<String> stations
         ) {
                 String maskedName = LogMaskUtil.mask(sensorName);
                 Instant startInstant = start.atZone(ZoneId.of("Asia/Seoul")).toInstant();
                 Instant endInstant = end.atZone(ZoneId.of("Asia/Seoul")).toInstant();
 
-                log.info("Measurement 조회 기간: sensorName={}, start={}, end={}", maskedName, start, end);
+                log.info("Measurement 조회 기간: sensorName={}, start={}, end={}, stations={}", maskedName, start, end, stations);
 
-                List<SensorMeasurementResponse> list = measurementService.getMeasurementsBetween(sensorName, startInstant, endInstant);
+                List<SensorMeasurementResponse> list = measurementService.getMeasurementsBetween(sensorName, stations, startInstant, endInstant,
+                        QueryTierRouter.parseResolution(resolution));
 
                 return AdminResponse.<List<SensorMeasurementResponse>>builder()
                         .payload(list)
@@ -117,19 +149,120 @@ public class MeasurementController {
         @GetMapping("/list/grouped")
         public AdminResponse<Map<String, List<SensorMeasurementResponse>>> getMeasurementsGrouped(
                 @RequestParam("start") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime start,
-                @RequestParam("end") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime end
+                @RequestParam("end") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime end,
+                @RequestParam(required = false) String resolution
         ) {
                 Instant startInstant = start.atZone(ZoneId.of("Asia/Seoul")).toInstant();
                 Instant endInstant = end.atZone(ZoneId.of("Asia/Seoul")).toInstant();
 
                 log.info("Measurement 그룹 조회: start={}, end={}", start, end);
 
-                Map<String, List<SensorMeasurementResponse>> grouped = measurementService.getMeasurementsGroupedBySensor(startInstant, endInstant);
+                Map<String, List<SensorMeasurementResponse>> grouped = measurementService.getMeasurementsGroupedBySensor(startInstant, endInstant,
+                        QueryTierRouter.parseResolution(resolution));
 
                 return AdminResponse.<Map<String, List<SensorMeasurementResponse>>>builder()
                         .payload(grouped)
                         .build();
         }
 
+        /**
+         * ✅ 기간 조회 (지점별 그룹핑, 쿼리 1회)
+         * GET /api/measurements/list/by-station?sensorName=temperature&stations=108,112&start=...&end=...
+         * - stations 생략 시 전 지점 (지점 태그 없는 수동 저장분은 "-")
+         */
+        @GetMapping("/list/by-station")
+        public AdminResponse<Map<String, List<SensorMeasurementResponse>>> getMeasurementsByStation(
+                @RequestParam String sensorName,
+                @RequestParam(required = false) List<String> stations,
+                @RequestParam("start") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime start,
+                @RequestParam("end") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime end,
+                @RequestParam(required = false) String resolution
+        ) {
+                String maskedName = LogMaskUtil.mask(sensorName);
+                Instant startInstant = start.atZone(ZoneId.of("Asia/Seoul")).toInstant();
+                Instant endInstant = end.atZone(ZoneId.of("Asia/Seoul")).toInstant();
+
+                log.info("Measurement 지점별 조회: sensorName={}, stations={}, start={}, end={}", maskedName, stations, start, end);
+
+                Map<String, List<SensorMeasurementResponse>> byStation = measurementService.getMeasurementsByStation(sensorName, stations,
+                        startInstant, endInstant, QueryTierRouter.parseResolution(resolution));
 
+                return AdminResponse.<Map<String, List<SensorMeasurementResponse>>>builder()
+                        .payload(byStation)
+                        .build();
+        }
+
+        /**
+         * ✅ 지점 간 집계 (권역 평균/최고/최저, 한국시간)
+         * GET /api/measurements/stations/aggregate?sensorName=temperature&stations=108,112,119&start=...&end=...&every=1h&fn=max
+         * - fn: mean(기본) | max | min, 응답 시각 = 창 시작
+         */
+        @GetMapping("/stations/aggregate")
+        public AdminResponse<List<SensorMeasurementResponse>> getStationAggregate(
+                @RequestParam String sensorName,
+                @RequestParam(required = false) List<String> stations,
+                @RequestParam("start") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime start,
+                @RequestParam("end") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime end,
+                @RequestParam(defaultValue = "1h") String every,
+                @RequestParam(defaultValue = "mean") String fn
+        ) {
+                String maskedName = LogMaskUtil.mask(sensorName);
+                Instant startInstant = start.atZone(ZoneId.of("Asia/Seoul")).toInstant();
+                Instant endInstant = end.atZone(ZoneId.of("Asia/Seoul")).toInstant();
+
+                log.info("Measurement 지점 간 집계: sensorName={}, stations={}, start={}, end={}, every={}, fn={}",
+                        maskedName, stations, start, end, every, fn);
+
+                List<SensorMeasurementResponse> list = measurementService.getStationAggregate(sensorName, stations,
+                        startInstant, endInstant, QueryTierRouter.parseResolution(every),
+                        parseEnum(MeasurementService.StationAggregate.class, fn));
+
+                return AdminResponse.<List<SensorMeasurementResponse>>builder()
+                        .payload(list)
+                        .build();
+        }
+
+        /**
+         * ✅ 한 지점의 여러 센서를 같은 시각 격자에 맞춘 표 (열 단위, 한국시간)
+         * GET /api/measurements/wide?station=108&sensors=temperature,pressure&start=...&end=...&step=1h&method=mean&fill=none
+         * - station: 필수 (지점 1곳), method: mean(기본) | last | linear, fill: none(기본) | previous | zero
+         */
+        @GetMapping("/wide")
+        public AdminResponse<WideTableResponse> getWideTable(
+                @RequestParam List<String> sensors,
+                @RequestParam String station,
+                @RequestParam("start") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime start,
+                @RequestParam("end") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime end,
+                @RequestParam(defaultValue = "1h") String step,
+                @RequestParam(defaultValue = "mean") String method,
+                @RequestParam(defaultValue = "none") String fill
+        ) {
+                Instant startInstant = start.atZone(ZoneId.of("Asia/Seoul")).toInstant();
+                Instant endInstant = end.atZone(ZoneId.of("Asia/Seoul")).toInstant();
+
+                log.info("Measurement 격자 조회: sensors={}, station={}, start={}, end={}, step={}, method={}, fill={}",
+                        sensors, station, start, end, step, method, fill);
+
+                WideTableResponse table = measurementService.getWideTable(sensors, station, startInstant, endInstant,
+                        QueryTierRouter.parseResolution(step),
+                        parseEnum(SeriesResampler.Method.class, method),
+                        parseEnum(SeriesResampler.Fill.class, fill));
+
+                return AdminResponse.<WideTableResponse>builder()
+                        .payload(table)
+                        .build();
+        }
+
+        private static Set<String> toSet(List<String> values) {
+                if (values == null) return Set.of();
+                return values.stream().map(String::trim).filter(v -> !v.isEmpty()).collect(Collectors.toSet());
+        }
+
+        private static <E extends Enum<E>> E parseEnum(Class<E> type, String value) {
+                try {
+                        return Enum.valueOf(type, value.trim().toUpperCase());
+                } catch (IllegalArgumentException e) {
+                        throw new CustomException(ErrorCode.INVALID_REQUEST);
+                }
+        }
 }
@@ -0,0 +1,80 @@
+package com.example.demo.controller;
+
+import com.example.demo.dto.SensorMeasurementResponse;
+import com.example.demo.service.ReactiveMeasurementService;
+import com.example.demo.service.QueryTierRouter;
+import com.example.demo.util.LogMaskUtil;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+
+import java.time.*;
+
+/**
+ * 📌 Non-blocking 조회 API
+ * - 응답은 NDJSON(한 줄에 한 건) 스트리밍 → 결과 전체를 메모리에 모으지 않음
+ * - 클라이언트가 읽는 속도에 맞춰 InfluxDB에서 당겨옴 (backpressure)
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/measurements/reactive")
+@RequiredArgsConstructor
+public class ReactiveMeasurementController {
+
+        private final ReactiveMeasurementService reactiveMeasurementService;
+
+        /**
+         * ✅ 조회 API (sensorId 기반)
+         * GET /api/measurements/reactive/{sensorId}?durationSec=86400
+         */
+        @GetMapping(value = "/{sensorId}", produces = MediaType.APPLICATION_NDJSON_VALUE)
+        public Flux<SensorMeasurementResponse> getMeasurementsById(
+                @PathVariable Long sensorId,
+                @RequestParam(defaultValue = "86400") long durationSec
+        ) {
+                log.info("Measurement Reactive 조회 byId: sensorId={}, durationSec={}", sensorId, durationSec);
+
+                return reactiveMeasurementService.getMeasurements(sensorId, durationSec);
+        }
+
+        /**
+         * ✅ 조회 API (sensorName 기반)
+         * GET /api/measurements/reactive/by-name/{sensorName}?durationSec=86400
+         */
+        @GetMapping(value = "/by-name/{sensorName}", produces = MediaType.APPLICATION_NDJSON_VALUE)
+        public Flux<SensorMeasurementResponse> getMeasurementsByName(
+                @PathVariable String sensorName,
+                @RequestParam(defaultValue = "86400") long durationSec
+        ) {
+                String maskedName = LogMaskUtil.mask(sensorName);
+                log.info("Measurement Reactive 조회 byName: sensorName={}, durationSec={}", maskedName, durationSec);
+
+                return reactiveMeasurementService.getMeasurementsByName(sensorName, durationSec);
+        }
+
+        /**
+         * ✅ 기간 조회 (오프셋 없는 문자열 → 한국시간 처리)
+         * - resolution: auto(기본) | raw | 10m, 1h 등 → 만족하는 가장 거친 계층 버킷에서 조회
+         * - limit: 최대 건수 (0 = 제한 없음, 도달하면 남은 조회 취소)
+         */
+        @GetMapping(value = "/list", produces = MediaType.APPLICATION_NDJSON_VALUE)
+        public Flux<SensorMeasurementResponse> getMeasurementsBetween(
+                @RequestParam String sensorName,
+                @RequestParam("start") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime start,
+                @RequestParam("end") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime end,
+                @RequestParam(required = false) String resolution,
+                @RequestParam(defaultValue = "0") long limit
+        ) {
+                String maskedName = LogMaskUtil.mask(sensorName);
+                Instant startInstant = start.atZone(ZoneId.of("Asia/Seoul")).toInstant();
+                Instant endInstant = end.atZone(ZoneId.of("Asia/Seoul")).toInstant();
+
+                log.info("Measurement Reactive 조회 기간: sensorName={}, start={}, end={}, limit={}", maskedName, start, end, limit);
+
+                return reactiveMeasurementService.getMeasurementsBetween(sensorName, startInstant, endInstant,
+                        QueryTierRouter.parseResolution(resolution), limit);
+        }
+}
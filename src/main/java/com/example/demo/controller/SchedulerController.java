@@ -0,0 +1,44 @@
+package com.example.demo.controller;
+
+import com.example.demo.dto.AdminResponse;
+import com.example.demo.dto.IngestionJobStatus;
+import com.example.demo.job.IngestionJobEngine;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/scheduler/jobs")
+@RequiredArgsConstructor
+@Slf4j
+public class SchedulerController {
+
+    private final IngestionJobEngine ingestionJobEngine;
+
+    /**
+     * 수집 작업 상태 (다음 예정 시각, 마지막 결과)
+     * GET /api/scheduler/jobs
+     */
+    @GetMapping
+    public AdminResponse<List<IngestionJobStatus>> getJobs() {
+        return AdminResponse.<List<IngestionJobStatus>>builder()
+                .payload(ingestionJobEngine.statuses())
+                .build();
+    }
+
+    /**
+     * 수집 작업 즉시 실행 (비동기, 실행 중이면 409)
+     * POST /api/scheduler/jobs/kma-live/run
+     */
+    @PostMapping("/{name}/run")
+    public AdminResponse<String> run(@PathVariable("name") String name) {
+        log.info("수집 작업 수동 실행 요청: {}", name);
+        ingestionJobEngine.trigger(name);
+
+        return AdminResponse.<String>builder()
+                .payload("Started")
+                .build();
+    }
+}
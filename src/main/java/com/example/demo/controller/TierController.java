@@ -0,0 +1,60 @@
+package com.example.demo.controller;
+
+import com.example.demo.dto.AdminResponse;
+import com.example.demo.exception.CustomException;
+import com.example.demo.exception.ErrorCode;
+import com.example.demo.service.QueryTierRouter;
+import com.example.demo.service.TierDownsampler;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/tiers")
+@RequiredArgsConstructor
+@Slf4j
+public class TierController {
+
+    private final QueryTierRouter queryTierRouter;
+    private final ObjectProvider<TierDownsampler> tierDownsampler;
+
+    /**
+     * 계층별 집계 완료 시각 (이 시각 이전 구간만 계층 버킷에서 조회)
+     * GET /api/tiers
+     */
+    @GetMapping
+    public AdminResponse<Map<String, Instant>> getWatermarks() {
+        return AdminResponse.<Map<String, Instant>>builder()
+                .payload(queryTierRouter.watermarks())
+                .build();
+    }
+
+    /**
+     * 지정 구간 재집계 (과거 데이터 백필 후, 한국시간)
+     * POST /api/tiers/rebuild?start=2025-01-01T00:00:00&end=2025-02-01T00:00:00
+     */
+    @PostMapping("/rebuild")
+    public AdminResponse<String> rebuild(
+            @RequestParam("start") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime start,
+            @RequestParam("end") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime end
+    ) {
+        TierDownsampler downsampler = tierDownsampler.getIfAvailable();
+        if (downsampler == null) {
+            throw new CustomException(ErrorCode.NOT_FOUND); // influx.tiers.enabled=false 또는 임베디드 저장소
+        }
+
+        log.info("계층 재집계 요청: start={}, end={}", start, end);
+        downsampler.rebuild(start.atZone(ZoneId.of("Asia/Seoul")).toInstant(), end.atZone(ZoneId.of("Asia/Seoul")).toInstant());
+
+        return AdminResponse.<String>builder()
+                .payload("Rebuilt")
+                .build();
+    }
+}
@@ -0,0 +1,43 @@
+package com.example.demo.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.Instant;
+
+/**
+ * 📌 알림 발생/해제 이력 (table sink)
+ */
+@Entity
+@Table(name = "alert_event", indexes = @Index(name = "idx_alert_event_rule", columnList = "ruleId"))
+@Getter @Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AlertEvent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private Long ruleId;
+
+    @Column(nullable = false, length = 100)
+    private String ruleName;
+
+    @Column(nullable = false)
+    private String sensorName;
+
+    @Column(length = 20)
+    private String station;
+
+    @Column(nullable = false, length = 10)
+    private String state;               // FIRING | RESOLVED
+
+    private Double value;               // 판정에 사용한 값 (집계 결과)
+    private Double threshold;
+
+    private Instant observedAt;         // 판정한 포인트의 관측 시각
+    private Instant createdAt;
+}
@@ -0,0 +1,65 @@
+package com.example.demo.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.Instant;
+
+/**
+ * 📌 임계값 알림 규칙 (예: 1시간 강수 합계 > 30mm, 기온 < -12℃)
+ * - aggregate LAST: 들어온 포인트 값 그대로 / SUM·MIN·MAX·MEAN: 최근 windowMinutes분 집계
+ * - clearThreshold: 해제 기준 (hysteresis, 없으면 threshold) → 경계값 근처에서 발생/해제 반복 방지
+ */
+@Entity
+@Table(name = "alert_rule")
+@Getter @Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AlertRule {
+
+    public enum Aggregate { LAST, SUM, MIN, MAX, MEAN }
+
+    public enum Operator { GT, GTE, LT, LTE }
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, unique = true, length = 100)
+    private String name;
+
+    @Column(nullable = false)
+    private String sensorName;          // Sensor.name (예: rainfall)
+
+    @Column(length = 20)
+    private String station;             // null → 모든 지점 (지점별로 따로 판정)
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 10)
+    private Aggregate aggregate;
+
+    @Column(nullable = false)
+    private Integer windowMinutes;      // LAST는 0
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 10)
+    private Operator operator;
+
+    @Column(nullable = false)
+    private Double threshold;
+
+    private Double clearThreshold;
+
+    @Column(nullable = false)
+    private Integer renotifyMinutes;    // 발생 상태 유지 중 재알림 간격 (0 = 재알림 없음)
+
+    @Column(length = 100)
+    private String sinks;               // 쉼표 구분 (log,table,webhook), null → alert.default-sinks
+
+    @Column(nullable = false)
+    private Boolean enabled;
+
+    private Instant createdAt;
+    private Instant updatedAt;
+}
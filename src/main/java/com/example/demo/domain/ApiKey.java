@@ -1,10 +1,12 @@
 package com.example.demo.domain;
 
+import com.example.demo.config.ApiKeyCacheInvalidator;
 import jakarta.persistence.*;
 import lombok.*;
 
 @Entity
 @Table(name = "api_keys")
+@EntityListeners(ApiKeyCacheInvalidator.class) // ✅ 변경 시 API Key 캐시 무효화
 @Getter @Setter
 @NoArgsConstructor 
 @AllArgsConstructor
@@ -25,6 +27,9 @@ public class ApiKey {
     @Column(nullable = false)
     private Integer limitPerMinute; // 1분당 요청 허용량
 
+    @Column
+    private Integer computeBudgetPerMinute; // 1분당 조회 비용 한도 (센서·시간, null → 기본값)
+
     @Column(nullable = false)
     private Boolean active; // 사용 가능 여부
 }
@@ -0,0 +1,25 @@
+package com.example.demo.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.Instant;
+
+@Entity
+@Table(name = "cluster_lease")
+@Getter @Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ClusterLease {
+
+    @Id
+    @Column(length = 100)
+    private String name;            // 리스 이름 (leader)
+
+    @Column(length = 100, nullable = false)
+    private String holder;          // 보유 노드
+
+    @Column(nullable = false)
+    private Instant expiresAt;      // 보유 노드가 갱신하지 않으면 이 시각 이후 다른 노드가 획득
+}
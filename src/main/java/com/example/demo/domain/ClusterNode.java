@@ -0,0 +1,28 @@
+package com.example.demo.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.Instant;
+
+@Entity
+@Table(name = "cluster_node")
+@Getter @Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ClusterNode {
+
+    @Id
+    @Column(length = 100)
+    private String nodeId;          // 인스턴스 식별자 (cluster.node-id, 기본 호스트명 + 임의값)
+
+    @Column(length = 200)
+    private String host;
+
+    @Column(nullable = false)
+    private Instant startedAt;
+
+    @Column(nullable = false)
+    private Instant heartbeatAt;    // 마지막 heartbeat (node-ttl-sec 지나면 탈퇴로 간주)
+}
@@ -0,0 +1,35 @@
+package com.example.demo.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.Instant;
+
+@Entity
+@Table(name = "ingestion_job_state")
+@Getter @Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class IngestionJobState {
+
+    @Id
+    @Column(length = 100)
+    private String jobName;
+
+    private Instant lastFireTime;       // 마지막으로 완료한 예정 실행 시각 (catch-up 기준)
+    private Instant lastStartedAt;
+    private Instant lastFinishedAt;
+    private Long lastDurationMs;
+
+    @Column(length = 20)
+    private String lastOutcome;         // SUCCESS | FAILED
+
+    @Column(length = 1000)
+    private String lastError;
+
+    private Integer lastProcessed;      // 마지막 실행 처리 건수
+
+    @Column(nullable = false)
+    private Integer consecutiveFailures;
+}
@@ -0,0 +1,21 @@
+package com.example.demo.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDate;
+
+@Entity
+@Table(name = "kma_quota_usage")
+@Getter @Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class KmaQuotaUsage {
+
+    @Id
+    private LocalDate usageDate;   // 한국시간 기준 날짜 (KMA 일일 한도 기준)
+
+    @Column(nullable = false)
+    private Long used;             // 해당 날짜 KMA API 호출 수 (전체 인스턴스 합산)
+}
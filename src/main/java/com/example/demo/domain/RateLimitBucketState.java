@@ -0,0 +1,26 @@
+package com.example.demo.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+@Entity
+@Table(name = "rate_limit_buckets")
+@Getter @Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class RateLimitBucketState {
+
+    @Id
+    @Column(length = 200)
+    private String bucketKey;   // Bucket 식별자 (API Key 등)
+
+    @Column(nullable = false)
+    private Double tokens;      // 남은 토큰 (소수점 = 부분 충전분)
+
+    @Column(nullable = false)
+    private Long lastRefillMs;  // 마지막 충전 계산 시각 (epoch ms)
+
+    @Version
+    private Long version;       // 낙관적 락 (동시 갱신 충돌 감지)
+}
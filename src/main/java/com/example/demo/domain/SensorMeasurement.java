@@ -17,6 +17,9 @@ public class SensorMeasurement {
     @Column(tag = true, name = "sensor")
     private String sensorId;   // ✅ Long → String
 
+    @Column(tag = true, name = "station")
+    private String station;    // 관측 지점 (수동 저장 시 null → 태그 미기록)
+
     @Column
     private Double value;
 
@@ -0,0 +1,11 @@
+package com.example.demo.domain;
+
+import java.time.Instant;
+import java.util.Map;
+
+/**
+ * 📌 step 단위 집계 후 센서별 값을 한 행으로 모은 결과 (Flux pivot)
+ * @param time   구간 시작 시각 (조회 결과와 동일하게 +9h 적용)
+ * @param values 센서 이름 → 집계 값 (해당 구간에 값이 없으면 키 없음)
+ */
+public record WindowedRow(Instant time, Map<String, Double> values) {}
@@ -0,0 +1,24 @@
+package com.example.demo.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.time.Instant;
+
+@Data
+@Builder
+public class AlertNotification {
+    private Long ruleId;
+    private String ruleName;
+    private String sensorName;
+    private String station;
+    private String state;           // FIRING | RESOLVED
+    private String aggregate;       // LAST | SUM | MIN | MAX | MEAN
+    private int windowMinutes;
+    private String operator;        // GT | GTE | LT | LTE
+    private double threshold;
+    private double value;           // 판정에 사용한 값
+    private Instant observedAt;     // 판정한 포인트의 관측 시각
+    private Instant firingSince;    // 발생 시작 시각 (해제 알림에서 지속 시간 계산용)
+    private Instant notifiedAt;
+}
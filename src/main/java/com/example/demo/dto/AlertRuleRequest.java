@@ -0,0 +1,22 @@
+package com.example.demo.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor   // JSON 역직렬화용
+@AllArgsConstructor
+public class AlertRuleRequest {
+    private String name;
+    private String sensorName;
+    private String station;         // 생략 → 모든 지점
+    private String aggregate;       // LAST(기본) | SUM | MIN | MAX | MEAN
+    private Integer windowMinutes;  // LAST 외 필수
+    private String operator;        // GT | GTE | LT | LTE
+    private Double threshold;
+    private Double clearThreshold;  // 생략 → threshold
+    private Integer renotifyMinutes;
+    private String sinks;           // 예: log,table,webhook (생략 → 기본 sink)
+    private Boolean enabled;
+}
@@ -0,0 +1,25 @@
+package com.example.demo.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.time.Instant;
+
+@Data
+@Builder
+public class ArchiveImportStatus {
+    private String file;            // 아카이브 기준 디렉터리 기준 상대 경로
+    private String state;           // QUEUED | RUNNING | COMPLETED | FAILED | SKIPPED
+    private long totalBytes;
+    private long processedBytes;
+    private double percent;
+    private int chunks;             // 줄 단위로 나눈 청크 수
+    private int chunksDone;         // 완료 청크 수 (재개 시 이전 실행분 포함)
+    private long lines;             // 파싱 성공 줄 수
+    private long failedLines;
+    private long points;            // 저장 포인트 수
+    private double mbPerSec;
+    private Instant startedAt;
+    private Instant finishedAt;
+    private String error;
+}
@@ -0,0 +1,17 @@
+package com.example.demo.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@Builder
+public class ClusterStatus {
+    private boolean enabled;
+    private String nodeId;              // 이 인스턴스
+    private boolean leader;             // 이 인스턴스가 리더인지
+    private String leaderId;            // 현재 리더 (리스 기준)
+    private List<String> members;       // 살아 있는 노드
+    private List<String> ownedStations; // 이 인스턴스가 정시 수집하는 지점
+}
@@ -0,0 +1,27 @@
+package com.example.demo.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.time.Instant;
+import java.util.List;
+
+@Data
+@Builder
+public class FetchJobStatus {
+    private String id;
+    private String type;            // KMA | FORECAST
+    private String station;
+    private String tm1;
+    private String tm2;
+    private String state;           // QUEUED | RUNNING | COMPLETED | COMPLETED_WITH_ERRORS | FAILED | CANCELLED
+    private int chunks;
+    private int chunksDone;         // 성공 + 실패
+    private int chunksFailed;
+    private long saved;             // KMA: 저장한 관측 줄 수 / FORECAST: 저장에 성공한 구간 수
+    private double percent;
+    private List<String> errors;    // 실패 구간과 원인 (최근 max-errors건)
+    private Instant createdAt;
+    private Instant startedAt;
+    private Instant finishedAt;
+}
@@ -0,0 +1,15 @@
+package com.example.demo.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.time.Instant;
+
+@Data
+@AllArgsConstructor
+public class GapRange {
+    private String station;   // 관측 지점
+    private Instant from;     // 누락 시작 정시 (UTC)
+    private Instant to;       // 누락 마지막 정시 (UTC, 포함)
+    private long hours;       // 누락 시간 수
+}
@@ -0,0 +1,24 @@
+package com.example.demo.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.time.Instant;
+
+@Data
+@Builder
+public class IngestionJobStatus {
+    private String name;
+    private String cron;
+    private boolean enabled;
+    private boolean running;            // 현재 실행 중
+    private Instant nextFireTime;       // 다음 예정 시각 (jitter 제외)
+    private Instant lastFireTime;       // 마지막으로 완료한 예정 시각
+    private Instant lastStartedAt;
+    private Instant lastFinishedAt;
+    private Long lastDurationMs;
+    private String lastOutcome;
+    private String lastError;
+    private Integer lastProcessed;
+    private int consecutiveFailures;
+}
@@ -0,0 +1,17 @@
+package com.example.demo.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.time.Instant;
+
+@Data
+@AllArgsConstructor
+public class LatestValueResponse {
+    private String sensorName;
+    private String station;         // 수동 저장분은 null
+    private Double value;
+    private Instant sensingDate;    // 조회 API와 같은 기준 (timeShift +9h)
+    private long ageSec;            // 관측 후 경과 시간
+    private boolean stale;          // ageSec > latest.stale-after-sec
+}
@@ -0,0 +1,15 @@
+package com.example.demo.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.time.Instant;
+
+@Data
+@AllArgsConstructor
+public class LiveMeasurement {
+    private String sensorName;
+    private String station;         // 수동 저장분은 null
+    private Double value;
+    private Instant sensingDate;    // 조회 API와 같은 기준 (timeShift +9h)
+}
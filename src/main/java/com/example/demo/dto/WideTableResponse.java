@@ -0,0 +1,20 @@
+package com.example.demo.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.time.Instant;
+import java.util.List;
+
+@Data
+@Builder
+public class WideTableResponse {
+    private long stepSec;               // 격자 간격 (초)
+    private String method;              // MEAN | LAST | LINEAR
+    private String fill;                // NONE | PREVIOUS | ZERO
+    private String source;              // pivot (InfluxDB 집계) | merge (원본 조회 후 서버에서 리샘플링)
+    private String station;             // 관측 지점
+    private List<String> columns;       // 센서 이름 (values 열 순서)
+    private List<Instant> time;         // 격자 시각 (칸 시작, 조회 결과와 동일한 +9h 표기)
+    private List<List<Double>> values;  // 열 단위 값: values[c][i] = columns[c]의 time[i] 값 (없으면 null)
+}
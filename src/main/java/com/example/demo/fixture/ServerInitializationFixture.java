@@ -8,6 +8,8 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
+import com.example.demo.service.ClusterCoordinator;
+import com.example.demo.service.KmaRequestPriority;
 import com.example.demo.service.KmaService;
 import com.example.demo.domain.ApiKey;
 import com.example.demo.repository.ApiKeyRepository;
@@ -23,6 +25,7 @@ public class ServerInitializationFixture {
     private final SensorRepository sensorRepository;
     private final ApiKeyRepository apiKeyRepository;
     private final KmaService kmaService;
+    private final ClusterCoordinator clusterCoordinator;
 
     @Value("${kma.init-days:31}")
     private int init_days;
@@ -44,13 +47,19 @@ public class ServerInitializationFixture {
         createApiKeyIfNotExists("DEFAULT_API_KEY", "admin", 60);
         log.info("✅ 기본 API Key 초기화 완료");
 
+        // 여러 replica가 같은 구간을 중복 적재하지 않도록 리더만
+        if (!clusterCoordinator.isLeader()) {
+            log.info("🚫 리더가 아니므로 초기 KMA 데이터 적재 skip");
+            return;
+        }
+
         // 📌 31일전  00시 ~ 현재 시간의 정시까지 초기 데이터 적재
         String tm1 = LocalDate.now().minusDays(init_days).atStartOfDay()
                 .format(DateTimeFormatter.ofPattern("yyyyMMddHHmm"));
         String tm2 = LocalDateTime.now().withMinute(0).withSecond(0).withNano(0)
                 .format(DateTimeFormatter.ofPattern("yyyyMMddHHmm"));
 
-        int saved = kmaService.fetchAndStore(tm1, tm2);
+        int saved = kmaService.fetchAndStore(tm1, tm2, KmaRequestPriority.BACKFILL);
         log.info("📊 초기 KMA 데이터 적재 완료: {}건 저장 ({} ~ {})", saved, tm1, tm2);
 
     }
@@ -0,0 +1,51 @@
+package com.example.demo.job;
+
+import com.example.demo.constants.HttpStatusCodeConstants;
+import com.example.demo.service.ForecastSummaryService;
+import com.example.demo.service.KmaRequestPriority;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.ZonedDateTime;
+
+import static com.example.demo.util.TimeUtils.toTm;
+
+/**
+ * ✅ 단기예보 개황 수집: 예정 시각 기준 지난 6시간 (클러스터 리더만)
+ */
+@Component
+@RequiredArgsConstructor
+public class ForecastIngestionJob implements IngestionJob {
+
+    private final ForecastSummaryService forecastSummaryService;
+
+    @Value("${ingestion.jobs.forecast.cron:0 0 */6 * * *}")
+    private String cron;
+
+    @Override
+    public String name() {
+        return "forecast";
+    }
+
+    @Override
+    public String cron() {
+        return cron;
+    }
+
+    @Override
+    public boolean leaderOnly() {
+        return true;
+    }
+
+    @Override
+    public int run(ZonedDateTime fireTime) {
+        int status = forecastSummaryService.fetchAndSave(
+                toTm(fireTime.minusHours(6).toInstant()), toTm(fireTime.toInstant()), KmaRequestPriority.FORECAST);
+        // 응답 없음/파싱 실패 등은 상태 코드로 반환됨 → 재시도 대상
+        if (status >= HttpStatusCodeConstants.FORCE_ERROR) {
+            throw new IllegalStateException("forecast fetch failed: status=" + status);
+        }
+        return status == HttpStatusCodeConstants.OK ? 1 : 0;
+    }
+}
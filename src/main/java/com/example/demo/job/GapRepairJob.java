@@ -0,0 +1,56 @@
+package com.example.demo.job;
+
+import com.example.demo.service.GapRepairService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.ZonedDateTime;
+
+/**
+ * ✅ 누락 구간 재수집 (정시 수집(10분)과 겹치지 않도록 40분)
+ * - 매 실행이 최근 horizon 전체를 점검하므로 놓친 실행은 따라잡지 않음
+ * - 전 지점 대상 → 클러스터 리더만 실행 (노드 이탈 직후 빈 구간도 리더가 채움)
+ */
+@Component
+@RequiredArgsConstructor
+public class GapRepairJob implements IngestionJob {
+
+    private final GapRepairService gapRepairService;
+
+    @Value("${kma.gap.cron:0 40 * * * *}")
+    private String cron;
+
+    @Value("${kma.gap.enabled:true}")
+    private boolean enabled;
+
+    @Override
+    public String name() {
+        return "gap-repair";
+    }
+
+    @Override
+    public String cron() {
+        return cron;
+    }
+
+    @Override
+    public boolean leaderOnly() {
+        return true;
+    }
+
+    @Override
+    public boolean catchUp() {
+        return false;
+    }
+
+    @Override
+    public boolean enabled() {
+        return enabled;
+    }
+
+    @Override
+    public int run(ZonedDateTime fireTime) {
+        return gapRepairService.repair();
+    }
+}
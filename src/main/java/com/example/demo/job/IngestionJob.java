@@ -0,0 +1,36 @@
+package com.example.demo.job;
+
+import java.time.ZonedDateTime;
+
+/**
+ * 📌 IngestionJobEngine이 실행하는 수집 작업
+ * - run()은 예정 시각(fireTime) 기준 구간을 처리 → 밀린 실행을 나중에 따라잡아도 같은 구간을 수집
+ */
+public interface IngestionJob {
+
+    /** 작업 이름 (상태 저장 키, 메트릭 태그) */
+    String name();
+
+    /** Spring cron 식 (ingestion.zone 기준) */
+    String cron();
+
+    /** 중단 기간 동안 놓친 실행을 재시작 후 순서대로 실행할지 */
+    default boolean catchUp() {
+        return true;
+    }
+
+    default boolean enabled() {
+        return true;
+    }
+
+    /** 클러스터 리더 노드에서만 실행 (전 지점 대상 작업) */
+    default boolean leaderOnly() {
+        return false;
+    }
+
+    /**
+     * @return 처리 건수
+     * @throws Exception 실패 → 같은 예정 시각을 다음 실행에서 재시도
+     */
+    int run(ZonedDateTime fireTime) throws Exception;
+}
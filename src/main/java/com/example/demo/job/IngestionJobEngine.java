@@ -0,0 +1,401 @@
+package com.example.demo.job;
+
+import com.example.demo.domain.IngestionJobState;
+import com.example.demo.dto.IngestionJobStatus;
+import com.example.demo.exception.CustomException;
+import com.example.demo.exception.ErrorCode;
+import com.example.demo.repository.IngestionJobStateRepository;
+import com.example.demo.service.ClusterCoordinator;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.support.CronExpression;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 📌 수집 작업 전용 스케줄러 (KMA 정시 수집, 단기예보, 누락 재수집)
+ * - 전용 스레드 풀(ingest-N)에서 실행 → 조회 요청/다른 @Scheduled 작업과 스레드를 나눠 쓰지 않음
+ * - 작업별 중복 실행 방지: 이전 실행(수동 실행 포함)이 끝나지 않았으면 이번 실행은 건너뜀
+ * - 마지막으로 완료한 예정 시각을 MariaDB(ingestion_job_state)에 저장
+ *   → 재시작/장애/긴 실행으로 놓친 예정 시각을 다음 실행에서 순서대로 따라잡음 (최근 max-catch-up-runs개)
+ *   → 실패한 예정 시각은 완료로 기록하지 않으므로 다음 실행에서 재시도
+ * - 시작 시각에 0 ~ jitter-sec초 무작위 지연 → 여러 인스턴스/작업이 같은 초에 KMA를 호출하지 않음
+ *   (수집 구간은 예정 시각 기준이라 지연과 무관)
+ * - leaderOnly 작업은 클러스터 리더에서만 예약 실행 (상태가 공유되므로 리더가 바뀌어도 이어서 따라잡음)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class IngestionJobEngine {
+
+    private final List<IngestionJob> jobs;
+    private final IngestionJobStateRepository stateRepository;
+    private final MeterRegistry meterRegistry;
+    private final ClusterCoordinator clusterCoordinator;
+
+    @Value("${ingestion.enabled:true}")
+    private boolean enabled;
+
+    @Value("${ingestion.pool-size:2}")
+    private int poolSize;
+
+    @Value("${ingestion.zone:Asia/Seoul}")
+    private ZoneId zone;
+
+    @Value("${ingestion.jitter-sec:30}")
+    private long jitterSec;
+
+    // 한 번에 따라잡을 최대 예정 시각 수 (초과분은 오래된 것부터 버림 → 누락 재수집이 보완)
+    @Value("${ingestion.max-catch-up-runs:24}")
+    private int maxCatchUpRuns;
+
+    @Value("${ingestion.shutdown-wait-sec:30}")
+    private long shutdownWaitSec;
+
+    private final Map<String, Entry> entries = new LinkedHashMap<>();
+    private ScheduledExecutorService executor;
+    private volatile boolean stopped = false;
+
+    private static final class Entry {
+        private final IngestionJob job;
+        private final CronExpression cron;
+        private final AtomicBoolean running = new AtomicBoolean(false);
+        private volatile ZonedDateTime nextFire;
+        private volatile Instant lastFireTime;
+        private Timer success;
+        private Timer failure;
+        private Counter skipped;
+
+        Entry(IngestionJob job) {
+            this.job = job;
+            this.cron = CronExpression.parse(job.cron());
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!enabled) {
+            log.info("🚫 수집 스케줄러 비활성화 (ingestion.enabled=false)");
+            return;
+        }
+
+        AtomicInteger threadNo = new AtomicInteger();
+        executor = Executors.newScheduledThreadPool(Math.max(1, poolSize), r -> {
+            Thread t = new Thread(r, "ingest-" + threadNo.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+
+        for (IngestionJob job : jobs) {
+            Entry entry = new Entry(job);
+            entries.put(job.name(), entry);
+            registerMetrics(entry);
+            if (!job.enabled()) {
+                log.info("🚫 수집 작업 비활성화: {}", job.name());
+                continue;
+            }
+
+            entry.lastFireTime = loadState(job.name()).getLastFireTime();
+
+            // 기동 시 밀린 예정 시각이 있으면 바로 따라잡기 (이전 상태가 없으면 초기 적재가 담당)
+            ZonedDateTime previous = previousFire(entry, ZonedDateTime.now(zone));
+            if (entry.lastFireTime != null && previous != null && previous.toInstant().isAfter(entry.lastFireTime)) {
+                log.info("⏪ 놓친 실행 따라잡기 예약: job={}, 마지막 완료={}", job.name(), entry.lastFireTime);
+                executor.schedule(() -> tick(entry, previous, false), jitterMillis(), TimeUnit.MILLISECONDS);
+            }
+            scheduleNext(entry);
+        }
+        log.info("✅ 수집 스케줄러 시작: jobs={}, poolSize={}, zone={}", entries.keySet(), poolSize, zone);
+    }
+
+    @PreDestroy
+    public void stop() {
+        stopped = true;
+        if (executor == null) return;
+
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(shutdownWaitSec, TimeUnit.SECONDS)) {
+                log.warn("⚠️ 수집 작업이 {}초 내에 끝나지 않아 중단", shutdownWaitSec);
+                executor.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            executor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * ✅ 수동 실행: 밀린 예정 시각을 따라잡고, 없으면 가장 최근 예정 시각을 다시 실행 (비동기)
+     * @throws CustomException NOT_FOUND - 없는 작업 / INVALID_REQUEST - 비활성 작업 / CONFLICT - 실행 중
+     */
+    public void trigger(String name) {
+        Entry entry = entries.get(name);
+        if (entry == null || executor == null || stopped) {
+            throw new CustomException(ErrorCode.NOT_FOUND);
+        }
+        if (!entry.job.enabled()) {
+            throw new CustomException(ErrorCode.INVALID_REQUEST);
+        }
+        if (entry.running.get()) {
+            throw new CustomException(ErrorCode.CONFLICT);
+        }
+
+        ZonedDateTime previous = previousFire(entry, ZonedDateTime.now(zone));
+        if (previous == null) {
+            throw new CustomException(ErrorCode.INVALID_REQUEST);
+        }
+        log.info("▶️ 수집 작업 수동 실행: job={}, fireTime={}", name, previous);
+        executor.execute(() -> tick(entry, previous, true));
+    }
+
+    public List<IngestionJobStatus> statuses() {
+        Map<String, IngestionJobState> states = new LinkedHashMap<>();
+        stateRepository.findAll().forEach(s -> states.put(s.getJobName(), s));
+
+        List<IngestionJobStatus> result = new ArrayList<>();
+        for (Entry entry : entries.values()) {
+            IngestionJobState state = states.get(entry.job.name());
+            IngestionJobStatus.IngestionJobStatusBuilder status = IngestionJobStatus.builder()
+                    .name(entry.job.name())
+                    .cron(entry.job.cron())
+                    .enabled(entry.job.enabled())
+                    .running(entry.running.get())
+                    .nextFireTime(entry.nextFire == null ? null : entry.nextFire.toInstant());
+            if (state != null) {
+                status.lastFireTime(state.getLastFireTime())
+                        .lastStartedAt(state.getLastStartedAt())
+                        .lastFinishedAt(state.getLastFinishedAt())
+                        .lastDurationMs(state.getLastDurationMs())
+                        .lastOutcome(state.getLastOutcome())
+                        .lastError(state.getLastError())
+                        .lastProcessed(state.getLastProcessed())
+                        .consecutiveFailures(state.getConsecutiveFailures());
+            }
+            result.add(status.build());
+        }
+        return result;
+    }
+
+    // =========================
+    // 실행
+    // =========================
+    private void scheduleNext(Entry entry) {
+        if (stopped) return;
+
+        ZonedDateTime now = ZonedDateTime.now(zone);
+        ZonedDateTime next = entry.cron.next(now);
+        if (next == null) return;
+
+        entry.nextFire = next;
+        long delay = Duration.between(now, next).toMillis() + jitterMillis();
+        executor.schedule(() -> {
+            try {
+                tick(entry, next, false);
+            } finally {
+                scheduleNext(entry);
+            }
+        }, delay, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 📌 upTo까지 완료되지 않은 예정 시각을 순서대로 실행 (실패하면 중단 → 다음 실행에서 재시도)
+     */
+    private void tick(Entry entry, ZonedDateTime upTo, boolean force) {
+        if (stopped) return;
+        if (!force && entry.job.leaderOnly() && !clusterCoordinator.isLeader()) {
+            log.debug("리더가 아니므로 건너뜀: job={}, fireTime={}", entry.job.name(), upTo);
+            return;
+        }
+        if (!entry.running.compareAndSet(false, true)) {
+            entry.skipped.increment();
+            log.warn("⏭️ 이전 실행이 끝나지 않아 건너뜀: job={}, fireTime={}", entry.job.name(), upTo);
+            return;
+        }
+
+        try {
+            if (entry.job.leaderOnly()) {
+                // 이전 리더가 진행한 공유 상태부터 이어서 실행
+                entry.lastFireTime = loadState(entry.job.name()).getLastFireTime();
+            }
+            List<ZonedDateTime> fires = pendingFires(entry, upTo);
+            if (fires.isEmpty() && force) fires = List.of(upTo);
+            for (ZonedDateTime fire : fires) {
+                if (stopped || !runOnce(entry, fire)) break;
+            }
+        } catch (Exception e) {
+            log.error("❌ 수집 작업 예약 처리 오류: job={}", entry.job.name(), e);
+        } finally {
+            entry.running.set(false);
+        }
+    }
+
+    private List<ZonedDateTime> pendingFires(Entry entry, ZonedDateTime upTo) {
+        Instant last = entry.lastFireTime;
+        if (last == null) return List.of(upTo); // 이전 상태 없음 → 이번 예정 시각만
+
+        ArrayDeque<ZonedDateTime> fires = new ArrayDeque<>();
+        int dropped = 0;
+        for (ZonedDateTime t = entry.cron.next(last.atZone(zone)); t != null && !t.isAfter(upTo); t = entry.cron.next(t)) {
+            fires.addLast(t);
+            if (fires.size() > maxCatchUpRuns) {
+                fires.pollFirst();
+                dropped++;
+            }
+        }
+        if (!entry.job.catchUp() && fires.size() > 1) {
+            dropped += fires.size() - 1;
+            ZonedDateTime latest = fires.peekLast();
+            fires.clear();
+            fires.add(latest);
+        }
+        if (dropped > 0) {
+            log.warn("⚠️ 따라잡기 생략: job={}, 오래된 예정 시각 {}개", entry.job.name(), dropped);
+        }
+        if (fires.size() > 1) {
+            log.info("⏪ 놓친 실행 따라잡기: job={}, {}개 ({} ~ {})",
+                    entry.job.name(), fires.size(), fires.peekFirst(), fires.peekLast());
+        }
+        return new ArrayList<>(fires);
+    }
+
+    /**
+     * @return 성공 여부
+     */
+    private boolean runOnce(Entry entry, ZonedDateTime fire) {
+        IngestionJob job = entry.job;
+        IngestionJobState state = loadState(job.name());
+        Instant startedAt = Instant.now();
+        long started = System.nanoTime();
+        state.setLastStartedAt(startedAt);
+
+        boolean success;
+        try {
+            int processed = job.run(fire);
+            success = true;
+            state.setLastOutcome("SUCCESS");
+            state.setLastProcessed(processed);
+            state.setLastError(null);
+            state.setConsecutiveFailures(0);
+            // 늦게 끝난 수동 재실행이 더 최근 완료 시각을 되돌리지 않도록
+            if (state.getLastFireTime() == null || fire.toInstant().isAfter(state.getLastFireTime())) {
+                state.setLastFireTime(fire.toInstant());
+            }
+            log.info("✅ 수집 작업 완료: job={}, fireTime={}, processed={}", job.name(), fire, processed);
+        } catch (Exception e) {
+            success = false;
+            state.setLastOutcome("FAILED");
+            state.setLastError(truncate(e.toString()));
+            state.setConsecutiveFailures(state.getConsecutiveFailures() + 1);
+            log.error("❌ 수집 작업 실패: job={}, fireTime={}, 연속 실패={}",
+                    job.name(), fire, state.getConsecutiveFailures(), e);
+        }
+
+        long nanos = System.nanoTime() - started;
+        (success ? entry.success : entry.failure).record(nanos, TimeUnit.NANOSECONDS);
+        state.setLastFinishedAt(Instant.now());
+        state.setLastDurationMs(TimeUnit.NANOSECONDS.toMillis(nanos));
+
+        // 메모리 값은 이 노드가 성공한 예정 시각만 반영 (상태 행은 여러 노드가 공유)
+        // → 상태 저장이 실패해도 재시작 전까지는 같은 구간을 반복하지 않음
+        if (success && (entry.lastFireTime == null || fire.toInstant().isAfter(entry.lastFireTime))) {
+            entry.lastFireTime = fire.toInstant();
+        }
+        try {
+            stateRepository.save(state);
+        } catch (Exception e) {
+            log.warn("⚠️ 수집 작업 상태 저장 실패: job={}", job.name(), e);
+        }
+        return success;
+    }
+
+    // =========================
+    // 보조
+    // =========================
+    private IngestionJobState loadState(String name) {
+        try {
+            return stateRepository.findById(name).orElseGet(() -> newState(name));
+        } catch (Exception e) {
+            log.warn("⚠️ 수집 작업 상태 조회 실패 → 새 상태로 실행: job={}", name, e);
+            return newState(name);
+        }
+    }
+
+    private static IngestionJobState newState(String name) {
+        return IngestionJobState.builder().jobName(name).consecutiveFailures(0).build();
+    }
+
+    /**
+     * now 이전(포함) 가장 최근 예정 시각 (CronExpression은 다음 시각만 계산하므로 되돌아가며 탐색)
+     */
+    private ZonedDateTime previousFire(Entry entry, ZonedDateTime now) {
+        for (Duration lookback : List.of(Duration.ofHours(1), Duration.ofDays(1), Duration.ofDays(32), Duration.ofDays(366))) {
+            ZonedDateTime t = entry.cron.next(now.minus(lookback));
+            if (t == null || t.isAfter(now)) continue;
+
+            ZonedDateTime latest = t;
+            for (ZonedDateTime n = entry.cron.next(t); n != null && !n.isAfter(now); n = entry.cron.next(n)) {
+                latest = n;
+            }
+            return latest;
+        }
+        return null;
+    }
+
+    private long jitterMillis() {
+        return jitterSec <= 0 ? 0 : ThreadLocalRandom.current().nextLong(jitterSec * 1000 + 1);
+    }
+
+    private static String truncate(String message) {
+        return message.length() <= 1000 ? message : message.substring(0, 1000);
+    }
+
+    // 📊 작업별 실행 시간/결과, 실행 중 여부, 마지막 완료 예정 시각으로부터 경과 시간
+    private void registerMetrics(Entry entry) {
+        String name = entry.job.name();
+        entry.success = Timer.builder("ingestion.job.run")
+                .description("수집 작업 실행 시간")
+                .tag("job", name).tag("outcome", "success")
+                .register(meterRegistry);
+        entry.failure = Timer.builder("ingestion.job.run")
+                .description("수집 작업 실행 시간")
+                .tag("job", name).tag("outcome", "failure")
+                .register(meterRegistry);
+        entry.skipped = Counter.builder("ingestion.job.skipped")
+                .description("이전 실행과 겹쳐 건너뛴 수집 작업")
+                .tag("job", name)
+                .register(meterRegistry);
+        Gauge.builder("ingestion.job.running", entry, e -> e.running.get() ? 1 : 0)
+                .description("수집 작업 실행 중 여부")
+                .tag("job", name)
+                .register(meterRegistry);
+        Gauge.builder("ingestion.job.lag.seconds", entry,
+                        e -> e.lastFireTime == null ? Double.NaN : Instant.now().getEpochSecond() - e.lastFireTime.getEpochSecond())
+                .description("마지막으로 완료한 예정 시각으로부터 경과 시간")
+                .tag("job", name)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,64 @@
+package com.example.demo.job;
+
+import com.example.demo.service.ClusterCoordinator;
+import com.example.demo.service.KmaRequestPriority;
+import com.example.demo.service.KmaService;
+import com.example.demo.util.LogMaskUtil;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.example.demo.util.TimeUtils.toTm;
+
+/**
+ * ✅ 정시 실황 수집: 예정 시각 기준 지난 1시간
+ * - 이 인스턴스가 담당하는 지점만 수집 (클러스터 비활성 시 kma.stations 전체)
+ * - 한 지점이 실패해도 나머지 지점은 계속 수집, 실패가 있으면 예정 시각 전체를 재시도 (같은 시각 포인트는 덮어쓰기)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class KmaLiveIngestionJob implements IngestionJob {
+
+    private final KmaService kmaService;
+    private final ClusterCoordinator clusterCoordinator;
+
+    @Value("${ingestion.jobs.kma-live.cron:0 10 * * * *}")
+    private String cron;
+
+    @Override
+    public String name() {
+        return "kma-live";
+    }
+
+    @Override
+    public String cron() {
+        return cron;
+    }
+
+    @Override
+    public int run(ZonedDateTime fireTime) {
+        String tm1 = toTm(fireTime.minusHours(1).toInstant());
+        String tm2 = toTm(fireTime.toInstant());
+
+        int saved = 0;
+        List<String> failed = new ArrayList<>();
+        for (String station : clusterCoordinator.ownedStations()) {
+            try {
+                saved += kmaService.fetchAndStore(tm1, tm2, station, KmaRequestPriority.LIVE);
+            } catch (Exception e) {
+                failed.add(LogMaskUtil.mask(station));
+                log.error("❌ 정시 수집 실패 (station={})", LogMaskUtil.mask(station), e);
+            }
+        }
+        if (!failed.isEmpty()) {
+            throw new IllegalStateException("live fetch failed for stations " + failed);
+        }
+        return saved;
+    }
+}
@@ -0,0 +1,12 @@
+package com.example.demo.repository;
+
+import com.example.demo.domain.AlertEvent;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.List;
+
+public interface AlertEventRepository extends JpaRepository<AlertEvent, Long> {
+    // 최근 이력 (id 내림차순)
+    List<AlertEvent> findAllByOrderByIdDesc(Pageable pageable);
+}
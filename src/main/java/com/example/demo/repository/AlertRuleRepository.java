@@ -0,0 +1,11 @@
+package com.example.demo.repository;
+
+import com.example.demo.domain.AlertRule;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.List;
+
+public interface AlertRuleRepository extends JpaRepository<AlertRule, Long> {
+    List<AlertRule> findByEnabledTrue();
+    boolean existsByName(String name);
+}
@@ -0,0 +1,23 @@
+package com.example.demo.repository;
+
+import com.example.demo.domain.ClusterLease;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.Instant;
+
+public interface ClusterLeaseRepository extends JpaRepository<ClusterLease, String> {
+
+    // 📌 조건부 갱신: 내가 보유 중이거나 만료된 경우에만 획득 (UPDATE 한 문장 → 노드 간 경합에도 보유자는 하나)
+    @Modifying
+    @Query("update ClusterLease l set l.holder = :holder, l.expiresAt = :expiresAt " +
+            "where l.name = :name and (l.holder = :holder or l.expiresAt < :now)")
+    int acquire(@Param("name") String name, @Param("holder") String holder,
+                @Param("expiresAt") Instant expiresAt, @Param("now") Instant now);
+
+    @Modifying
+    @Query("update ClusterLease l set l.expiresAt = :now where l.name = :name and l.holder = :holder")
+    int release(@Param("name") String name, @Param("holder") String holder, @Param("now") Instant now);
+}
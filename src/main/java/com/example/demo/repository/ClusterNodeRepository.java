@@ -0,0 +1,24 @@
+package com.example.demo.repository;
+
+import com.example.demo.domain.ClusterNode;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.Instant;
+import java.util.List;
+
+public interface ClusterNodeRepository extends JpaRepository<ClusterNode, String> {
+
+    @Query("select n from ClusterNode n where n.heartbeatAt >= :since order by n.nodeId")
+    List<ClusterNode> findAlive(@Param("since") Instant since);
+
+    @Modifying
+    @Query("update ClusterNode n set n.heartbeatAt = :now where n.nodeId = :nodeId")
+    int touch(@Param("nodeId") String nodeId, @Param("now") Instant now);
+
+    @Modifying
+    @Query("delete from ClusterNode n where n.heartbeatAt < :before")
+    int deleteExpired(@Param("before") Instant before);
+}
@@ -1,12 +1,19 @@
 package com.example.demo.repository;
 
 import com.example.demo.domain.SensorMeasurement;
+import com.example.demo.domain.WindowedRow;
+import java.time.Duration;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.time.Instant;
 
 public interface InfluxDBRepository {
     void save(SensorMeasurement measurement);
 
+    // 📌 일괄 저장 (KMA 수집 등 대량 적재)
+    void saveAll(List<SensorMeasurement> measurements);
+
     // 특정 센서 (기간 제한)
     List<SensorMeasurement> findBySensorIdWithin(String bucket, String sensorName, long durationSec);
 
@@ -16,4 +23,30 @@ public interface InfluxDBRepository {
     // 📌 기간별 조회 (start ~ end)
     List<SensorMeasurement> findBySensorIdBetween(String bucket, String sensorName, Instant start, Instant end);
 
+    // 📌 센서 1개의 지점 집합 기간 조회 (stations가 비면 전 지점, 결과의 station 태그로 지점 구분)
+    List<SensorMeasurement> findBySensorAndStationsBetween(String bucket, String sensorName, List<String> stations,
+                                                           Instant start, Instant end);
+
+    // 📌 지점 간 집계: 지점 집합을 합쳐 every 창별 fn(mean | max | min) 값 (station 태그 없음, 시각 = 창 시작)
+    List<SensorMeasurement> findStationAggregate(String bucket, String sensorName, List<String> stations,
+                                                 Instant start, Instant end, Duration every, String fn);
+
+    // 📌 (sensor, station) 시리즈별 마지막 포인트 (최근 lookback 안, timeShift 미적용 UTC)
+    List<SensorMeasurement> findLatest(String bucket, Duration lookback);
+
+    // 📌 지점별 관측이 존재하는 정시 목록 (센서명 → 시간대 시작 시각, UTC)
+    Map<String, Set<Instant>> findObservedHours(String bucket, String station, Instant start, Instant end);
+
+    // 📌 한 지점의 센서 여러 개를 step 단위(fn: mean | last)로 집계해 시각별 한 행으로 (저장소에서 pivot)
+    // - 미지원 저장소는 supportsPivot() == false → 호출 측에서 원본 조회 후 리샘플링
+    // - 기본 구현은 빈 결과 (supportsPivot() == false 저장소는 호출되지 않음)
+    default boolean supportsPivot() {
+        return false;
+    }
+
+    default List<WindowedRow> findPivoted(String bucket, List<String> sensorNames, String station, Instant start,
+                                          Instant end, Duration step, String fn) {
+        return List.of();
+    }
+
 }
@@ -0,0 +1,7 @@
+package com.example.demo.repository;
+
+import com.example.demo.domain.IngestionJobState;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface IngestionJobStateRepository extends JpaRepository<IngestionJobState, String> {
+}
@@ -0,0 +1,17 @@
+package com.example.demo.repository;
+
+import com.example.demo.domain.KmaQuotaUsage;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+
+public interface KmaQuotaUsageRepository extends JpaRepository<KmaQuotaUsage, LocalDate> {
+
+    // 📌 원자적 증가 (인스턴스 간 동시 갱신에도 누락 없음)
+    @Modifying
+    @Query("update KmaQuotaUsage q set q.used = q.used + :count where q.usageDate = :date")
+    int increment(@Param("date") LocalDate date, @Param("count") long count);
+}
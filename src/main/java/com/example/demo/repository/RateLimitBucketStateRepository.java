@@ -0,0 +1,7 @@
+package com.example.demo.repository;
+
+import com.example.demo.domain.RateLimitBucketState;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface RateLimitBucketStateRepository extends JpaRepository<RateLimitBucketState, String> {
+}
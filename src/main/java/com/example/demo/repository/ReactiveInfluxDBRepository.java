@@ -0,0 +1,15 @@
+package com.example.demo.repository;
+
+import com.example.demo.domain.SensorMeasurement;
+import reactor.core.publisher.Flux;
+
+import java.time.Instant;
+
+public interface ReactiveInfluxDBRepository {
+
+    // 특정 센서 (기간 제한)
+    Flux<SensorMeasurement> findBySensorIdWithin(String bucket, String sensorName, long durationSec);
+
+    // 📌 기간별 조회 (start ~ end)
+    Flux<SensorMeasurement> findBySensorIdBetween(String bucket, String sensorName, Instant start, Instant end);
+}
@@ -0,0 +1,336 @@
+package com.example.demo.service;
+
+import com.example.demo.alert.AlertSink;
+import com.example.demo.domain.AlertRule;
+import com.example.demo.domain.SensorMeasurement;
+import com.example.demo.dto.AlertNotification;
+import com.example.demo.repository.AlertRuleRepository;
+import com.example.demo.util.SlidingWindow;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * 📌 수집 경로 임계값 알림 (IngestListener)
+ * - 포인트가 저장되는 즉시 (sensor, station) 시리즈별 슬라이딩 윈도우 갱신 → 해당 센서 규칙 판정 (포인트당 O(1))
+ *   → API 폴링 없이 수집 직후 수 초 안에 알림
+ * - 시리즈별 마지막 시각 이하 포인트는 무시 (겹치는 구간 재수집 중복, 늦게 도착한 과거 포인트)
+ * - alert.max-point-age-min보다 오래된 포인트는 윈도우에만 반영하고 판정하지 않음 (백필 구간으로 알림 폭주 방지)
+ * - 규칙×지점별 상태: 발생 시 1회 알림, 발생 중에는 renotifyMinutes마다만 재알림, clearThreshold를 넘어 돌아오면 해제 알림
+ * - 알림 전송은 전용 스레드 1개(순서 유지) + 크기 제한 대기열, 가득 차면 버리고 메트릭으로 집계
+ * - ⚠️ 윈도우/발생 상태는 인스턴스 메모리 → 재시작 직후 윈도우가 다시 찰 때까지 합계 규칙은 작게 판정되고,
+ *   재시작 전부터 발생 중이던 조건은 한 번 더 알림
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AlertEngine implements IngestListener {
+
+    private final AlertRuleRepository alertRuleRepository;
+    private final List<AlertSink> alertSinks;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${alert.enabled:true}")
+    private boolean enabled;
+
+    // 규칙에 sinks가 없을 때 사용할 전달 대상
+    @Value("${alert.default-sinks:log,table}")
+    private String defaultSinks;
+
+    @Value("${alert.max-point-age-min:180}")
+    private long maxPointAgeMin;
+
+    @Value("${alert.sink.queue-capacity:1000}")
+    private int queueCapacity;
+
+    private record SeriesKey(String sensor, String station) {}
+
+    private record RuleKey(long ruleId, String station) {}
+
+    private static final class SeriesState {
+        private long lastTime = Long.MIN_VALUE;
+        private final Map<Long, SlidingWindow> windows = new LinkedHashMap<>(); // 구간(ms) → 윈도우
+    }
+
+    private static final class RuleState {
+        private boolean firing;
+        private Instant since;
+        private Instant lastNotified;
+        private double lastValue;
+        private Instant lastObservedAt;
+    }
+
+    // 센서 이름 → 활성 규칙 (reload 시 통째로 교체)
+    private volatile Map<String, List<AlertRule>> rulesBySensor = Map.of();
+    private final Map<SeriesKey, SeriesState> series = new ConcurrentHashMap<>();
+    private final Map<RuleKey, RuleState> ruleStates = new ConcurrentHashMap<>();
+
+    private Map<String, AlertSink> sinksByName;
+    private ThreadPoolExecutor sender;
+
+    // 📊 메트릭
+    private Timer evaluateTimer;
+    private Counter skippedPoints;
+    private Counter droppedNotifications;
+    private final Map<String, Counter> counters = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    public void init() {
+        sinksByName = alertSinks.stream().collect(Collectors.toMap(AlertSink::name, s -> s));
+        sender = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, queueCapacity)),
+                new CustomizableThreadFactory("alert-sink-"),
+                (task, executor) -> droppedNotifications.increment());
+
+        evaluateTimer = Timer.builder("alert.evaluate")
+                .description("수집 배치당 알림 규칙 판정 시간")
+                .register(meterRegistry);
+        skippedPoints = Counter.builder("alert.points.skipped")
+                .description("중복/늦게 도착해 판정에서 제외한 포인트")
+                .register(meterRegistry);
+        droppedNotifications = Counter.builder("alert.notifications.dropped")
+                .description("전송 대기열이 가득 차 버린 알림")
+                .register(meterRegistry);
+        Gauge.builder("alert.firing", ruleStates, states -> states.values().stream().filter(s -> s.firing).count())
+                .description("발생 중인 알림 수 (규칙 × 지점)")
+                .register(meterRegistry);
+        Gauge.builder("alert.rules", this, engine -> engine.rulesBySensor.values().stream().mapToInt(List::size).sum())
+                .description("활성 알림 규칙 수")
+                .register(meterRegistry);
+
+        try {
+            reload();
+        } catch (Exception e) {
+            log.warn("⚠️ 알림 규칙 로드 실패 → 다음 주기에 재시도", e);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        sender.shutdown();
+    }
+
+    /**
+     * 규칙 변경 반영 (다른 인스턴스에서 수정한 규칙 포함)
+     */
+    @Scheduled(fixedDelayString = "${alert.rules.refresh-ms:30000}", initialDelayString = "${alert.rules.refresh-ms:30000}")
+    public void refreshScheduled() {
+        try {
+            reload();
+        } catch (Exception e) {
+            log.warn("⚠️ 알림 규칙 갱신 실패", e);
+        }
+    }
+
+    /**
+     * ✅ 활성 규칙 다시 로드 (삭제/비활성화된 규칙의 상태, 규칙 없는 센서의 윈도우 정리)
+     */
+    public synchronized void reload() {
+        Map<String, List<AlertRule>> bySensor = alertRuleRepository.findByEnabledTrue().stream()
+                .collect(Collectors.groupingBy(AlertRule::getSensorName));
+        Set<Long> ids = new HashSet<>();
+        bySensor.values().forEach(rules -> rules.forEach(rule -> ids.add(rule.getId())));
+
+        rulesBySensor = bySensor;
+        ruleStates.keySet().removeIf(key -> !ids.contains(key.ruleId()));
+        series.keySet().removeIf(key -> !bySensor.containsKey(key.sensor()));
+    }
+
+    public Set<String> sinkNames() {
+        return sinksByName.keySet();
+    }
+
+    @Override
+    public void onIngest(List<SensorMeasurement> points) {
+        Map<String, List<AlertRule>> rules = rulesBySensor;
+        if (!enabled || rules.isEmpty()) return;
+
+        long started = System.nanoTime();
+        long freshAfter = System.currentTimeMillis() - TimeUnit.MINUTES.toMillis(maxPointAgeMin);
+        for (SensorMeasurement point : points) {
+            List<AlertRule> sensorRules = rules.get(point.getSensorId());
+            if (sensorRules == null || point.getValue() == null || point.getSensingDate() == null) continue;
+
+            SeriesState state = series.computeIfAbsent(new SeriesKey(point.getSensorId(), point.getStation()), k -> new SeriesState());
+            synchronized (state) {
+                long time = point.getSensingDate().toEpochMilli();
+                if (time <= state.lastTime) {
+                    skippedPoints.increment();
+                    continue;
+                }
+                state.lastTime = time;
+                updateWindows(state, sensorRules, time, point.getValue());
+
+                if (time < freshAfter) continue;
+                for (AlertRule rule : sensorRules) {
+                    if (rule.getStation() == null || rule.getStation().equals(point.getStation())) {
+                        evaluate(rule, state, point);
+                    }
+                }
+            }
+        }
+        evaluateTimer.record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+    }
+
+    // 규칙이 쓰는 구간 길이별 윈도우 1개씩 (같은 구간 규칙은 공유), 더 이상 쓰지 않는 구간은 제거
+    private void updateWindows(SeriesState state, List<AlertRule> sensorRules, long time, double value) {
+        Set<Long> spans = new HashSet<>();
+        for (AlertRule rule : sensorRules) {
+            if (rule.getAggregate() != AlertRule.Aggregate.LAST) spans.add(spanMillis(rule));
+        }
+        state.windows.keySet().retainAll(spans);
+        for (Long span : spans) {
+            state.windows.computeIfAbsent(span, SlidingWindow::new);
+        }
+        for (SlidingWindow window : state.windows.values()) {
+            window.add(time, value);
+        }
+    }
+
+    private void evaluate(AlertRule rule, SeriesState state, SensorMeasurement point) {
+        double value = switch (rule.getAggregate()) {
+            case LAST -> point.getValue();
+            case SUM -> state.windows.get(spanMillis(rule)).sum();
+            case MIN -> state.windows.get(spanMillis(rule)).min();
+            case MAX -> state.windows.get(spanMillis(rule)).max();
+            case MEAN -> state.windows.get(spanMillis(rule)).mean();
+        };
+
+        RuleState rs = ruleStates.computeIfAbsent(new RuleKey(rule.getId(), point.getStation()), k -> new RuleState());
+        rs.lastValue = value;
+        rs.lastObservedAt = point.getSensingDate();
+        Instant now = Instant.now();
+
+        if (!rs.firing) {
+            if (breached(rule.getOperator(), value, rule.getThreshold())) {
+                rs.firing = true;
+                rs.since = point.getSensingDate();
+                rs.lastNotified = now;
+                notify(rule, point.getStation(), "FIRING", rs, now);
+            }
+        } else if (!breached(rule.getOperator(), value, clearThreshold(rule))) {
+            rs.firing = false;
+            notify(rule, point.getStation(), "RESOLVED", rs, now);
+            rs.since = null;
+        } else if (rule.getRenotifyMinutes() > 0
+                && Duration.between(rs.lastNotified, now).toMinutes() >= rule.getRenotifyMinutes()) {
+            rs.lastNotified = now;
+            notify(rule, point.getStation(), "FIRING", rs, now);
+        }
+    }
+
+    private static boolean breached(AlertRule.Operator operator, double value, double threshold) {
+        return switch (operator) {
+            case GT -> value > threshold;
+            case GTE -> value >= threshold;
+            case LT -> value < threshold;
+            case LTE -> value <= threshold;
+        };
+    }
+
+    private static double clearThreshold(AlertRule rule) {
+        return rule.getClearThreshold() != null ? rule.getClearThreshold() : rule.getThreshold();
+    }
+
+    private static long spanMillis(AlertRule rule) {
+        return TimeUnit.MINUTES.toMillis(rule.getWindowMinutes());
+    }
+
+    private void notify(AlertRule rule, String station, String alertState, RuleState rs, Instant now) {
+        counter("alert.transitions", "state", alertState.toLowerCase(), "알림 발생/해제 수").increment();
+        AlertNotification notification = toNotification(rule, station, alertState, rs, now);
+
+        for (String sinkName : sinkNamesOf(rule)) {
+            AlertSink sink = sinksByName.get(sinkName);
+            if (sink == null) {
+                log.warn("⚠️ 등록되지 않은 알림 sink: rule={} sink={}", rule.getName(), sinkName);
+                continue;
+            }
+            sender.execute(() -> {
+                try {
+                    sink.send(notification);
+                    counter("alert.notifications", "sink", sinkName, "알림 전송 성공").increment();
+                } catch (Exception e) {
+                    counter("alert.notifications.failed", "sink", sinkName, "알림 전송 실패").increment();
+                    log.error("❌ 알림 전송 실패: rule={} sink={}", rule.getName(), sinkName, e);
+                }
+            });
+        }
+    }
+
+    private List<String> sinkNamesOf(AlertRule rule) {
+        String sinks = rule.getSinks() == null || rule.getSinks().isBlank() ? defaultSinks : rule.getSinks();
+        return Arrays.stream(sinks.split(",")).map(String::trim).filter(s -> !s.isEmpty()).distinct().toList();
+    }
+
+    private Counter counter(String name, String tagKey, String tagValue, String description) {
+        return counters.computeIfAbsent(name + ":" + tagValue, k -> Counter.builder(name)
+                .description(description)
+                .tag(tagKey, tagValue)
+                .register(meterRegistry));
+    }
+
+    /**
+     * ✅ 발생 중인 알림 목록 (발생 시각 순)
+     */
+    public List<AlertNotification> active() {
+        Map<Long, AlertRule> rulesById = new LinkedHashMap<>();
+        rulesBySensor.values().forEach(rules -> rules.forEach(rule -> rulesById.put(rule.getId(), rule)));
+
+        List<AlertNotification> result = new ArrayList<>();
+        ruleStates.forEach((key, rs) -> {
+            AlertRule rule = rulesById.get(key.ruleId());
+            if (rule == null) return;
+            SeriesState state = series.get(new SeriesKey(rule.getSensorName(), key.station()));
+            if (state == null) return;
+            synchronized (state) {
+                if (rs.firing) result.add(toNotification(rule, key.station(), "FIRING", rs, rs.lastNotified));
+            }
+        });
+        result.sort(Comparator.comparing(AlertNotification::getFiringSince));
+        return result;
+    }
+
+    private static AlertNotification toNotification(AlertRule rule, String station, String alertState, RuleState rs, Instant notifiedAt) {
+        return AlertNotification.builder()
+                .ruleId(rule.getId())
+                .ruleName(rule.getName())
+                .sensorName(rule.getSensorName())
+                .station(station)
+                .state(alertState)
+                .aggregate(rule.getAggregate().name())
+                .windowMinutes(rule.getWindowMinutes())
+                .operator(rule.getOperator().name())
+                .threshold(alertState.equals("RESOLVED") ? clearThreshold(rule) : rule.getThreshold())
+                .value(rs.lastValue)
+                .observedAt(rs.lastObservedAt)
+                .firingSince(rs.since)
+                .notifiedAt(notifiedAt)
+                .build();
+    }
+}
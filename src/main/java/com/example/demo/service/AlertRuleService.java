@@ -0,0 +1,147 @@
+package com.example.demo.service;
+
+import com.example.demo.domain.AlertEvent;
+import com.example.demo.domain.AlertRule;
+import com.example.demo.dto.AlertRuleRequest;
+import com.example.demo.exception.CustomException;
+import com.example.demo.exception.ErrorCode;
+import com.example.demo.repository.AlertEventRepository;
+import com.example.demo.repository.AlertRuleRepository;
+import com.example.demo.repository.SensorRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 📌 알림 규칙 관리 (alert_rule) + 이력 조회 (alert_event)
+ * - 변경 즉시 이 인스턴스의 AlertEngine에 반영, 다른 인스턴스는 alert.rules.refresh-ms 주기로 반영
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AlertRuleService {
+
+    private final AlertRuleRepository alertRuleRepository;
+    private final AlertEventRepository alertEventRepository;
+    private final SensorRepository sensorRepository;
+    private final AlertEngine alertEngine;
+
+    // 집계 구간 상한 (시리즈별 윈도우 메모리 = 구간 안 포인트 수)
+    @Value("${alert.max-window-minutes:1440}")
+    private int maxWindowMinutes;
+
+    public List<AlertRule> list() {
+        return alertRuleRepository.findAll();
+    }
+
+    /**
+     * @throws CustomException INVALID_REQUEST - 잘못된 규칙 / NOT_FOUND - 없는 센서 / CONFLICT - 같은 이름
+     */
+    public AlertRule create(AlertRuleRequest request) {
+        AlertRule rule = new AlertRule();
+        apply(rule, request);
+        if (alertRuleRepository.existsByName(rule.getName())) {
+            throw new CustomException(ErrorCode.CONFLICT);
+        }
+        rule.setCreatedAt(Instant.now());
+        rule.setUpdatedAt(rule.getCreatedAt());
+
+        AlertRule saved = alertRuleRepository.save(rule);
+        log.info("✅ 알림 규칙 생성: id={} name={}", saved.getId(), saved.getName());
+        alertEngine.reload();
+        return saved;
+    }
+
+    public AlertRule update(Long id, AlertRuleRequest request) {
+        AlertRule rule = alertRuleRepository.findById(id).orElseThrow(() -> new CustomException(ErrorCode.NOT_FOUND));
+        String previousName = rule.getName();
+        apply(rule, request);
+        if (!rule.getName().equals(previousName) && alertRuleRepository.existsByName(rule.getName())) {
+            throw new CustomException(ErrorCode.CONFLICT);
+        }
+        rule.setUpdatedAt(Instant.now());
+
+        AlertRule saved = alertRuleRepository.save(rule);
+        log.info("✅ 알림 규칙 수정: id={} name={}", saved.getId(), saved.getName());
+        alertEngine.reload();
+        return saved;
+    }
+
+    public void delete(Long id) {
+        if (!alertRuleRepository.existsById(id)) {
+            throw new CustomException(ErrorCode.NOT_FOUND);
+        }
+        alertRuleRepository.deleteById(id);
+        log.info("🗑️ 알림 규칙 삭제: id={}", id);
+        alertEngine.reload();
+    }
+
+    public List<AlertEvent> events(int limit) {
+        return alertEventRepository.findAllByOrderByIdDesc(PageRequest.of(0, Math.max(1, Math.min(limit, 1000))));
+    }
+
+    private void apply(AlertRule rule, AlertRuleRequest request) {
+        if (isBlank(request.getName()) || isBlank(request.getSensorName())
+                || request.getThreshold() == null || isBlank(request.getOperator())) {
+            throw new CustomException(ErrorCode.INVALID_REQUEST);
+        }
+        if (sensorRepository.findByName(request.getSensorName().trim()).isEmpty()) {
+            throw new CustomException(ErrorCode.NOT_FOUND);
+        }
+
+        AlertRule.Aggregate aggregate = parse(AlertRule.Aggregate.class, isBlank(request.getAggregate()) ? "LAST" : request.getAggregate());
+        AlertRule.Operator operator = parse(AlertRule.Operator.class, request.getOperator());
+        int windowMinutes = aggregate == AlertRule.Aggregate.LAST ? 0
+                : request.getWindowMinutes() == null ? -1 : request.getWindowMinutes();
+        if (aggregate != AlertRule.Aggregate.LAST && (windowMinutes <= 0 || windowMinutes > maxWindowMinutes)) {
+            throw new CustomException(ErrorCode.INVALID_REQUEST);
+        }
+
+        // 해제 기준은 발생 기준보다 안쪽이어야 함 (GT: clear <= threshold, LT: clear >= threshold)
+        Double clear = request.getClearThreshold();
+        boolean upward = operator == AlertRule.Operator.GT || operator == AlertRule.Operator.GTE;
+        if (clear != null && (upward ? clear > request.getThreshold() : clear < request.getThreshold())) {
+            throw new CustomException(ErrorCode.INVALID_REQUEST);
+        }
+
+        int renotify = request.getRenotifyMinutes() == null ? 0 : request.getRenotifyMinutes();
+        if (renotify < 0) {
+            throw new CustomException(ErrorCode.INVALID_REQUEST);
+        }
+
+        String sinks = isBlank(request.getSinks()) ? null : request.getSinks().replace(" ", "");
+        if (sinks != null && !Arrays.stream(sinks.split(",")).filter(s -> !s.isEmpty()).allMatch(alertEngine.sinkNames()::contains)) {
+            throw new CustomException(ErrorCode.INVALID_REQUEST);
+        }
+
+        rule.setName(request.getName().trim());
+        rule.setSensorName(request.getSensorName().trim());
+        rule.setStation(isBlank(request.getStation()) ? null : request.getStation().trim());
+        rule.setAggregate(aggregate);
+        rule.setWindowMinutes(windowMinutes);
+        rule.setOperator(operator);
+        rule.setThreshold(request.getThreshold());
+        rule.setClearThreshold(clear);
+        rule.setRenotifyMinutes(renotify);
+        rule.setSinks(sinks);
+        rule.setEnabled(request.getEnabled() == null || request.getEnabled());
+    }
+
+    private static <E extends Enum<E>> E parse(Class<E> type, String value) {
+        try {
+            return Enum.valueOf(type, value.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new CustomException(ErrorCode.INVALID_REQUEST);
+        }
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
+}
@@ -0,0 +1,213 @@
+package com.example.demo.service;
+
+import com.example.demo.domain.ClusterNode;
+import com.example.demo.dto.ClusterStatus;
+import com.example.demo.util.StationRing;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+
+import java.net.InetAddress;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 📌 여러 replica 간 수집 작업 분담 (cluster.enabled=true, MariaDB만 공유)
+ * - heartbeat-ms마다 cluster_node에 heartbeat → node-ttl-sec 안에 기록한 노드가 멤버
+ *   (전용 스레드 → @Scheduled 공용 스레드의 긴 작업(계층 집계 등)에 밀려 리스가 만료되지 않도록)
+ * - 멤버 목록으로 지점 consistent hash ring 계산 → 각 노드는 자기 지점만 정시 수집
+ *   (노드 합류/이탈 시 다음 heartbeat에서 자동 재분배, 이동하는 지점은 해당 노드 구간뿐)
+ * - cluster_lease "leader" 리스를 보유한 노드 하나만 단기예보/누락 재수집/초기 적재 실행
+ *   리더가 갱신을 멈추면 lease-ttl-sec 후 다른 노드가 획득
+ * - 비활성(기본): 단일 인스턴스 → 모든 지점 담당 + 항상 리더
+ * ⚠️ 리스 만료는 노드 시계 기준 → 노드 간 시계 오차는 lease-ttl-sec보다 충분히 작아야 함 (NTP)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ClusterCoordinator {
+
+    private static final String LEADER_LEASE = "leader";
+
+    private final ClusterMembershipStore store;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${cluster.enabled:false}")
+    private boolean enabled;
+
+    @Value("${cluster.node-id:}")
+    private String configuredNodeId;
+
+    @Value("${cluster.heartbeat-ms:10000}")
+    private long heartbeatMs;
+
+    @Value("${cluster.node-ttl-sec:30}")
+    private long nodeTtlSec;
+
+    @Value("${cluster.lease-ttl-sec:30}")
+    private long leaseTtlSec;
+
+    @Value("${cluster.virtual-nodes:64}")
+    private int virtualNodes;
+
+    @Value("${kma.stations}")
+    private List<String> stations;
+
+    private String nodeId;
+    private String host;
+    private final Instant startedAt = Instant.now();
+
+    private volatile List<String> members = List.of();
+    private volatile List<String> ownedStations = List.of();
+    // 리더 리스 유효 시각 (이 노드 기준, DB 장애로 갱신 못 하면 스스로 리더 해제)
+    private volatile Instant leaderUntil = Instant.EPOCH;
+
+    private ScheduledExecutorService heartbeatExecutor;
+
+    @PostConstruct
+    public void init() {
+        host = hostName();
+        nodeId = configuredNodeId == null || configuredNodeId.isBlank()
+                ? host + "-" + UUID.randomUUID().toString().substring(0, 8)
+                : configuredNodeId;
+        ownedStations = List.copyOf(stations);
+
+        Gauge.builder("cluster.leader", this, c -> c.isLeader() ? 1 : 0)
+                .description("이 인스턴스가 리더인지")
+                .register(meterRegistry);
+        Gauge.builder("cluster.members", this, c -> c.members.size())
+                .description("살아 있는 클러스터 노드 수")
+                .register(meterRegistry);
+        Gauge.builder("cluster.stations.owned", this, c -> c.ownedStations.size())
+                .description("이 인스턴스가 정시 수집하는 지점 수")
+                .register(meterRegistry);
+
+        if (!enabled) return;
+        log.info("🤝 클러스터 참여: nodeId={}", nodeId);
+        // 초기 적재(ServerInitializationFixture) 전에 멤버십/리더 확정
+        heartbeat();
+
+        heartbeatExecutor = Executors.newSingleThreadScheduledExecutor(new CustomizableThreadFactory("cluster-heartbeat-"));
+        heartbeatExecutor.scheduleWithFixedDelay(this::heartbeat, heartbeatMs, heartbeatMs, TimeUnit.MILLISECONDS);
+    }
+
+    public void heartbeat() {
+        if (!enabled) return;
+
+        Instant now = Instant.now();
+        try {
+            store.heartbeat(nodeId, host, startedAt, now, now.minus(nodeTtlSec * 10, ChronoUnit.SECONDS));
+            List<String> alive = store.alive(now.minusSeconds(nodeTtlSec)).stream()
+                    .map(ClusterNode::getNodeId)
+                    .toList();
+            rebalance(alive);
+        } catch (Exception e) {
+            log.warn("⚠️ 클러스터 heartbeat 실패 → 이전 지점 분담 유지", e);
+        }
+
+        boolean wasLeader = isLeader();
+        try {
+            if (store.tryAcquire(LEADER_LEASE, nodeId, now.plusSeconds(leaseTtlSec), now)) {
+                // 갱신 주기만큼 여유를 두고 만료 전에 스스로 해제
+                leaderUntil = now.plusSeconds(leaseTtlSec).minusMillis(heartbeatMs);
+            } else {
+                leaderUntil = Instant.EPOCH;
+            }
+        } catch (Exception e) {
+            log.warn("⚠️ 리더 리스 갱신 실패", e);
+        }
+        if (wasLeader != isLeader()) {
+            log.info(isLeader() ? "👑 리더 획득: nodeId={}" : "🔻 리더 해제: nodeId={}", nodeId);
+        }
+    }
+
+    private void rebalance(List<String> alive) {
+        if (!alive.contains(nodeId)) {
+            alive = new ArrayList<>(alive);
+            alive.add(nodeId); // 방금 기록한 heartbeat가 조회에 안 보이는 경우 (복제 지연 등)
+            alive.sort(null);
+        }
+        if (alive.equals(members)) return;
+
+        StationRing next = new StationRing(alive, virtualNodes);
+        List<String> owned = next.ownedBy(nodeId, stations);
+        log.info("🔀 지점 재분배: members={}, 담당 지점 {}개 → {}개", alive, ownedStations.size(), owned.size());
+        ownedStations = List.copyOf(owned);
+        members = List.copyOf(alive);
+    }
+
+    @PreDestroy
+    public void leave() {
+        if (!enabled) return;
+        // 탈퇴 기록 후 heartbeat가 다시 멤버로 등록하지 않도록 먼저 중지
+        if (heartbeatExecutor != null) {
+            heartbeatExecutor.shutdownNow();
+            try {
+                heartbeatExecutor.awaitTermination(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        // 다음 heartbeat를 기다리지 않고 다른 노드가 바로 재분배/리더 획득
+        try {
+            store.leave(nodeId);
+            if (isLeader()) store.release(LEADER_LEASE, nodeId, Instant.now());
+        } catch (Exception e) {
+            log.warn("⚠️ 클러스터 탈퇴 기록 실패 (ttl 후 자동 제외)", e);
+        }
+        leaderUntil = Instant.EPOCH;
+    }
+
+    // =========================
+    // 조회
+    // =========================
+    public boolean isLeader() {
+        return !enabled || Instant.now().isBefore(leaderUntil);
+    }
+
+    /** 이 인스턴스가 정시 수집할 지점 (kma.stations 중) */
+    public List<String> ownedStations() {
+        return ownedStations;
+    }
+
+    public ClusterStatus status() {
+        String leaderId = null;
+        if (enabled) {
+            try {
+                leaderId = store.holder(LEADER_LEASE, Instant.now());
+            } catch (Exception e) {
+                log.warn("⚠️ 리더 조회 실패", e);
+            }
+        } else {
+            leaderId = nodeId;
+        }
+        return ClusterStatus.builder()
+                .enabled(enabled)
+                .nodeId(nodeId)
+                .leader(isLeader())
+                .leaderId(leaderId)
+                .members(enabled ? members : List.of(nodeId))
+                .ownedStations(ownedStations)
+                .build();
+    }
+
+    private static String hostName() {
+        try {
+            return InetAddress.getLocalHost().getHostName();
+        } catch (Exception e) {
+            return "node";
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package com.example.demo.service;
+
+import com.example.demo.domain.ClusterLease;
+import com.example.demo.domain.ClusterNode;
+import com.example.demo.repository.ClusterLeaseRepository;
+import com.example.demo.repository.ClusterNodeRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * 📌 MariaDB 기반 클러스터 멤버십/리스 저장소 (노드 간 공유 서비스는 MariaDB뿐)
+ * - 노드: cluster_node에 heartbeat 기록, 최근 ttl 안에 기록한 노드만 멤버
+ * - 리스: cluster_lease 조건부 UPDATE로 획득/갱신 (행이 없으면 생성, 동시 생성 충돌 시 갱신으로 재시도)
+ */
+@Service
+@RequiredArgsConstructor
+public class ClusterMembershipStore {
+
+    private final ClusterNodeRepository nodeRepository;
+    private final ClusterLeaseRepository leaseRepository;
+
+    /**
+     * ✅ heartbeat 기록 (없으면 등록) + 오래전에 사라진 노드 정리
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void heartbeat(String nodeId, String host, Instant startedAt, Instant now, Instant purgeBefore) {
+        if (nodeRepository.touch(nodeId, now) == 0) {
+            nodeRepository.save(ClusterNode.builder()
+                    .nodeId(nodeId).host(host).startedAt(startedAt).heartbeatAt(now)
+                    .build());
+        }
+        nodeRepository.deleteExpired(purgeBefore);
+    }
+
+    @Transactional(readOnly = true)
+    public List<ClusterNode> alive(Instant since) {
+        return nodeRepository.findAlive(since);
+    }
+
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void leave(String nodeId) {
+        nodeRepository.deleteById(nodeId);
+    }
+
+    /**
+     * ✅ 리스 획득/갱신
+     * @return 획득(보유) 여부
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public boolean tryAcquire(String name, String holder, Instant expiresAt, Instant now) {
+        if (leaseRepository.acquire(name, holder, expiresAt, now) > 0) return true;
+        if (leaseRepository.existsById(name)) return false;
+        try {
+            leaseRepository.saveAndFlush(ClusterLease.builder().name(name).holder(holder).expiresAt(expiresAt).build());
+            return true;
+        } catch (DataIntegrityViolationException e) {
+            return false; // 다른 노드가 먼저 생성
+        }
+    }
+
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void release(String name, String holder, Instant now) {
+        leaseRepository.release(name, holder, now);
+    }
+
+    /** 현재 유효한 리스 보유 노드 (없으면 null) */
+    @Transactional(readOnly = true)
+    public String holder(String name, Instant now) {
+        return leaseRepository.findById(name)
+                .filter(lease -> lease.getExpiresAt().isAfter(now))
+                .map(ClusterLease::getHolder)
+                .orElse(null);
+    }
+}
@@ -0,0 +1,337 @@
+package com.example.demo.service;
+
+import com.example.demo.constants.HttpStatusCodeConstants;
+import com.example.demo.dto.FetchJobStatus;
+import com.example.demo.exception.CustomException;
+import com.example.demo.exception.ErrorCode;
+import com.example.demo.util.LogMaskUtil;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static com.example.demo.util.TimeUtils.toInstant;
+import static com.example.demo.util.TimeUtils.toTm;
+
+/**
+ * 📌 장기간 수동 수집 비동기 작업 (KMA 실황 / 단기예보 개황)
+ * - 요청 스레드는 작업 id만 받고 바로 반환 → 몇 달치 수집도 Tomcat 스레드/프록시 타임아웃과 무관
+ * - 구간을 chunk-hours 단위로 나눠 순서대로 수집, 한 구간이 실패해도 다음 구간 계속 (실패 구간은 errors에 기록)
+ * - 작업은 workers개 스레드에서 실행, 대기 max-queued개 초과 시 거절 (KMA 호출 속도는 KmaRequestScheduler가 제한)
+ * - 같은 종류/지점의 대기·진행 중 작업과 구간이 겹치면 거절 (완전히 같은 구간이면 기존 작업 반환)
+ * - 진행 상황은 이 인스턴스 메모리에만 보관 (완료 작업은 최근 history개)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class FetchJobService {
+
+    public enum Type { KMA, FORECAST }
+
+    enum State { QUEUED, RUNNING, COMPLETED, COMPLETED_WITH_ERRORS, FAILED, CANCELLED }
+
+    private final KmaService kmaService;
+    private final ForecastSummaryService forecastSummaryService;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${kma.station}")
+    private String defaultStation;
+
+    @Value("${kma.fetch-jobs.workers:2}")
+    private int workers;
+
+    @Value("${kma.fetch-jobs.max-queued:20}")
+    private int maxQueued;
+
+    @Value("${kma.fetch-jobs.chunk-hours:24}")
+    private int chunkHours;
+
+    @Value("${kma.fetch-jobs.forecast-chunk-hours:168}")
+    private int forecastChunkHours;
+
+    @Value("${kma.fetch-jobs.max-days:366}")
+    private int maxDays;
+
+    @Value("${kma.fetch-jobs.history:100}")
+    private int history;
+
+    @Value("${kma.fetch-jobs.max-errors:20}")
+    private int maxErrors;
+
+    private ThreadPoolExecutor executor;
+
+    // 작업 id → 작업 (제출 순서 유지)
+    private final Map<String, Job> jobs = Collections.synchronizedMap(new LinkedHashMap<>());
+
+    @PostConstruct
+    public void init() {
+        executor = new ThreadPoolExecutor(workers, workers, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, maxQueued)),
+                new CustomizableThreadFactory("fetch-job-"),
+                new ThreadPoolExecutor.AbortPolicy());
+
+        Gauge.builder("kma.fetch.jobs.active", executor, ThreadPoolExecutor::getActiveCount)
+                .description("실행 중인 수동 수집 작업 수")
+                .register(meterRegistry);
+        Gauge.builder("kma.fetch.jobs.queued", executor, e -> e.getQueue().size())
+                .description("대기 중인 수동 수집 작업 수")
+                .register(meterRegistry);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    // =========================
+    // 요청
+    // =========================
+
+    /**
+     * ✅ 작업 제출
+     * @throws CustomException INVALID_REQUEST - 잘못된 구간 / CONFLICT - 겹치는 작업 진행 중 / TOO_MANY_REQUESTS - 대기열 가득
+     */
+    public FetchJobStatus submit(Type type, String station, String tm1, String tm2) {
+        String stn = station == null || station.isBlank() ? defaultStation : station;
+        Instant start = parse(tm1);
+        Instant end = parse(tm2);
+        if (end.isBefore(start) || Duration.between(start, end).toDays() > maxDays) {
+            throw new CustomException(ErrorCode.INVALID_REQUEST);
+        }
+
+        Job job;
+        synchronized (jobs) {
+            for (Job other : jobs.values()) {
+                if (!other.isActive() || other.type != type || !other.station.equals(stn)) continue;
+                if (other.start.equals(start) && other.end.equals(end)) {
+                    return other.toStatus(); // 같은 요청 재전송 → 기존 작업
+                }
+                if (!other.end.isBefore(start) && !end.isBefore(other.start)) {
+                    log.warn("🚫 겹치는 수집 작업 진행 중: type={}, 기존 job={}", type, other.id);
+                    throw new CustomException(ErrorCode.CONFLICT);
+                }
+            }
+
+            job = new Job(UUID.randomUUID().toString(), type, stn, start, end,
+                    split(start, end, type == Type.KMA ? chunkHours : forecastChunkHours));
+            try {
+                job.future = executor.submit(() -> run(job));
+            } catch (RejectedExecutionException e) {
+                throw new CustomException(ErrorCode.TOO_MANY_REQUESTS);
+            }
+            jobs.put(job.id, job);
+            trimHistory();
+        }
+
+        log.info("📥 수집 작업 제출: id={}, type={}, station={}, {} ~ {} ({}개 구간)",
+                job.id, type, LogMaskUtil.mask(stn), toTm(start), toTm(end), job.chunks.size());
+        return job.toStatus();
+    }
+
+    public FetchJobStatus get(String id) {
+        return find(id).toStatus();
+    }
+
+    public List<FetchJobStatus> list() {
+        synchronized (jobs) {
+            return jobs.values().stream().map(Job::toStatus).toList();
+        }
+    }
+
+    /**
+     * ✅ 취소: 대기 중이면 바로, 실행 중이면 진행 중인 구간 이후 중단 (KMA 호출 대기 중이면 즉시)
+     */
+    public FetchJobStatus cancel(String id) {
+        Job job = find(id);
+        if (job.isActive()) {
+            job.cancelled = true;
+            if (job.future != null) job.future.cancel(true);
+            if (job.state == State.QUEUED) job.finish(State.CANCELLED);
+            log.info("🛑 수집 작업 취소 요청: id={}", id);
+        }
+        return job.toStatus();
+    }
+
+    // =========================
+    // 실행
+    // =========================
+    private void run(Job job) {
+        if (job.cancelled) return;
+        job.state = State.RUNNING;
+        job.startedAt = Instant.now();
+
+        for (Instant[] chunk : job.chunks) {
+            if (job.cancelled || Thread.currentThread().isInterrupted()) break;
+
+            String from = toTm(chunk[0]);
+            String to = toTm(chunk[1]);
+            try {
+                if (job.type == Type.KMA) {
+                    job.saved.addAndGet(kmaService.fetchAndStore(from, to, job.station, KmaRequestPriority.MANUAL));
+                } else {
+                    int status = forecastSummaryService.fetchAndSave(from, to, KmaRequestPriority.MANUAL);
+                    if (status >= HttpStatusCodeConstants.FORCE_ERROR) {
+                        throw new IllegalStateException("status=" + status);
+                    }
+                    if (status == HttpStatusCodeConstants.OK) job.saved.incrementAndGet();
+                }
+            } catch (Exception e) {
+                if (job.cancelled) break;
+                job.chunksFailed.incrementAndGet();
+                job.error(from + "~" + to + ": " + e.getMessage(), maxErrors);
+                log.warn("⚠️ 수집 작업 구간 실패: id={}, {} ~ {}", job.id, from, to, e);
+            }
+            job.chunksDone.incrementAndGet();
+        }
+
+        State result;
+        if (job.cancelled) {
+            result = State.CANCELLED;
+        } else if (job.chunksFailed.get() == 0) {
+            result = State.COMPLETED;
+        } else if (job.chunksFailed.get() < job.chunks.size()) {
+            result = State.COMPLETED_WITH_ERRORS;
+        } else {
+            result = State.FAILED;
+        }
+        job.finish(result);
+        log.info("✅ 수집 작업 종료: id={}, state={}, 저장 {}건, 실패 구간 {}개",
+                job.id, result, job.saved.get(), job.chunksFailed.get());
+    }
+
+    // =========================
+    // 보조
+    // =========================
+    private Job find(String id) {
+        Job job = jobs.get(id);
+        if (job == null) throw new CustomException(ErrorCode.NOT_FOUND);
+        return job;
+    }
+
+    // 완료 작업은 최근 history개만 보관
+    private void trimHistory() {
+        int finished = (int) jobs.values().stream().filter(j -> !j.isActive()).count();
+        Iterator<Job> it = jobs.values().iterator();
+        while (finished > history && it.hasNext()) {
+            if (!it.next().isActive()) {
+                it.remove();
+                finished--;
+            }
+        }
+    }
+
+    private static Instant parse(String tm) {
+        try {
+            return toInstant(tm.length() == 10 ? tm + "00" : tm);
+        } catch (DateTimeParseException e) {
+            throw new CustomException(ErrorCode.INVALID_REQUEST);
+        }
+    }
+
+    /**
+     * [start, end]를 hours 단위로 분할 (KMA 요청 구간은 양 끝 포함 → 구간 끝은 다음 구간 시작 1분 전)
+     */
+    static List<Instant[]> split(Instant start, Instant end, int hours) {
+        List<Instant[]> chunks = new ArrayList<>();
+        Duration step = Duration.ofHours(Math.max(1, hours));
+        for (Instant from = start; !from.isAfter(end); from = from.plus(step)) {
+            Instant next = from.plus(step);
+            chunks.add(new Instant[]{from, next.isAfter(end) ? end : next.minus(1, ChronoUnit.MINUTES)});
+        }
+        return chunks;
+    }
+
+    private static final class Job {
+        private final String id;
+        private final Type type;
+        private final String station;
+        private final Instant start;
+        private final Instant end;
+        private final List<Instant[]> chunks;
+        private final Instant createdAt = Instant.now();
+        private final AtomicInteger chunksDone = new AtomicInteger();
+        private final AtomicInteger chunksFailed = new AtomicInteger();
+        private final AtomicLong saved = new AtomicLong();
+        private final List<String> errors = Collections.synchronizedList(new ArrayList<>());
+        private volatile State state = State.QUEUED;
+        private volatile boolean cancelled;
+        private volatile Instant startedAt;
+        private volatile Instant finishedAt;
+        private volatile Future<?> future;
+
+        Job(String id, Type type, String station, Instant start, Instant end, List<Instant[]> chunks) {
+            this.id = id;
+            this.type = type;
+            this.station = station;
+            this.start = start;
+            this.end = end;
+            this.chunks = chunks;
+        }
+
+        boolean isActive() {
+            return state == State.QUEUED || state == State.RUNNING;
+        }
+
+        void error(String message, int max) {
+            synchronized (errors) {
+                errors.add(message);
+                if (errors.size() > max) errors.remove(0);
+            }
+        }
+
+        synchronized void finish(State state) {
+            if (!isActive()) return;
+            this.finishedAt = Instant.now();
+            this.state = state;
+        }
+
+        FetchJobStatus toStatus() {
+            int done = chunksDone.get();
+            List<String> errorsCopy;
+            synchronized (errors) {
+                errorsCopy = List.copyOf(errors);
+            }
+            return FetchJobStatus.builder()
+                    .id(id)
+                    .type(type.name())
+                    .station(station)
+                    .tm1(toTm(start))
+                    .tm2(toTm(end))
+                    .state(state.name())
+                    .chunks(chunks.size())
+                    .chunksDone(done)
+                    .chunksFailed(chunksFailed.get())
+                    .saved(saved.get())
+                    .percent(chunks.isEmpty() ? 100 : Math.round(done * 1000.0 / chunks.size()) / 10.0)
+                    .errors(errorsCopy)
+                    .createdAt(createdAt)
+                    .startedAt(startedAt)
+                    .finishedAt(finishedAt)
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.example.demo.service;
+
+import com.example.demo.domain.ForecastSummary;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * 📌 단기예보 개황(fct_afs_ds) 응답 파서
+ * - #START7777 / #7777END 마커 제거 → 따옴표 없는 JSON 파싱 → ForecastSummary 변환
+ * - 정규식/포매터는 미리 컴파일해 재사용
+ */
+public class ForecastSummaryParser {
+
+    private static final Pattern START_MARKER = Pattern.compile("(?s)#START7777");
+    private static final Pattern END_MARKER = Pattern.compile("#7777END");
+    private static final DateTimeFormatter JSON_FMT = DateTimeFormatter.ofPattern("yyyy.MM.dd.HH:mm");
+
+    // ✅ 따옴표 없는 JSON 필드 허용
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .configure(JsonParser.Feature.ALLOW_UNQUOTED_FIELD_NAMES, true);
+
+    /**
+     * ✅ 응답 전체 파싱
+     * @return fct_afs_ds 배열이 없거나 비어있으면 빈 목록
+     */
+    public List<ForecastSummary> parse(String response) throws JsonProcessingException {
+        // ✅ #START7777, #7777END 제거
+        String cleaned = END_MARKER.matcher(START_MARKER.matcher(response).replaceAll("")).replaceAll("").trim();
+
+        // ✅ JSON 파싱
+        JsonNode root = objectMapper.readTree(cleaned);
+        JsonNode dataArray = root.get("fct_afs_ds");
+        if (dataArray == null || !dataArray.isArray() || dataArray.isEmpty()) {
+            return List.of();
+        }
+
+        List<ForecastSummary> summaries = new ArrayList<>(dataArray.size());
+        for (JsonNode node : dataArray) {
+            summaries.add(ForecastSummary.builder()
+                    .stnId(node.get("stn_id").asInt())
+                    .tmFc(LocalDateTime.parse(node.get("tm_fc").asText(), JSON_FMT))
+                    .manFcId(node.hasNonNull("man_fc_id") ? node.get("man_fc_id").asText() : null)
+                    .manFc(node.hasNonNull("man_fc") ? node.get("man_fc").asText() : null)
+                    .cnt(node.hasNonNull("cnt") ? node.get("cnt").asInt() : null)
+                    .wfSv1(node.path("wf_sv1").asText(null))
+                    .wfSv2(node.path("wf_sv2").asText(null))
+                    .wfSv3(node.path("wf_sv3").asText(null))
+                    .wn(node.path("wn").asText(null))
+                    .wr(node.path("wr").asText(null))
+                    .rem(node.path("rem").asText(null))
+                    .build());
+        }
+        return summaries;
+    }
+}
@@ -0,0 +1,181 @@
+package com.example.demo.service;
+
+import com.example.demo.dto.GapRange;
+import com.example.demo.repository.InfluxDBRepository;
+import com.example.demo.util.LogMaskUtil;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+
+import static com.example.demo.util.TimeUtils.toTm;
+
+/**
+ * 📌 누락 관측 시간대 탐지 + 해당 구간만 재수집
+ * - 정시 수집이 실패(KMA 타임아웃, InfluxDB 장애 등)하면 구멍이 남으므로 주기적으로 점검
+ * - 지점/센서별 1시간 count로 누락 정시를 찾고, 연속 구간으로 묶어 KmaService로 재요청
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class GapRepairService {
+
+    private final InfluxDBRepository influxDBRepository;
+    private final KmaService kmaService;
+    private final MeterRegistry meterRegistry;
+    private final ExecutorService fanOutExecutor;
+
+    @Value("${influx.bucket}")
+    private String bucket;
+
+    @Value("${kma.stations}")
+    private List<String> stations;
+
+    @Value("${kma.gap.horizon-hours:72}")
+    private int horizonHours;
+
+    @Value("${kma.gap.max-ranges-per-run:10}")
+    private int maxRangesPerRun;
+
+    @Value("${kma.gap.pause-ms:1000}")
+    private long pauseMs;
+
+    // 지점별 데이터 완전성 (0.0 ~ 1.0) → kma.data.completeness 게이지
+    private final Map<String, Double> completeness = new ConcurrentHashMap<>();
+
+    /**
+     * 📌 전체 지점 점검 후 누락 구간 재수집 (실행당 max-ranges-per-run 구간까지)
+     * - 탐지(count 조회)는 지점별 병렬, 재수집은 KMA 부하를 고려해 순차 실행
+     */
+    public int repair() {
+        int saved = 0;
+        int budget = maxRangesPerRun;
+
+        Map<String, CompletableFuture<List<GapRange>>> scans = new LinkedHashMap<>();
+        for (String station : stations) {
+            scans.put(station, CompletableFuture.supplyAsync(() -> scan(station), fanOutExecutor));
+        }
+
+        for (Map.Entry<String, CompletableFuture<List<GapRange>>> entry : scans.entrySet()) {
+            String station = entry.getKey();
+            List<GapRange> gaps;
+            try {
+                gaps = entry.getValue().join();
+            } catch (Exception e) {
+                log.error("❌ 누락 구간 탐지 실패 (station={})", LogMaskUtil.mask(station), e);
+                continue;
+            }
+
+            for (GapRange gap : gaps) {
+                if (budget-- <= 0) {
+                    log.info("⏸️ 재수집 한도 도달 → 나머지 구간은 다음 실행에서 처리");
+                    return saved;
+                }
+                log.info("🩹 누락 구간 재수집: station={}, {} ~ {} ({}시간)",
+                        LogMaskUtil.mask(station), gap.getFrom(), gap.getTo(), gap.getHours());
+                try {
+                    saved += kmaService.fetchAndStore(toTm(gap.getFrom()), toTm(gap.getTo()), station, KmaRequestPriority.BACKFILL);
+                } catch (Exception e) {
+                    log.error("❌ 누락 구간 재수집 실패 (station={})", LogMaskUtil.mask(station), e);
+                }
+                pause();
+            }
+        }
+        return saved;
+    }
+
+    /**
+     * 📌 지점 하나의 누락 구간 탐지
+     * - 점검 범위: [현재 정시 - horizon, 현재 정시) → 진행 중인 시간대는 제외
+     * - 한 정시에 센서 하나라도 없으면 누락으로 간주
+     */
+    public List<GapRange> scan(String station) {
+        Instant end = Instant.now().truncatedTo(ChronoUnit.HOURS);
+        Instant start = end.minus(horizonHours, ChronoUnit.HOURS);
+
+        Map<String, Set<Instant>> observed = influxDBRepository.findObservedHours(bucket, station, start, end);
+
+        List<Instant> missingHours = new ArrayList<>();
+        long expected = 0;
+        long present = 0;
+        for (Instant hour = start; hour.isBefore(end); hour = hour.plus(1, ChronoUnit.HOURS)) {
+            boolean complete = true;
+            for (String sensor : KmaService.SENSOR_NAMES) {
+                expected++;
+                if (observed.getOrDefault(sensor, Set.of()).contains(hour)) {
+                    present++;
+                } else {
+                    complete = false;
+                }
+            }
+            if (!complete) missingHours.add(hour);
+        }
+
+        recordCompleteness(station, expected == 0 ? 1.0 : (double) present / expected);
+        return coalesce(station, missingHours);
+    }
+
+    /**
+     * 정렬된 누락 정시 목록 → 최소 개수의 연속 구간으로 병합
+     */
+    static List<GapRange> coalesce(String station, List<Instant> missingHours) {
+        List<GapRange> ranges = new ArrayList<>();
+        Instant from = null;
+        Instant to = null;
+
+        for (Instant hour : missingHours) {
+            if (to != null && hour.equals(to.plus(1, ChronoUnit.HOURS))) {
+                to = hour;
+                continue;
+            }
+            if (from != null) {
+                ranges.add(toRange(station, from, to));
+            }
+            from = hour;
+            to = hour;
+        }
+        if (from != null) {
+            ranges.add(toRange(station, from, to));
+        }
+        return ranges;
+    }
+
+    private static GapRange toRange(String station, Instant from, Instant to) {
+        return new GapRange(station, from, to, ChronoUnit.HOURS.between(from, to) + 1);
+    }
+
+    private void recordCompleteness(String station, double ratio) {
+        completeness.compute(station, (k, previous) -> {
+            if (previous == null) {
+                Gauge.builder("kma.data.completeness", () -> completeness.getOrDefault(station, 1.0))
+                        .description("최근 점검 범위 내 관측 데이터 완전성 (0~1)")
+                        .tag("station", station)
+                        .strongReference(true)
+                        .register(meterRegistry);
+            }
+            return ratio;
+        });
+    }
+
+    private void pause() {
+        if (pauseMs <= 0) return;
+        try {
+            Thread.sleep(pauseMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package com.example.demo.service;
+
+import com.example.demo.domain.SensorMeasurement;
+
+import java.util.List;
+
+/**
+ * 📌 수집 경로 hook: 저장에 성공한 포인트를 저장 직후 전달
+ * - 호출 경로: KMA 실황/기간 수집(KmaService), 수동 저장(MeasurementService)
+ * - 수집 스레드에서 바로 호출 → 구현체는 포인트당 O(1)로 끝내고 느린 작업(외부 전송 등)은 별도 스레드로
+ * - 같은 포인트가 다시 들어올 수 있음 (겹치는 구간 재수집, 누락 재수집) → 중복 처리는 구현체 책임
+ */
+public interface IngestListener {
+
+    void onIngest(List<SensorMeasurement> points);
+}
@@ -0,0 +1,41 @@
+package com.example.demo.service;
+
+import com.example.demo.domain.SensorMeasurement;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 📌 저장된 포인트 → 등록된 IngestListener 전체에 전달
+ * - listener 예외는 로그/메트릭만 남기고 삼킴 (저장은 이미 성공 → 수집 결과에 영향 없음)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class IngestNotifier {
+
+    private final ObjectProvider<IngestListener> listeners;
+    private final MeterRegistry meterRegistry;
+
+    public void publish(List<SensorMeasurement> points) {
+        if (points.isEmpty()) return;
+        listeners.orderedStream().forEach(listener -> {
+            try {
+                listener.onIngest(points);
+            } catch (Exception e) {
+                String name = listener.getClass().getSimpleName();
+                Counter.builder("ingest.listener.errors")
+                        .description("수집 hook 처리 실패")
+                        .tag("listener", name)
+                        .register(meterRegistry)
+                        .increment();
+                log.error("❌ 수집 hook 처리 실패: listener={}", name, e);
+            }
+        });
+    }
+}
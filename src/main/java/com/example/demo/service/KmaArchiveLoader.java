@@ -0,0 +1,648 @@
+package com.example.demo.service;
+
+import com.example.demo.domain.SensorMeasurement;
+import com.example.demo.dto.ArchiveImportStatus;
+import com.example.demo.exception.CustomException;
+import com.example.demo.exception.ErrorCode;
+import com.example.demo.repository.InfluxDBRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * 📌 KMA 지상관측 아카이브(kma_sfctm3 텍스트 덤프) 일괄 적재
+ * - 파일을 줄 경계에 맞춘 청크로 나눔 → 청크별 mmap → ForkJoinPool에서 병렬 파싱/저장
+ * - 줄 변환은 실시간 수집과 같은 KmaObservationParser 사용
+ * - 완료 청크를 체크포인트 파일에 기록 → 중단 후 다시 요청하면 남은 청크만 처리
+ * - kma.archive.watch=true → 기준 디렉터리에 새로 생긴 파일을 자동 적재 (WatchService)
+ * - ⚠️ 경로는 kma.archive.dir 하위만 허용
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class KmaArchiveLoader {
+
+    // InfluxDB 한 번에 쓰는 최대 포인트 수 (KmaService와 동일)
+    private static final int WRITE_BATCH_SIZE = 5000;
+    private static final String CHECKPOINT_DIR = ".checkpoints";
+
+    private final InfluxDBRepository influxDBRepository;
+    private final MeterRegistry meterRegistry;
+    // 보존 기간 계층 사용 시 적재 구간 재집계 + 원본 보존 기간 밖 포인트 계층 직접 기록
+    private final ObjectProvider<TierDownsampler> tierDownsampler;
+
+    @Value("${kma.archive.dir:./data/archive}")
+    private String dir;
+
+    @Value("${kma.archive.chunk-bytes:8388608}")
+    private long chunkBytes;
+
+    @Value("${kma.archive.parallelism:0}")
+    private int parallelism;
+
+    @Value("${kma.archive.watch:false}")
+    private boolean watch;
+
+    // 파일 쓰기가 끝났다고 판단할 때까지 대기 시간 (마지막 변경 이벤트 기준)
+    @Value("${kma.archive.watch-settle-ms:5000}")
+    private long watchSettleMs;
+
+    // 원본 보존 기간 밖 포인트의 계층 창을 메모리에 모으는 최대 개수 (초과 시 중간 기록)
+    @Value("${kma.archive.tier-max-windows:1000000}")
+    private int tierMaxWindows;
+
+    private Path baseDir;
+    private ForkJoinPool pool;
+    private ExecutorService jobs;
+    private WatchService watcher;
+
+    // 파일별 진행 상황 (요청 순서 유지)
+    private final Map<Path, Progress> progress = Collections.synchronizedMap(new LinkedHashMap<>());
+
+    // 📊 메트릭
+    private Counter bytesRead;
+    private Counter linesParsed;
+    private Counter linesFailed;
+    private Counter pointsWritten;
+
+    @PostConstruct
+    public void init() throws IOException {
+        baseDir = Path.of(dir).toAbsolutePath().normalize();
+        // 청크 1개 = mmap 1회 (MappedByteBuffer 최대 크기 2GB 미만)
+        chunkBytes = Math.max(64 * 1024, Math.min(chunkBytes, Integer.MAX_VALUE / 2));
+        Files.createDirectories(baseDir.resolve(CHECKPOINT_DIR));
+
+        int threads = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+        pool = new ForkJoinPool(threads);
+        // 파일 단위 작업은 순차 실행 (파일 내부 청크만 병렬 → 디스크 순차 읽기 유지)
+        jobs = Executors.newSingleThreadExecutor(new CustomizableThreadFactory("archive-import-"));
+
+        bytesRead = Counter.builder("kma.archive.bytes").description("아카이브에서 처리한 바이트 수").register(meterRegistry);
+        linesParsed = Counter.builder("kma.archive.lines.parsed").register(meterRegistry);
+        linesFailed = Counter.builder("kma.archive.lines.failed").register(meterRegistry);
+        pointsWritten = Counter.builder("kma.archive.points.written").register(meterRegistry);
+
+        if (watch) startWatcher();
+    }
+
+    @PreDestroy
+    public void shutdown() throws IOException {
+        if (watcher != null) watcher.close();
+        jobs.shutdownNow();
+        pool.shutdownNow();
+    }
+
+    // =========================
+    // 요청
+    // =========================
+
+    /**
+     * ✅ 파일 또는 디렉터리(하위 파일 전체) 적재 예약
+     * @param path  kma.archive.dir 기준 상대 경로 ("" 또는 "." 이면 전체)
+     * @param force 이미 완료된 파일도 처음부터 다시 적재
+     */
+    public List<ArchiveImportStatus> submit(String path, boolean force) {
+        Path target = resolve(path);
+
+        List<Path> files;
+        try (Stream<Path> walk = Files.walk(target)) {
+            files = walk.filter(Files::isRegularFile)
+                    .filter(this::isArchiveFile)
+                    .sorted()
+                    .collect(Collectors.toList());
+        } catch (IOException e) {
+            log.error("❌ 아카이브 경로 조회 실패: {}", path, e);
+            throw new CustomException(ErrorCode.INTERNAL_ERROR);
+        }
+
+        List<ArchiveImportStatus> queued = new ArrayList<>();
+        for (Path file : files) {
+            Progress p = enqueue(file, force);
+            if (p != null) queued.add(p.toStatus());
+        }
+        log.info("📦 아카이브 적재 예약: path={}, 파일 {}개", path, queued.size());
+        return queued;
+    }
+
+    public List<ArchiveImportStatus> statuses() {
+        synchronized (progress) {
+            return progress.values().stream().map(Progress::toStatus).collect(Collectors.toList());
+        }
+    }
+
+    private Progress enqueue(Path file, boolean force) {
+        Progress p;
+        synchronized (progress) {
+            Progress existing = progress.get(file);
+            if (existing != null && (existing.state == State.QUEUED || existing.state == State.RUNNING)) {
+                return null; // 이미 대기/진행 중
+            }
+            p = new Progress(baseDir.relativize(file).toString());
+            progress.remove(file);
+            progress.put(file, p);
+        }
+        jobs.submit(() -> load(file, p, force));
+        return p;
+    }
+
+    /**
+     * ⚠️ 기준 디렉터리 밖(../, 절대 경로, 심볼릭 링크) 접근 차단
+     */
+    private Path resolve(String path) {
+        Path target = baseDir.resolve(path == null ? "" : path).normalize();
+        if (!target.startsWith(baseDir)) {
+            throw new CustomException(ErrorCode.INVALID_REQUEST);
+        }
+        if (!Files.exists(target)) {
+            throw new CustomException(ErrorCode.NOT_FOUND);
+        }
+        try {
+            if (!target.toRealPath().startsWith(baseDir.toRealPath())) {
+                throw new CustomException(ErrorCode.INVALID_REQUEST);
+            }
+        } catch (IOException e) {
+            throw new CustomException(ErrorCode.NOT_FOUND);
+        }
+        return target;
+    }
+
+    // 체크포인트/숨김/작성 중 임시 파일 제외
+    private boolean isArchiveFile(Path file) {
+        if (file.startsWith(baseDir.resolve(CHECKPOINT_DIR))) return false;
+        String name = file.getFileName().toString();
+        return !name.startsWith(".") && !name.endsWith(".tmp") && !name.endsWith(".part");
+    }
+
+    // =========================
+    // 적재
+    // =========================
+
+    /**
+     * ✅ 파일 1개 적재
+     * - 체크포인트가 같은 파일(크기/수정 시각/청크 크기)이면 완료 청크는 건너뜀
+     */
+    private void load(Path file, Progress p, boolean force) {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            long modified = Files.getLastModifiedTime(file).toMillis();
+            Checkpoint checkpoint = Checkpoint.load(checkpointPath(file), size, modified, chunkBytes);
+
+            if (checkpoint.completed && !force) {
+                p.totalBytes = size;
+                p.finish(State.SKIPPED, null);
+                log.info("⏭️ 이미 적재된 아카이브: {}", p.file);
+                return;
+            }
+            if (force) checkpoint.reset();
+
+            TierDownsampler downsampler = tierDownsampler.getIfAvailable();
+            TierDownsampler.ArchiveTiers tiers = downsampler == null ? null : downsampler.archiveTiers();
+
+            List<Chunk> chunks = split(channel, size, chunkBytes);
+            p.start(size, chunks.size());
+            for (Chunk chunk : chunks) {
+                if (checkpoint.done.contains(chunk.index())) p.chunkDone(chunk.length(), false);
+            }
+
+            List<Chunk> remaining = chunks.stream()
+                    .filter(c -> !checkpoint.done.contains(c.index()))
+                    .collect(Collectors.toList());
+            log.info("📦 아카이브 적재 시작: {} ({}MB, 청크 {}개 중 {}개 처리)",
+                    p.file, size / (1024 * 1024), chunks.size(), remaining.size());
+
+            if (!remaining.isEmpty()) {
+                pool.invoke(new ChunkTask(channel, remaining, 0, remaining.size(), p, checkpoint, tiers));
+            }
+            long tierPoints = flushTiers(tiers, p);
+
+            // 계층 창은 메모리에만 모이므로, 실패 후 완료 청크를 건너뛰고 재개하면 그 청크의 계층 포인트가 빠짐
+            // → 원본 보존 기간 밖 포인트가 있었다면 체크포인트를 비워 파일 전체 재처리
+            if (tiers != null && tiers.aggregated() && (p.failedChunks.get() > 0 || tiers.failed())) {
+                checkpoint.reset();
+                checkpoint.save();
+                p.finish(State.FAILED, "계층 버킷 기록 실패 또는 청크 실패 → 다시 요청하면 파일 전체 재처리");
+                log.warn("⚠️ 아카이브 적재 실패 (계층 포함): {} (실패 청크 {}개)", p.file, p.failedChunks.get());
+                return;
+            }
+            if (p.failedChunks.get() > 0) {
+                p.finish(State.FAILED, p.failedChunks.get() + "개 청크 실패 → 다시 요청하면 실패 청크만 재처리");
+                log.warn("⚠️ 아카이브 적재 일부 실패: {} (실패 청크 {}개)", p.file, p.failedChunks.get());
+                return;
+            }
+            checkpoint.completed = true;
+            checkpoint.save();
+            rebuildTiers(downsampler, p);
+            p.finish(State.COMPLETED, null);
+            log.info("✅ 아카이브 적재 완료: {} (줄 {}건, 포인트 {}건, 계층 직접 기록 {}건, {}MB/s)",
+                    p.file, p.lines.get(), p.points.get(), tierPoints, String.format("%.1f", p.mbPerSec()));
+        } catch (Exception e) {
+            p.finish(State.FAILED, e.getMessage());
+            log.error("❌ 아카이브 적재 실패: {}", p.file, e);
+        }
+    }
+
+    /**
+     * 원본 보존 기간 안쪽 적재분 → 원본 버킷에서 계층 재집계
+     */
+    private void rebuildTiers(TierDownsampler downsampler, Progress p) {
+        if (downsampler == null || p.minTime.get() == Long.MAX_VALUE) return;
+        try {
+            downsampler.rebuild(Instant.ofEpochSecond(p.minTime.get()), Instant.ofEpochSecond(p.maxTime.get()));
+        } catch (Exception e) {
+            log.error("❌ 아카이브 구간 계층 재집계 실패: {}", p.file, e);
+        }
+    }
+
+    /**
+     * 원본 보존 기간 밖 적재분 → 앱 내 집계 결과를 계층 버킷에 기록 (실패 여부는 tiers.failed())
+     */
+    private long flushTiers(TierDownsampler.ArchiveTiers tiers, Progress p) {
+        if (tiers == null) return 0;
+        try {
+            return tiers.flush();
+        } catch (Exception e) {
+            log.error("❌ 아카이브 계층 직접 기록 실패: {}", p.file, e);
+            return 0;
+        }
+    }
+
+    /**
+     * 청크 범위를 반씩 나눠 fork → 말단에서 청크 1개 처리
+     */
+    private class ChunkTask extends RecursiveAction {
+        private final FileChannel channel;
+        private final List<Chunk> chunks;
+        private final int from;
+        private final int to;
+        private final Progress p;
+        private final Checkpoint checkpoint;
+        private final TierDownsampler.ArchiveTiers tiers;
+
+        ChunkTask(FileChannel channel, List<Chunk> chunks, int from, int to, Progress p, Checkpoint checkpoint,
+                  TierDownsampler.ArchiveTiers tiers) {
+            this.channel = channel;
+            this.chunks = chunks;
+            this.from = from;
+            this.to = to;
+            this.p = p;
+            this.checkpoint = checkpoint;
+            this.tiers = tiers;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from > 1) {
+                int mid = (from + to) >>> 1;
+                invokeAll(new ChunkTask(channel, chunks, from, mid, p, checkpoint, tiers),
+                        new ChunkTask(channel, chunks, mid, to, p, checkpoint, tiers));
+                return;
+            }
+            Chunk chunk = chunks.get(from);
+            try {
+                processChunk(channel, chunk, p, tiers);
+                if (tiers != null && tiers.size() > tierMaxWindows) {
+                    flushTiers(tiers, p);
+                }
+                checkpoint.markDone(chunk.index());
+                p.chunkDone(chunk.length(), true);
+                bytesRead.increment(chunk.length());
+            } catch (Exception e) {
+                p.failedChunks.incrementAndGet();
+                log.error("❌ 아카이브 청크 처리 실패: {} #{} [{}, {})", p.file, chunk.index(), chunk.start(), chunk.end(), e);
+            }
+        }
+    }
+
+    /**
+     * ✅ 청크 1개: mmap → 줄 단위 파싱 → 배치 저장
+     * - 데이터 줄은 ASCII → ISO-8859-1 디코딩 (주석 줄은 문자열 생성 없이 건너뜀)
+     * - 계층 사용 시 원본 보존 기간 밖 포인트는 원본 버킷 대신 계층 집계로 (InfluxDB가 원본 쓰기 거부)
+     */
+    private void processChunk(FileChannel channel, Chunk chunk, Progress p,
+                              TierDownsampler.ArchiveTiers tiers) throws IOException {
+        MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, chunk.start(), chunk.length());
+        byte[] line = new byte[256];
+        List<SensorMeasurement> batch = new ArrayList<>(WRITE_BATCH_SIZE);
+        long lines = 0;
+        long failed = 0;
+        long minTime = Long.MAX_VALUE;
+        long maxTime = Long.MIN_VALUE;
+
+        int limit = buffer.limit();
+        int lineStart = 0;
+        for (int i = 0; i <= limit; i++) {
+            if (i < limit && buffer.get(i) != '\n') continue;
+
+            int length = i - lineStart;
+            if (length > 0 && buffer.get(lineStart) != '#') {
+                if (line.length < length) line = new byte[Math.max(length, line.length * 2)];
+                buffer.get(lineStart, line, 0, length);
+                String text = new String(line, 0, length, StandardCharsets.ISO_8859_1);
+                if (KmaObservationParser.isDataLine(text)) {
+                    try {
+                        List<SensorMeasurement> measurements = KmaObservationParser.parseLine(text);
+                        lines++;
+                        if (tiers != null && tiers.add(measurements.get(0))) {
+                            for (int m = 1; m < measurements.size(); m++) tiers.add(measurements.get(m));
+                        } else {
+                            batch.addAll(measurements);
+                            long time = measurements.get(0).getSensingDate().getEpochSecond();
+                            minTime = Math.min(minTime, time);
+                            maxTime = Math.max(maxTime, time);
+                        }
+                    } catch (Exception e) {
+                        failed++;
+                        log.debug("데이터 파싱 오류: {}", text);
+                    }
+                    if (batch.size() >= WRITE_BATCH_SIZE) {
+                        write(batch, p);
+                    }
+                }
+            }
+            lineStart = i + 1;
+        }
+        write(batch, p);
+
+        p.lines.addAndGet(lines);
+        p.failedLines.addAndGet(failed);
+        p.observed(minTime, maxTime);
+        linesParsed.increment(lines);
+        linesFailed.increment(failed);
+    }
+
+    private void write(List<SensorMeasurement> batch, Progress p) {
+        if (batch.isEmpty()) return;
+        influxDBRepository.saveAll(batch);
+        p.points.addAndGet(batch.size());
+        pointsWritten.increment(batch.size());
+        batch.clear();
+    }
+
+    /** 파일 내 [start, end) 구간, end는 다음 줄 시작 위치 */
+    record Chunk(int index, long start, long end) {
+        long length() {
+            return end - start;
+        }
+    }
+
+    /**
+     * ✅ 줄 경계에 맞춘 청크 분할 (목표 크기 지점 이후 첫 '\n' 다음에서 자름)
+     */
+    static List<Chunk> split(FileChannel channel, long size, long chunkBytes) throws IOException {
+        List<Chunk> chunks = new ArrayList<>();
+        ByteBuffer probe = ByteBuffer.allocate(4096);
+        long start = 0;
+        while (start < size) {
+            long end = Math.min(size, start + chunkBytes);
+            if (end < size) end = nextLineStart(channel, end, size, probe);
+            chunks.add(new Chunk(chunks.size(), start, end));
+            start = end;
+        }
+        return chunks;
+    }
+
+    private static long nextLineStart(FileChannel channel, long position, long size, ByteBuffer probe) throws IOException {
+        while (position < size) {
+            probe.clear();
+            int read = channel.read(probe, position);
+            if (read <= 0) return size;
+            for (int i = 0; i < read; i++) {
+                if (probe.get(i) == '\n') return position + i + 1;
+            }
+            position += read;
+        }
+        return size;
+    }
+
+    // =========================
+    // 디렉터리 감시
+    // =========================
+
+    /**
+     * ✅ 새 파일/변경 이벤트 → 마지막 이벤트 후 settle 시간 동안 변화가 없으면 적재 예약
+     */
+    private void startWatcher() throws IOException {
+        watcher = FileSystems.getDefault().newWatchService();
+        baseDir.register(watcher, StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY);
+
+        Thread thread = new Thread(this::watchLoop, "archive-watch");
+        thread.setDaemon(true);
+        thread.start();
+        log.info("👀 아카이브 디렉터리 감시 시작: {}", baseDir);
+    }
+
+    private void watchLoop() {
+        Map<Path, Long> pending = new HashMap<>();
+        try {
+            while (true) {
+                WatchKey key = watcher.poll(1, TimeUnit.SECONDS);
+                if (key != null) {
+                    for (WatchEvent<?> event : key.pollEvents()) {
+                        if (event.kind() == StandardWatchEventKinds.OVERFLOW) continue;
+                        Path file = baseDir.resolve((Path) event.context());
+                        if (isArchiveFile(file)) pending.put(file, System.currentTimeMillis());
+                    }
+                    key.reset();
+                }
+
+                long now = System.currentTimeMillis();
+                Iterator<Map.Entry<Path, Long>> it = pending.entrySet().iterator();
+                while (it.hasNext()) {
+                    Map.Entry<Path, Long> entry = it.next();
+                    if (now - entry.getValue() < watchSettleMs) continue;
+                    it.remove();
+                    if (Files.isRegularFile(entry.getKey())) {
+                        log.info("👀 새 아카이브 감지: {}", baseDir.relativize(entry.getKey()));
+                        enqueue(entry.getKey(), false);
+                    }
+                }
+            }
+        } catch (ClosedWatchServiceException | InterruptedException e) {
+            log.info("👀 아카이브 디렉터리 감시 종료");
+        }
+    }
+
+    private Path checkpointPath(Path file) {
+        String relative = baseDir.relativize(file).toString();
+        String name = relative.replaceAll("[^A-Za-z0-9._-]", "_") + "-" + Integer.toHexString(relative.hashCode());
+        return baseDir.resolve(CHECKPOINT_DIR).resolve(name + ".properties");
+    }
+
+    // =========================
+    // 진행 상황 / 체크포인트
+    // =========================
+    enum State { QUEUED, RUNNING, COMPLETED, FAILED, SKIPPED }
+
+    private static final class Progress {
+        private final String file;
+        private volatile State state = State.QUEUED;
+        private volatile long totalBytes;
+        private volatile int chunks;
+        private volatile Instant startedAt;
+        private volatile Instant finishedAt;
+        private volatile String error;
+        private final AtomicLong processedBytes = new AtomicLong();
+        private final AtomicLong bytesThisRun = new AtomicLong();
+        private final AtomicInteger chunksDone = new AtomicInteger();
+        private final AtomicInteger failedChunks = new AtomicInteger();
+        private final AtomicLong lines = new AtomicLong();
+        private final AtomicLong failedLines = new AtomicLong();
+        private final AtomicLong points = new AtomicLong();
+        private final AtomicInteger lastLoggedDecile = new AtomicInteger();
+        // 이번 실행에서 적재한 관측 시각 범위 (epoch sec)
+        private final AtomicLong minTime = new AtomicLong(Long.MAX_VALUE);
+        private final AtomicLong maxTime = new AtomicLong(Long.MIN_VALUE);
+
+        Progress(String file) {
+            this.file = file;
+        }
+
+        void start(long totalBytes, int chunks) {
+            this.totalBytes = totalBytes;
+            this.chunks = chunks;
+            this.startedAt = Instant.now();
+            this.state = State.RUNNING;
+        }
+
+        // 10% 단위로 진행 로그
+        void chunkDone(long bytes, boolean thisRun) {
+            long processed = processedBytes.addAndGet(bytes);
+            chunksDone.incrementAndGet();
+            if (!thisRun) return;
+            bytesThisRun.addAndGet(bytes);
+            int decile = totalBytes == 0 ? 10 : (int) (processed * 10 / totalBytes);
+            int previous = lastLoggedDecile.get();
+            if (decile > previous && decile < 10 && lastLoggedDecile.compareAndSet(previous, decile)) {
+                log.info("📦 아카이브 적재 진행: {} {}% ({}MB/s)", file, decile * 10, String.format("%.1f", mbPerSec()));
+            }
+        }
+
+        void observed(long min, long max) {
+            if (min > max) return;
+            minTime.accumulateAndGet(min, Math::min);
+            maxTime.accumulateAndGet(max, Math::max);
+        }
+
+        void finish(State state, String error) {
+            this.error = error;
+            this.finishedAt = Instant.now();
+            this.state = state;
+        }
+
+        double mbPerSec() {
+            if (startedAt == null) return 0;
+            Instant end = finishedAt != null ? finishedAt : Instant.now();
+            double seconds = Math.max(1, end.toEpochMilli() - startedAt.toEpochMilli()) / 1000.0;
+            return bytesThisRun.get() / (1024.0 * 1024.0) / seconds;
+        }
+
+        ArchiveImportStatus toStatus() {
+            long processed = processedBytes.get();
+            return ArchiveImportStatus.builder()
+                    .file(file)
+                    .state(state.name())
+                    .totalBytes(totalBytes)
+                    .processedBytes(processed)
+                    .percent(totalBytes == 0 ? (state == State.QUEUED ? 0 : 100) : Math.round(processed * 1000.0 / totalBytes) / 10.0)
+                    .chunks(chunks)
+                    .chunksDone(chunksDone.get())
+                    .lines(lines.get())
+                    .failedLines(failedLines.get())
+                    .points(points.get())
+                    .mbPerSec(Math.round(mbPerSec() * 10) / 10.0)
+                    .startedAt(startedAt)
+                    .finishedAt(finishedAt)
+                    .error(error)
+                    .build();
+        }
+    }
+
+    /**
+     * 📌 파일별 완료 청크 목록 (.checkpoints/<파일>.properties)
+     * - 파일 크기/수정 시각/청크 크기가 달라지면 청크 경계가 바뀌므로 처음부터 다시 적재
+     */
+    private static final class Checkpoint {
+        private final Path path;
+        private final long size;
+        private final long modified;
+        private final long chunkBytes;
+        private final Set<Integer> done = ConcurrentHashMap.newKeySet();
+        private volatile boolean completed;
+
+        private Checkpoint(Path path, long size, long modified, long chunkBytes) {
+            this.path = path;
+            this.size = size;
+            this.modified = modified;
+            this.chunkBytes = chunkBytes;
+        }
+
+        static Checkpoint load(Path path, long size, long modified, long chunkBytes) throws IOException {
+            Checkpoint checkpoint = new Checkpoint(path, size, modified, chunkBytes);
+            if (!Files.exists(path)) return checkpoint;
+
+            Properties props = new Properties();
+            try (InputStream in = Files.newInputStream(path)) {
+                props.load(in);
+            }
+            boolean sameFile = String.valueOf(size).equals(props.getProperty("size"))
+                    && String.valueOf(modified).equals(props.getProperty("modified"))
+                    && String.valueOf(chunkBytes).equals(props.getProperty("chunkBytes"));
+            if (!sameFile) return checkpoint;
+
+            checkpoint.completed = Boolean.parseBoolean(props.getProperty("completed"));
+            for (String index : props.getProperty("done", "").split(",")) {
+                if (!index.isBlank()) checkpoint.done.add(Integer.parseInt(index.trim()));
+            }
+            return checkpoint;
+        }
+
+        void reset() {
+            done.clear();
+            completed = false;
+        }
+
+        void markDone(int index) throws IOException {
+            done.add(index);
+            save();
+        }
+
+        // 임시 파일 → 원자적 교체 (쓰는 도중 종료돼도 이전 체크포인트 유지)
+        synchronized void save() throws IOException {
+            Properties props = new Properties();
+            props.setProperty("size", String.valueOf(size));
+            props.setProperty("modified", String.valueOf(modified));
+            props.setProperty("chunkBytes", String.valueOf(chunkBytes));
+            props.setProperty("completed", String.valueOf(completed));
+            props.setProperty("done", new TreeSet<>(done).stream().map(String::valueOf).collect(Collectors.joining(",")));
+
+            Path tmp = path.resolveSibling(path.getFileName() + ".tmp");
+            try (OutputStream out = Files.newOutputStream(tmp)) {
+                props.store(out, "kma archive checkpoint");
+            }
+            Files.move(tmp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.example.demo.service;
+
+import com.example.demo.domain.SensorMeasurement;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * 📌 KMA 지상관측(kma_sfctm3) 텍스트 한 줄 → SensorMeasurement 5건 변환
+ * - 컬럼 위치 ↔ 센서 매핑을 한곳에 모음 (줄 단위 변환만 담당, 호출·저장은 호출 측 책임)
+ * - 컬럼: [0]TM [1]STN [2]WD [3]WS [7]PA [11]TA [15]RN
+ */
+public class KmaObservationParser {
+
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final DateTimeFormatter TM_FORMAT = DateTimeFormatter.ofPattern("yyyyMMddHHmm");
+    private static final ZoneId SEOUL_ZONE = ZoneId.of("Asia/Seoul");
+
+    // 인스턴스화 방지
+    private KmaObservationParser() {
+        throw new AssertionError("KmaObservationParser is a utility class and cannot be instantiated.");
+    }
+
+    /** 주석(#)/빈 줄이 아닌 데이터 줄인지 */
+    public static boolean isDataLine(String line) {
+        return !line.startsWith("#") && !line.isBlank();
+    }
+
+    /**
+     * ✅ 데이터 줄 파싱
+     * @throws RuntimeException 컬럼 수 부족/시각 형식 오류
+     */
+    public static List<SensorMeasurement> parseLine(String line) {
+        String[] parts = WHITESPACE.split(line.trim());
+
+        String stn = parts[1];
+        Instant time = parseTime(parts[0]);
+
+        return List.of(
+                new SensorMeasurement("wind_dir", stn, parseDouble(parts[2]), time),
+                new SensorMeasurement("wind_speed", stn, parseDouble(parts[3]), time),
+                new SensorMeasurement("pressure", stn, parseDouble(parts[7]), time),
+                new SensorMeasurement("temperature", stn, parseDouble(parts[11]), time),
+                new SensorMeasurement("rainfall", stn, parseDouble(parts[15]), time)
+        );
+    }
+
+    /** yyyyMMddHHmm (한국시간) → Instant */
+    public static Instant parseTime(String tm) {
+        return LocalDateTime.parse(tm, TM_FORMAT).atZone(SEOUL_ZONE).toInstant();
+    }
+
+    // 잘못된 값일 경우 NaN 반환
+    static double parseDouble(String s) {
+        try { return Double.parseDouble(s); }
+        catch (Exception e) { return Double.NaN; }
+    }
+}
@@ -0,0 +1,90 @@
+package com.example.demo.service;
+
+import com.example.demo.domain.KmaQuotaUsage;
+import com.example.demo.repository.KmaQuotaUsageRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 📌 KMA API 일일 호출 수 (MariaDB kma_quota_usage, 한국시간 날짜 기준)
+ * - 호출 허가 판단은 메모리 값으로 (DB 왕복 없음), 호출마다 DB에 원자적 증가로 기록
+ * - 재시작/다른 인스턴스 호출분은 sync()로 반영 (DB 값이 더 크면 따라감)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class KmaQuotaStore {
+
+    private static final ZoneId SEOUL_ZONE = ZoneId.of("Asia/Seoul");
+
+    private final KmaQuotaUsageRepository repository;
+
+    private volatile LocalDate day = today();
+    private final AtomicLong used = new AtomicLong();
+
+    /** 오늘 사용량 (날짜가 바뀌면 0부터) */
+    public long used() {
+        rollOver();
+        return used.get();
+    }
+
+    /** 허가 시점에 메모리 값 증가 (KmaRequestScheduler 락 안에서 호출) */
+    public void reserve() {
+        rollOver();
+        used.incrementAndGet();
+    }
+
+    /**
+     * ✅ DB 기록 (없으면 생성, 동시 생성 충돌 시 증가로 재시도)
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void persist(long count) {
+        LocalDate date = today();
+        if (repository.increment(date, count) > 0) return;
+        try {
+            repository.saveAndFlush(KmaQuotaUsage.builder().usageDate(date).used(count).build());
+        } catch (DataIntegrityViolationException e) {
+            repository.increment(date, count);
+        }
+    }
+
+    /**
+     * ✅ DB 값 반영 (기동 시, 주기적)
+     */
+    public void sync() {
+        rollOver();
+        LocalDate date = day;
+        repository.findById(date).ifPresent(usage -> {
+            if (date.equals(day)) used.accumulateAndGet(usage.getUsed(), Math::max);
+        });
+    }
+
+    public LocalDate day() {
+        return day;
+    }
+
+    private void rollOver() {
+        LocalDate today = today();
+        if (!today.equals(day)) {
+            synchronized (this) {
+                if (!today.equals(day)) {
+                    day = today;
+                    used.set(0);
+                    log.info("📅 KMA 일일 호출 수 초기화: {}", today);
+                }
+            }
+        }
+    }
+
+    private static LocalDate today() {
+        return LocalDate.now(SEOUL_ZONE);
+    }
+}
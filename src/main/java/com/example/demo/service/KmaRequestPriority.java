@@ -0,0 +1,16 @@
+package com.example.demo.service;
+
+/**
+ * 📌 KMA API 호출 우선순위 (선언 순서 = 높은 순)
+ * - BACKFILL / MANUAL 은 대량 호출 → 토큰/일일 한도 예비분을 남겨둔 상태에서만 허가
+ */
+public enum KmaRequestPriority {
+    LIVE,       // 정시 실황 수집
+    FORECAST,   // 단기예보 개황 정기 수집
+    BACKFILL,   // 초기 적재, 누락 구간 재수집
+    MANUAL;     // /api/kma/fetch, /api/forecast 수동 호출
+
+    public boolean isBulk() {
+        return this == BACKFILL || this == MANUAL;
+    }
+}
@@ -0,0 +1,295 @@
+package com.example.demo.service;
+
+import com.example.demo.exception.CustomException;
+import com.example.demo.exception.ErrorCode;
+import com.example.demo.util.LogMaskUtil;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayDeque;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * 📌 KMA API 호출 통합 스케줄러 (모든 KMA 호출이 이곳을 거침)
+ * - 전역 token bucket (rate-per-second, burst) → 인스턴스 전체 호출 속도 제한
+ * - 우선순위: LIVE > FORECAST > BACKFILL > MANUAL (높은 등급 대기 요청이 있으면 낮은 등급은 대기)
+ * - 같은 등급 안에서는 지점별 round-robin → 한 지점의 대량 백필이 다른 지점을 막지 않음
+ * - 대량 등급(BACKFILL/MANUAL)은 토큰 reserved-tokens개, 일일 한도 reserved-daily건을 남겨둬야 허가
+ *   → 백필이 길어도 정시 수집은 즉시 토큰을 받고 한도도 남아 있음
+ * - 허가된 호출은 호출 스레드에서 그대로 실행 (기존 동기 흐름 유지)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class KmaRequestScheduler {
+
+    private final KmaQuotaStore kmaQuotaStore;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${kma.outbound.rate-per-second:2}")
+    private double ratePerSecond;
+
+    @Value("${kma.outbound.burst:5}")
+    private double burst;
+
+    // 일일 호출 한도 (0 = 제한 없음)
+    @Value("${kma.outbound.daily-quota:0}")
+    private long dailyQuota;
+
+    // 정시/예보 수집용으로 남겨둘 일일 호출 수
+    @Value("${kma.outbound.reserved-daily:200}")
+    private long reservedDaily;
+
+    // 대량 등급이 남겨둬야 하는 토큰 수
+    @Value("${kma.outbound.reserved-tokens:1}")
+    private double reservedTokens;
+
+    @Value("${kma.outbound.max-wait-sec:600}")
+    private long maxWaitSec;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition changed = lock.newCondition();
+    private final Map<KmaRequestPriority, FairQueue> queues = new EnumMap<>(KmaRequestPriority.class);
+
+    private double tokens;
+    private long lastRefillNanos;
+
+    // 📊 메트릭
+    private final Map<KmaRequestPriority, Timer> waitTimers = new EnumMap<>(KmaRequestPriority.class);
+    private final Map<KmaRequestPriority, Counter> rejected = new EnumMap<>(KmaRequestPriority.class);
+
+    @PostConstruct
+    public void init() {
+        tokens = burst;
+        lastRefillNanos = System.nanoTime();
+
+        for (KmaRequestPriority priority : KmaRequestPriority.values()) {
+            FairQueue queue = new FairQueue();
+            queues.put(priority, queue);
+            String tag = priority.name().toLowerCase();
+            Gauge.builder("kma.outbound.queue", queue, FairQueue::size)
+                    .description("KMA 호출 허가 대기 수")
+                    .tag("priority", tag)
+                    .register(meterRegistry);
+            waitTimers.put(priority, Timer.builder("kma.outbound.wait")
+                    .description("KMA 호출 허가까지 대기 시간")
+                    .tag("priority", tag)
+                    .register(meterRegistry));
+            rejected.put(priority, Counter.builder("kma.outbound.rejected")
+                    .description("일일 한도/대기 시간 초과로 거절된 KMA 호출")
+                    .tag("priority", tag)
+                    .register(meterRegistry));
+        }
+        Gauge.builder("kma.quota.used", kmaQuotaStore, KmaQuotaStore::used)
+                .description("오늘 KMA API 호출 수 (한국시간)")
+                .register(meterRegistry);
+
+        try {
+            kmaQuotaStore.sync();
+        } catch (Exception e) {
+            log.warn("⚠️ KMA 일일 호출 수 로드 실패 → 0부터 집계", e);
+        }
+    }
+
+    /**
+     * ✅ 허가를 받은 뒤 호출 실행
+     * @throws CustomException TOO_MANY_REQUESTS - 일일 한도 소진 또는 max-wait-sec 초과
+     */
+    public <T> T execute(KmaRequestPriority priority, String station, Supplier<T> call) {
+        long started = System.nanoTime();
+        acquire(priority, station == null ? "-" : station);
+        waitTimers.get(priority).record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+
+        try {
+            kmaQuotaStore.persist(1);
+        } catch (Exception e) {
+            log.warn("⚠️ KMA 호출 수 기록 실패 (호출은 계속 진행)", e);
+        }
+        return call.get();
+    }
+
+    private void acquire(KmaRequestPriority priority, String station) {
+        Ticket ticket = new Ticket(station);
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(maxWaitSec);
+
+        lock.lock();
+        try {
+            queues.get(priority).add(ticket);
+            while (true) {
+                dispatch();
+                if (ticket.granted) return;
+                if (ticket.rejectedReason != null) {
+                    throw rejected(priority, station, ticket.rejectedReason);
+                }
+
+                long remaining = deadline - System.nanoTime();
+                if (remaining <= 0) {
+                    queues.get(priority).remove(ticket);
+                    changed.signalAll();
+                    throw rejected(priority, station, "대기 시간 초과");
+                }
+                changed.awaitNanos(Math.min(remaining, nanosUntilAffordable(priority)));
+            }
+        } catch (InterruptedException e) {
+            queues.get(priority).remove(ticket);
+            changed.signalAll();
+            Thread.currentThread().interrupt();
+            throw new CustomException(ErrorCode.INTERNAL_ERROR);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 📌 토큰이 있는 만큼 우선순위 순서대로 허가 (락 보유 상태에서 호출)
+     */
+    private void dispatch() {
+        refill();
+        boolean changedAny = false;
+
+        grant:
+        while (true) {
+            for (KmaRequestPriority priority : KmaRequestPriority.values()) {
+                FairQueue queue = queues.get(priority);
+                if (queue.size() == 0) continue;
+
+                if (quotaExhausted(priority)) {
+                    queue.rejectAll("일일 호출 한도 소진");
+                    changedAny = true;
+                    continue;
+                }
+                if (tokens < requiredTokens(priority)) break grant; // 이 등급이 못 받으면 더 낮은 등급도 불가
+
+                Ticket next = queue.poll();
+                tokens -= 1;
+                kmaQuotaStore.reserve();
+                next.granted = true;
+                changedAny = true;
+                continue grant;
+            }
+            break;
+        }
+        if (changedAny) changed.signalAll();
+    }
+
+    private boolean quotaExhausted(KmaRequestPriority priority) {
+        if (dailyQuota <= 0) return false;
+        long limit = priority.isBulk() ? dailyQuota - reservedDaily : dailyQuota;
+        return kmaQuotaStore.used() >= limit;
+    }
+
+    private void refill() {
+        long now = System.nanoTime();
+        tokens = Math.min(burst, tokens + (now - lastRefillNanos) / 1_000_000_000.0 * ratePerSecond);
+        lastRefillNanos = now;
+    }
+
+    private double requiredTokens(KmaRequestPriority priority) {
+        return 1 + (priority.isBulk() ? reservedTokens : 0);
+    }
+
+    // 이 등급이 허가받을 만큼 토큰이 찰 때까지 (이미 충분하면 토큰 1개 충전 시간, 허가/취소 시 signal로 깨어남)
+    private long nanosUntilAffordable(KmaRequestPriority priority) {
+        double missing = requiredTokens(priority) - tokens;
+        double seconds = (missing > 0 ? missing : 1) / ratePerSecond;
+        return Math.max(1_000_000L, (long) (seconds * 1_000_000_000L));
+    }
+
+    private CustomException rejected(KmaRequestPriority priority, String station, String reason) {
+        rejected.get(priority).increment();
+        log.warn("🚫 KMA 호출 거절: priority={}, station={}, reason={}", priority, LogMaskUtil.mask(station), reason);
+        return new CustomException(ErrorCode.TOO_MANY_REQUESTS);
+    }
+
+    /**
+     * 다른 인스턴스 호출분 반영 (같은 API Key를 공유하는 경우)
+     */
+    @Scheduled(fixedDelayString = "${kma.outbound.quota-sync-ms:60000}")
+    public void syncQuota() {
+        try {
+            kmaQuotaStore.sync();
+        } catch (Exception e) {
+            log.warn("⚠️ KMA 일일 호출 수 동기화 실패", e);
+        }
+    }
+
+    // =========================
+    // 대기열
+    // =========================
+    private static final class Ticket {
+        private final String station;
+        private boolean granted;
+        private String rejectedReason;
+
+        Ticket(String station) {
+            this.station = station;
+        }
+    }
+
+    /**
+     * 📌 지점별 대기열 + round-robin 순서
+     */
+    private static final class FairQueue {
+        private final Map<String, ArrayDeque<Ticket>> byStation = new HashMap<>();
+        private final ArrayDeque<String> rotation = new ArrayDeque<>();
+        private volatile int size;
+
+        void add(Ticket ticket) {
+            ArrayDeque<Ticket> tickets = byStation.computeIfAbsent(ticket.station, k -> new ArrayDeque<>());
+            if (tickets.isEmpty()) rotation.addLast(ticket.station);
+            tickets.addLast(ticket);
+            size++;
+        }
+
+        Ticket poll() {
+            String station = rotation.pollFirst();
+            if (station == null) return null;
+            ArrayDeque<Ticket> tickets = byStation.get(station);
+            Ticket ticket = tickets.pollFirst();
+            if (tickets.isEmpty()) {
+                byStation.remove(station);
+            } else {
+                rotation.addLast(station); // 다음 차례는 다른 지점
+            }
+            size--;
+            return ticket;
+        }
+
+        void remove(Ticket ticket) {
+            ArrayDeque<Ticket> tickets = byStation.get(ticket.station);
+            if (tickets == null || !tickets.remove(ticket)) return;
+            size--;
+            if (tickets.isEmpty()) {
+                byStation.remove(ticket.station);
+                rotation.remove(ticket.station);
+            }
+        }
+
+        void rejectAll(String reason) {
+            for (ArrayDeque<Ticket> tickets : byStation.values()) {
+                for (Ticket ticket : tickets) ticket.rejectedReason = reason;
+            }
+            byStation.clear();
+            rotation.clear();
+            size = 0;
+        }
+
+        int size() {
+            return size;
+        }
+    }
+}
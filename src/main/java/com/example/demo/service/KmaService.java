@@ -1,20 +1,24 @@
 package com.example.demo.service;
 
-import com.influxdb.client.InfluxDBClient;
-import com.influxdb.client.WriteApiBlocking;
-import com.influxdb.client.domain.WritePrecision;
-import com.influxdb.client.write.Point;
+import com.example.demo.domain.SensorMeasurement;
+import com.example.demo.repository.InfluxDBRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.client.WebClient;
 import jakarta.annotation.PostConstruct;
 
 import java.time.*;
-import java.time.format.DateTimeFormatter;
-import java.util.Arrays;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 
 import static com.example.demo.util.TimeUtils.*;
 import com.example.demo.util.LogMaskUtil;
@@ -24,7 +28,17 @@ import com.example.demo.util.LogMaskUtil;
 @RequiredArgsConstructor
 public class KmaService {
 
-    private final InfluxDBClient influxDBClient;
+    /** KMA 실황 한 줄에서 생성되는 센서 태그 목록 */
+    public static final List<String> SENSOR_NAMES =
+            List.of("wind_dir", "wind_speed", "pressure", "temperature", "rainfall");
+
+    // InfluxDB 한 번에 쓰는 최대 포인트 수
+    private static final int WRITE_BATCH_SIZE = 5000;
+
+    private final InfluxDBRepository influxDBRepository;
+    private final MeterRegistry meterRegistry;
+    private final KmaRequestScheduler kmaRequestScheduler;
+    private final IngestNotifier ingestNotifier;
 
     @Value("${kma.base-url}")
     private String baseUrl;
@@ -35,30 +49,49 @@ public class KmaService {
     @Value("${kma.station}")
     private String station;
 
-    private boolean initialized = false;
+    // 📊 메트릭
+    private Timer apiTimer;
+    private Timer fetchTimer;
+    private Counter linesParsed;
+    private Counter linesFailed;
+    private Counter pointsWritten;
+    // 지점별 마지막 관측 시각 (epoch sec) → 데이터 신선도 게이지
+    private final Map<String, AtomicLong> lastObservation = new ConcurrentHashMap<>();
 
     @PostConstruct public void init() { 
-        // 초기 적재 
-        initialized = true; 
+        apiTimer = Timer.builder("kma.api.latency")
+                .description("KMA API 응답 시간")
+                .tag("api", "kma_sfctm3")
+                .register(meterRegistry);
+        fetchTimer = Timer.builder("kma.fetch")
+                .description("KMA 실황 수집 전체 시간 (호출 + 파싱 + 저장)")
+                .register(meterRegistry);
+        linesParsed = Counter.builder("kma.lines.parsed").register(meterRegistry);
+        linesFailed = Counter.builder("kma.lines.failed").register(meterRegistry);
+        pointsWritten = Counter.builder("kma.points.written").register(meterRegistry);
     }
 
     /**
-     * 매 정시마다 실행 → 지난 1시간 데이터 수집 후 InfluxDB 적재
+     * 📌 원하는 시간 범위를 받아서 KMA API → InfluxDB 적재
      */
-    @Scheduled(cron = "0 10 * * * *") 
-    public void fetchAndStoreScheduled() {
-        if (initialized) {
-            initialized = false;
-            log.info("🚫 첫 스케줄은 초기 적재와 겹치므로 skip");
-            return;
-        }
-        fetchAndStore(nowMinusOneHour(), nowTime());
+    public int fetchAndStore(String tm1, String tm2, KmaRequestPriority priority) {
+        return fetchAndStore(tm1, tm2, station, priority);
     }
 
     /**
-     * 📌 원하는 시간 범위를 받아서 KMA API → InfluxDB 적재
+     * 📌 지점 지정 적재 (누락 구간 재수집 등)
+     * - KMA 호출은 KmaRequestScheduler 허가 후 실행 (priority: 호출 등급)
      */
-    public int fetchAndStore(String tm1, String tm2) {
+    public int fetchAndStore(String tm1, String tm2, String station, KmaRequestPriority priority) {
+        long started = System.nanoTime();
+        try {
+            return doFetchAndStore(tm1, tm2, station, priority);
+        } finally {
+            fetchTimer.record(Duration.ofNanos(System.nanoTime() - started));
+        }
+    }
+
+    private int doFetchAndStore(String tm1, String tm2, String station, KmaRequestPriority priority) {
         int savedCount = 0;
 
         // 🔒 로그용 마스킹
@@ -77,11 +110,11 @@ public class KmaService {
                 String.format("%s?stn=%s&tm1=%s&tm2=%s&authKey=%s",
                         baseUrl, maskedStation, tm1, tm2, maskedAuthKey));
 
-        String response = WebClient.create()
+        String response = kmaRequestScheduler.execute(priority, station, () -> apiTimer.record(() -> WebClient.create()
                 .get().uri(url)
                 .retrieve()
                 .bodyToMono(String.class)
-                .block();
+                .block()));
 
 
         if (response == null || response.isBlank()) {
@@ -89,59 +122,62 @@ public class KmaService {
             return savedCount;
         }
 
-        WriteApiBlocking writeApi = influxDBClient.getWriteApiBlocking();
-
+        // 1️⃣ 라인 파싱 → 측정값 목록 (한 줄 = 센서 5개)
+        List<SensorMeasurement> batch = new ArrayList<>();
+        Instant latest = null;
         for (String line : response.split("\n")) {
-            if (line.startsWith("#") || line.trim().isEmpty()) continue;
+            if (!KmaObservationParser.isDataLine(line)) continue;
 
             try {
-                String[] parts = line.trim().split("\\s+");
-
-                String tm = parts[0];
-                String stn = parts[1];
-
-                double wd = parseDouble(parts[2]);
-                double ws = parseDouble(parts[3]);
-                double pa = parseDouble(parts[7]);
-                double ta = parseDouble(parts[11]);
-                double rn = parseDouble(parts[15]);
-
-                Instant time = parseTime(tm);
-
-                writeApi.writePoints(Arrays.asList(
-                        makePoint("wind_dir", stn, wd, time),
-                        makePoint("wind_speed", stn, ws, time),
-                        makePoint("pressure", stn, pa, time),
-                        makePoint("temperature", stn, ta, time),
-                        makePoint("rainfall", stn, rn, time)
-                ));
+                List<SensorMeasurement> measurements = KmaObservationParser.parseLine(line);
+                batch.addAll(measurements);
                 savedCount++;
-                log.info("✅ KMA 데이터 저장: time={} temp={} station={}", time, ta, stn);
+                linesParsed.increment();
+
+                Instant time = measurements.get(0).getSensingDate();
+                if (latest == null || time.isAfter(latest)) latest = time;
+                log.debug("✅ KMA 데이터 파싱: time={} station={}", time, measurements.get(0).getStation());
             } catch (Exception e) {
+                linesFailed.increment();
                 log.error("❌ 데이터 파싱 오류: {}", line, e);
             }
         }
 
-        return savedCount;
-    }
-
-    private Point makePoint(String sensor, String station, double value, Instant time) {
-        return Point.measurement("sensor_data")
-                .addTag("sensor", sensor)
-                .addTag("station", station)
-                .addField("value", value)
-                .time(time, WritePrecision.NS);
-    }
+        // 2️⃣ InfluxDB 일괄 저장 (라인마다 HTTP 요청하지 않음)
+        //    - 저장 실패는 호출 측으로 전파 → 정시 수집/수집 작업이 실패로 기록하고 재시도
+        //    - 같은 시각 재적재는 덮어쓰기라 앞서 저장된 chunk가 중복되지 않음
+        int written = 0;
+        try {
+            for (int from = 0; from < batch.size(); from += WRITE_BATCH_SIZE) {
+                List<SensorMeasurement> chunk = batch.subList(from, Math.min(batch.size(), from + WRITE_BATCH_SIZE));
+                influxDBRepository.saveAll(chunk);
+                written += chunk.size();
+                pointsWritten.increment(chunk.size());
+                ingestNotifier.publish(chunk); // 저장 직후 알림 판정 등 수집 hook
+            }
+        } catch (RuntimeException e) {
+            log.error("❌ InfluxDB 저장 오류 (station={}, 저장 {}/{} 포인트)", maskedStation, written, batch.size(), e);
+            throw new IllegalStateException(
+                    "InfluxDB write failed (station=" + maskedStation + ", " + written + "/" + batch.size() + " points)", e);
+        }
 
-    private double parseDouble(String s) {
-        try { return Double.parseDouble(s); }
-        catch (Exception e) { return Double.NaN; }
+        if (latest != null) {
+            recordFreshness(station, latest);
+        }
+        log.info("✅ KMA 데이터 저장 완료: {}건 (station={})", savedCount, maskedStation);
+        return savedCount;
     }
 
-    private Instant parseTime(String tm) {
-        DateTimeFormatter f = DateTimeFormatter.ofPattern("yyyyMMddHHmm");
-        LocalDateTime ldt = LocalDateTime.parse(tm, f);
-        return ldt.atZone(ZoneId.of("Asia/Seoul")).toInstant();
+    private void recordFreshness(String station, Instant latest) {
+        lastObservation.computeIfAbsent(station, k -> {
+            AtomicLong holder = new AtomicLong();
+            Gauge.builder("kma.data.freshness.seconds", holder,
+                            h -> Instant.now().getEpochSecond() - h.get())
+                    .description("지점별 마지막 관측 시각으로부터 경과 시간")
+                    .tag("station", station)
+                    .register(meterRegistry);
+            return holder;
+        }).accumulateAndGet(latest.getEpochSecond(), Math::max);
     }
 
 }
@@ -0,0 +1,125 @@
+package com.example.demo.service;
+
+import com.example.demo.domain.SensorMeasurement;
+import com.example.demo.dto.LatestValueResponse;
+import com.example.demo.repository.InfluxDBRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 📌 (sensor, station)별 최신 값 인덱스 (IngestListener)
+ * - 저장되는 포인트마다 갱신 (더 최근 시각일 때만) → "모든 센서·지점의 현재 값" 조회에 InfluxDB 접근 없음
+ * - 기동 시 Flux last() 쿼리 1회로 채움, 이후 latest.refresh-ms마다 짧은 구간 last()로 보정
+ *   (여러 replica에서 다른 노드가 수집한 지점, 아카이브 적재처럼 hook을 거치지 않는 저장분 반영)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class LatestValueIndex implements IngestListener {
+
+    // 조회 API 응답과 같은 시각 기준 (timeShift 9h)
+    private static final Duration READ_TIME_SHIFT = Duration.ofHours(9);
+
+    private final InfluxDBRepository influxDBRepository;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${influx.bucket}")
+    private String bucket;
+
+    // 기동 시 채울 구간 (이보다 오래 관측이 없는 시리즈는 제외)
+    @Value("${latest.rebuild-lookback-days:30}")
+    private long rebuildLookbackDays;
+
+    // 주기 보정 구간
+    @Value("${latest.refresh-lookback-sec:7200}")
+    private long refreshLookbackSec;
+
+    @Value("${latest.stale-after-sec:7200}")
+    private long staleAfterSec;
+
+    private record Key(String sensor, String station) {}
+
+    private record Entry(double value, Instant time) {}
+
+    private final Map<Key, Entry> index = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    public void init() {
+        Gauge.builder("latest.index.series", index, Map::size)
+                .description("최신 값 인덱스 시리즈 수")
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        long started = System.currentTimeMillis();
+        try {
+            int merged = load(Duration.ofDays(rebuildLookbackDays));
+            log.info("✅ 최신 값 인덱스 적재: {}개 시리즈, {}ms", merged, System.currentTimeMillis() - started);
+        } catch (Exception e) {
+            log.error("❌ 최신 값 인덱스 적재 실패 → 수집분부터 채움 (다음 보정 주기에 재시도)", e);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${latest.refresh-ms:300000}", initialDelayString = "${latest.refresh-ms:300000}")
+    public void refreshScheduled() {
+        try {
+            load(Duration.ofSeconds(refreshLookbackSec));
+        } catch (Exception e) {
+            log.warn("⚠️ 최신 값 인덱스 보정 실패", e);
+        }
+    }
+
+    private int load(Duration lookback) {
+        List<SensorMeasurement> rows = influxDBRepository.findLatest(bucket, lookback);
+        rows.forEach(this::merge);
+        return rows.size();
+    }
+
+    @Override
+    public void onIngest(List<SensorMeasurement> points) {
+        points.forEach(this::merge);
+    }
+
+    private void merge(SensorMeasurement point) {
+        if (point.getValue() == null || point.getSensingDate() == null || point.getSensorId() == null) return;
+        Entry entry = new Entry(point.getValue(), point.getSensingDate());
+        index.merge(new Key(point.getSensorId(), point.getStation()), entry,
+                (previous, next) -> next.time().isBefore(previous.time()) ? previous : next);
+    }
+
+    /**
+     * ✅ 현재 값 목록 (sensors/stations 비어 있으면 전체, 센서·지점 순)
+     */
+    public List<LatestValueResponse> snapshot(Set<String> sensors, Set<String> stations) {
+        Instant now = Instant.now();
+        List<LatestValueResponse> result = new ArrayList<>();
+        index.forEach((key, entry) -> {
+            if (!sensors.isEmpty() && !sensors.contains(key.sensor())) return;
+            if (!stations.isEmpty() && (key.station() == null || !stations.contains(key.station()))) return;
+            long ageSec = Math.max(0, Duration.between(entry.time(), now).getSeconds());
+            result.add(new LatestValueResponse(key.sensor(), key.station(), entry.value(),
+                    entry.time().plus(READ_TIME_SHIFT), ageSec, ageSec > staleAfterSec));
+        });
+        result.sort(Comparator.comparing(LatestValueResponse::getSensorName)
+                .thenComparing(LatestValueResponse::getStation, Comparator.nullsFirst(Comparator.naturalOrder())));
+        return result;
+    }
+}
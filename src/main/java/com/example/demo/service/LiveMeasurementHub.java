@@ -0,0 +1,244 @@
+package com.example.demo.service;
+
+import com.example.demo.domain.SensorMeasurement;
+import com.example.demo.dto.LiveMeasurement;
+import com.example.demo.exception.CustomException;
+import com.example.demo.exception.ErrorCode;
+import com.example.demo.repository.InfluxDBRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.BufferOverflowStrategy;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.FluxSink;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * 📌 실시간 측정값 push (IngestListener → 구독자)
+ * - 저장 직후 포인트를 sensor/station filter가 맞는 구독자에게 바로 전달 → 대시보드 폴링 조회 대체
+ * - 구독자별 버퍼는 live.buffer-size개, 넘치면 가장 오래된 포인트부터 버림 (느린 구독자가 수집 경로를 막지 않음)
+ * - 시리즈별 최근 live.snapshot-max개를 메모리에 보관 → 초기 snapshot / 재연결(Last-Event-ID) 재전송을 InfluxDB 없이 처리
+ *   (재시작 직후처럼 메모리에 없는 센서만 InfluxDB 1회 조회)
+ * - 시리즈 마지막 시각 이하 포인트(겹치는 구간 재수집)와 live.max-point-age-min보다 오래된 포인트(백필)는 전달하지 않음
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class LiveMeasurementHub implements IngestListener {
+
+    // 조회 API 응답과 같은 시각 기준 (timeShift 9h)
+    private static final Duration READ_TIME_SHIFT = Duration.ofHours(9);
+
+    private final InfluxDBRepository influxDBRepository;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${influx.bucket}")
+    private String bucket;
+
+    @Value("${live.buffer-size:256}")
+    private int bufferSize;
+
+    @Value("${live.snapshot-max:100}")
+    private int snapshotMax;
+
+    // 메모리에 없는 센서의 snapshot을 InfluxDB에서 찾을 구간
+    @Value("${live.snapshot-lookback-sec:86400}")
+    private long snapshotLookbackSec;
+
+    @Value("${live.max-subscribers:1000}")
+    private int maxSubscribers;
+
+    @Value("${live.max-point-age-min:180}")
+    private long maxPointAgeMin;
+
+    // 연결 유지용 주석 이벤트 간격
+    @Value("${live.heartbeat-sec:15}")
+    private long heartbeatSec;
+
+    // 연결당 최대 유지 시간 (spring.mvc.async.request-timeout보다 짧게 → 정상 종료 후 클라이언트가 재연결)
+    @Value("${live.max-stream-sec:100}")
+    private long maxStreamSec;
+
+    @Value("${live.retry-ms:1000}")
+    private long retryMs;
+
+    /** 전달 단위 (seq = SSE event id, 재연결 시 Last-Event-ID로 이어 받기) */
+    public record Event(long seq, LiveMeasurement data) {}
+
+    /** 구독 조건 (비어 있으면 전체) */
+    public record Filter(Set<String> sensors, Set<String> stations) {
+        boolean matches(String sensor, String station) {
+            return (sensors.isEmpty() || sensors.contains(sensor))
+                    && (stations.isEmpty() || (station != null && stations.contains(station)));
+        }
+    }
+
+    private record SeriesKey(String sensor, String station) {}
+
+    private record Subscriber(Filter filter, FluxSink<Event> sink) {}
+
+    // 재시작 후에도 이전 id보다 커지도록 기동 시각 기준으로 시작
+    private long seq = System.currentTimeMillis() * 1000;
+    private final Map<SeriesKey, ArrayDeque<Event>> recent = new ConcurrentHashMap<>();
+    private final List<Subscriber> subscribers = new CopyOnWriteArrayList<>();
+
+    // 📊 메트릭
+    private Counter published;
+    private Counter dropped;
+
+    @PostConstruct
+    public void init() {
+        published = Counter.builder("live.events.published")
+                .description("실시간 구독으로 전달한 포인트 (구독자 수와 무관)")
+                .register(meterRegistry);
+        dropped = Counter.builder("live.events.dropped")
+                .description("구독자 버퍼가 가득 차 버린 포인트")
+                .register(meterRegistry);
+        Gauge.builder("live.subscribers", subscribers, List::size)
+                .description("실시간 구독자 수")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public synchronized void onIngest(List<SensorMeasurement> points) {
+        long freshAfter = System.currentTimeMillis() - TimeUnit.MINUTES.toMillis(maxPointAgeMin);
+        for (SensorMeasurement point : points) {
+            if (point.getValue() == null || point.getSensingDate() == null) continue;
+            if (point.getSensingDate().toEpochMilli() < freshAfter) continue;
+
+            Instant shifted = point.getSensingDate().plus(READ_TIME_SHIFT);
+            ArrayDeque<Event> series = recent.computeIfAbsent(new SeriesKey(point.getSensorId(), point.getStation()),
+                    k -> new ArrayDeque<>());
+            if (!series.isEmpty() && !shifted.isAfter(series.peekLast().data().getSensingDate())) continue;
+
+            Event event = new Event(++seq, new LiveMeasurement(point.getSensorId(), point.getStation(), point.getValue(), shifted));
+            series.addLast(event);
+            if (series.size() > snapshotMax) series.pollFirst();
+            published.increment();
+
+            for (Subscriber subscriber : subscribers) {
+                if (subscriber.filter().matches(point.getSensorId(), point.getStation())) {
+                    subscriber.sink().next(event);
+                }
+            }
+        }
+    }
+
+    /**
+     * ✅ SSE 스트림 (event: measurement, id: seq) + heartbeat, live.max-stream-sec 후 종료
+     * - EventSource는 종료 후 retry 간격 뒤 Last-Event-ID를 붙여 자동 재연결 → 빠진 포인트는 메모리에서 재전송
+     */
+    public Flux<ServerSentEvent<LiveMeasurement>> sse(Filter filter, int snapshot, Long lastEventId) {
+        Flux<ServerSentEvent<LiveMeasurement>> events = subscribe(filter, snapshot, lastEventId)
+                .map(event -> ServerSentEvent.builder(event.data())
+                        .id(String.valueOf(event.seq()))
+                        .event("measurement")
+                        .retry(Duration.ofMillis(retryMs))
+                        .build());
+        Flux<ServerSentEvent<LiveMeasurement>> heartbeat = Flux.interval(Duration.ofSeconds(Math.max(1, heartbeatSec)))
+                .map(tick -> ServerSentEvent.<LiveMeasurement>builder().comment("keepalive").build());
+
+        return Flux.merge(events, heartbeat).take(Duration.ofSeconds(Math.max(1, maxStreamSec)));
+    }
+
+    /**
+     * ✅ 구독 (초기 snapshot → 이후 새 포인트)
+     * @param snapshot    시리즈별 최근 포인트 수 (0 = 없음, 최대 live.snapshot-max)
+     * @param lastEventId 재연결 시 마지막으로 받은 id → snapshot 대신 그 이후 포인트 재전송
+     * @throws CustomException TOO_MANY_REQUESTS - 구독자 수 초과
+     */
+    public Flux<Event> subscribe(Filter filter, int snapshot, Long lastEventId) {
+        if (subscribers.size() >= maxSubscribers) {
+            throw new CustomException(ErrorCode.TOO_MANY_REQUESTS);
+        }
+        int count = Math.max(0, Math.min(snapshot, snapshotMax));
+        boolean resume = lastEventId != null && lastEventId <= currentSeq();
+
+        // 메모리에 없는 센서는 InfluxDB에서 snapshot (blocking → boundedElastic)
+        Mono<List<Event>> fallback = !resume && count > 0
+                ? Mono.fromCallable(() -> loadSnapshot(filter, count)).subscribeOn(Schedulers.boundedElastic())
+                : Mono.just(List.of());
+
+        return fallback.flatMapMany(stored -> Flux.<Event>create(sink -> {
+                    Subscriber subscriber = new Subscriber(filter, sink);
+                    // 초기 전송과 등록을 수집 경로와 같은 락 안에서 → 빠지거나 순서가 뒤바뀌는 포인트 없음
+                    synchronized (this) {
+                        initial(filter, count, resume ? lastEventId : null, stored).forEach(sink::next);
+                        subscribers.add(subscriber);
+                    }
+                    sink.onDispose(() -> subscribers.remove(subscriber));
+                }))
+                .onBackpressureBuffer(Math.max(1, bufferSize), event -> dropped.increment(), BufferOverflowStrategy.DROP_OLDEST);
+    }
+
+    private synchronized long currentSeq() {
+        return seq;
+    }
+
+    // 락 보유 상태에서 호출: 재연결이면 이후 포인트, 아니면 시리즈별 최근 count개 (+ InfluxDB snapshot 중 메모리보다 이전 것)
+    private List<Event> initial(Filter filter, int count, Long after, List<Event> stored) {
+        List<Event> result = new ArrayList<>();
+        Map<SeriesKey, Instant> firstInMemory = new HashMap<>();
+        recent.forEach((key, series) -> {
+            if (!filter.matches(key.sensor(), key.station()) || series.isEmpty()) return;
+            firstInMemory.put(key, series.peekFirst().data().getSensingDate());
+            if (after != null) {
+                series.stream().filter(e -> e.seq() > after).forEach(result::add);
+            } else if (count > 0) {
+                series.stream().skip(Math.max(0, series.size() - count)).forEach(result::add);
+            }
+        });
+        for (Event event : stored) {
+            Instant first = firstInMemory.get(new SeriesKey(event.data().getSensorName(), event.data().getStation()));
+            if (first == null || event.data().getSensingDate().isBefore(first)) result.add(event);
+        }
+        result.sort(Comparator.comparing((Event e) -> e.data().getSensingDate()).thenComparingLong(Event::seq));
+        return result;
+    }
+
+    /**
+     * 메모리에 시리즈가 하나도 없는 센서만 InfluxDB 조회 (센서 filter가 있을 때만, 지점별 최근 count개)
+     */
+    private List<Event> loadSnapshot(Filter filter, int count) {
+        Set<String> inMemory = recent.keySet().stream().map(SeriesKey::sensor).collect(Collectors.toSet());
+        Instant end = Instant.now();
+        Instant start = end.minusSeconds(snapshotLookbackSec);
+        long id = currentSeq();
+
+        List<Event> result = new ArrayList<>();
+        for (String sensor : filter.sensors()) {
+            if (inMemory.contains(sensor)) continue;
+            List<SensorMeasurement> rows = influxDBRepository.findBySensorAndStationsBetween(bucket, sensor,
+                    filter.stations().stream().sorted().toList(), start, end);
+            Map<String, List<SensorMeasurement>> byStation = rows.stream()
+                    .collect(Collectors.groupingBy(m -> m.getStation() == null ? "" : m.getStation()));
+            byStation.values().forEach(series -> series.stream()
+                    .sorted(Comparator.comparing(SensorMeasurement::getSensingDate))
+                    .skip(Math.max(0, series.size() - count))
+                    .forEach(m -> result.add(new Event(id,
+                            new LiveMeasurement(m.getSensorId(), m.getStation(), m.getValue(), m.getSensingDate())))));
+        }
+        return result;
+    }
+}
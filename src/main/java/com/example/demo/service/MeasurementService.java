@@ -8,17 +8,27 @@ import com.example.demo.exception.ErrorCode;
 import com.example.demo.repository.InfluxDBRepository;
 import com.example.demo.repository.SensorRepository;
 import com.example.demo.domain.Sensor;
+import com.example.demo.domain.WindowedRow;
+import com.example.demo.dto.WideTableResponse;
+import com.example.demo.util.SeriesResampler;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import com.example.demo.constants.HttpStatusCodeConstants;
+import com.example.demo.util.RequestTimings;
 import org.springframework.beans.factory.annotation.Value;
 
+import java.time.Duration;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
 import java.util.stream.Collectors;
 
 
@@ -29,10 +39,44 @@ public class MeasurementService {
 
         private final InfluxDBRepository influxDBRepository;
         private final SensorRepository sensorRepository;
+        private final ExecutorService fanOutExecutor;
+        private final QueryTierRouter queryTierRouter;
+        private final QueryCoalescer queryCoalescer;
+        private final RangeQuerySplitter rangeQuerySplitter;
+        private final IngestNotifier ingestNotifier;
+
+        // 조회 결과 시각은 timeShift(9h) 적용 (KST)
+        private static final Duration READ_TIME_SHIFT = Duration.ofHours(9);
+
+        // 지점 태그가 없는 포인트(수동 저장)의 지점별 조회 키
+        private static final String NO_STATION = "-";
+
+        /** 지점 간 창별 집계 함수 */
+        public enum StationAggregate { MEAN, MAX, MIN }
 
         @Value("${influx.bucket}")
         private String bucket;
 
+        // 기간 조회 합류 단위: 시작/종료를 이 단위로 넓혀 조회 → 요청별로 원래 구간만 잘라 사용
+        @Value("${query.coalesce.granularity-sec:60}")
+        private long coalesceGranularitySec;
+
+        // 격자 조회 최대 칸 수 (센서 수 × 시각 수)
+        @Value("${query.wide.max-cells:200000}")
+        private long wideMaxCells;
+
+        // 선형 보간: 이보다 먼 두 관측 사이는 보간하지 않음
+        @Value("${query.wide.max-interpolation-gap-sec:10800}")
+        private long maxInterpolationGapSec;
+
+        // 요청 1건에 지정할 수 있는 지점 수
+        @Value("${query.stations.max-per-request:100}")
+        private int maxStationsPerRequest;
+
+        // 지점 간 집계 최대 창 수
+        @Value("${query.stations.max-windows:100000}")
+        private long maxAggregateWindows;
+
         /**
          * ✅ 수동 저장
          * - 외부 요청에서 들어온 sensorId(Long)를 Sensor 엔티티 조회
@@ -47,11 +91,13 @@ public class MeasurementService {
                         Instant now = Instant.now();
                         SensorMeasurement measurement = new SensorMeasurement(
                                 sensor.getName(),    // Tag: sensorId → Sensor.name
+                                null,                // Tag: station (수동 저장은 지점 없음)
                                 request.getValue(),
                                 now                  // 저장 시각 = 현재 시각
                         );
 
                         influxDBRepository.save(measurement);
+                        ingestNotifier.publish(List.of(measurement));
                         log.info("✅ 저장 완료: sensor={} value={} time={}", sensor.getName(), request.getValue(), now);
 
                         return HttpStatusCodeConstants.OK;
@@ -75,16 +121,12 @@ public class MeasurementService {
         @Transactional(readOnly = true)
         public List<SensorMeasurementResponse> getMeasurements(Long sensorId, long durationSec) {
                 try {
-                        Sensor sensor = sensorRepository.findById(sensorId)
+                        Sensor sensor = RequestTimings.time("sensor_db", () -> queryCoalescer.execute(
+                                        "sensor_by_id", List.of(sensorId), () -> sensorRepository.findById(sensorId)))
                                 .orElseThrow(() -> new IllegalArgumentException("Sensor not found: id=" + sensorId));
 
-                        return influxDBRepository.findBySensorIdWithin(bucket, sensor.getName(), durationSec).stream()
-                                .map(m -> new SensorMeasurementResponse(
-                                        sensorId,
-                                        m.getValue(),
-                                        m.getSensingDate()
-                                ))
-                                .toList();
+                        List<SensorMeasurement> rows = findWithin(sensor.getName(), durationSec);
+                        return toResponses(sensorId, rows);
 
                 } catch (IllegalArgumentException e) {
                         log.error("❌ 조회 실패: {}", e.getMessage());
@@ -103,17 +145,12 @@ public class MeasurementService {
          */
         public List<SensorMeasurementResponse> getMeasurementsByName(String sensorName, long durationSec) {
                 try {
-                        Long sensorId = sensorRepository.findByName(sensorName)
+                        Long sensorId = RequestTimings.time("sensor_db", () -> findSensorByName(sensorName))
                                 .map(Sensor::getId)
                                 .orElseThrow(() -> new IllegalArgumentException("Sensor not found: name=" + sensorName));
 
-                        return influxDBRepository.findBySensorIdWithin(bucket, sensorName, durationSec).stream()
-                                .map(m -> new SensorMeasurementResponse(
-                                        sensorId,
-                                        m.getValue(),
-                                        m.getSensingDate()
-                                ))
-                                .toList();
+                        List<SensorMeasurement> rows = findWithin(sensorName, durationSec);
+                        return toResponses(sensorId, rows);
 
                 } catch (IllegalArgumentException e) {
                         log.error("❌ 조회 실패: {}", e.getMessage());
@@ -131,7 +168,8 @@ public class MeasurementService {
         @Transactional(readOnly = true)
         public List<SensorMeasurementResponse> getAllMeasurements() {
                 try {
-                        return influxDBRepository.findAll(bucket).stream()
+                        List<SensorMeasurement> rows = influxDBRepository.findAll(bucket);
+                        return RequestTimings.time("mapping", () -> rows.stream()
                                 .map(m -> {
                                         Long sensorId = sensorRepository.findByName(m.getSensorId())
                                                 .map(Sensor::getId)
@@ -142,7 +180,7 @@ public class MeasurementService {
                                                 m.getSensingDate()
                                         );
                                 })
-                                .toList();
+                                .toList());
 
                 } catch (Exception e) {
                         log.error("❌ 전체 조회 실패", e);
@@ -152,21 +190,28 @@ public class MeasurementService {
 
         /**
          * ✅ 기간 조회
+         * - resolution: null이면 기간에 맞춰 자동, Duration.ZERO면 원본 (계층 선택은 QueryTierRouter)
          */
         @Transactional(readOnly = true)
-        public List<SensorMeasurementResponse> getMeasurementsBetween(String sensorName, Instant start, Instant end) {
+        public List<SensorMeasurementResponse> getMeasurementsBetween(String sensorName, Instant start, Instant end, Duration resolution) {
+                return getMeasurementsBetween(sensorName, List.of(), start, end, resolution);
+        }
+
+        /**
+         * ✅ 기간 조회 (지점 집합 filter, 비어 있으면 전 지점)
+         * @throws CustomException INVALID_REQUEST - 지점 수 초과
+         */
+        @Transactional(readOnly = true)
+        public List<SensorMeasurementResponse> getMeasurementsBetween(String sensorName, List<String> stations,
+                                                                      Instant start, Instant end, Duration resolution) {
+                List<String> stationSet = normalizeStations(stations);
                 try {
-                Long sensorId = sensorRepository.findByName(sensorName)
+                Long sensorId = RequestTimings.time("sensor_db", () -> findSensorByName(sensorName))
                         .map(Sensor::getId)
                         .orElseThrow(() -> new IllegalArgumentException("Sensor not found: name=" + sensorName));
 
-                return influxDBRepository.findBySensorIdBetween(bucket, sensorName, start, end).stream()
-                        .map(m -> new SensorMeasurementResponse(
-                                sensorId,
-                                m.getValue(),
-                                m.getSensingDate()
-                        ))
-                        .toList();
+                List<SensorMeasurement> rows = findBetween(sensorName, stationSet, start, end, resolution);
+                return toResponses(sensorId, rows);
 
                 } catch (IllegalArgumentException e) {
                 log.error("❌ 조회 실패: {}", e.getMessage());
@@ -180,31 +225,32 @@ public class MeasurementService {
 
         /**
          * ✅ 센서별 그룹 조회
+         * - 센서별 InfluxDB 조회를 fanOutExecutor에 모두 제출한 뒤 한꺼번에 대기 → 센서 수만큼 병렬 실행
          */
         @Transactional(readOnly = true)
-        public Map<String, List<SensorMeasurementResponse>> getMeasurementsGroupedBySensor(Instant start, Instant end) {
+        public Map<String, List<SensorMeasurementResponse>> getMeasurementsGroupedBySensor(Instant start, Instant end, Duration resolution) {
                 try {
-                        List<Sensor> sensors = sensorRepository.findAll();
+                        List<Sensor> sensors = RequestTimings.time("sensor_db", sensorRepository::findAll);
+
+                        // 각 센서별로 InfluxDB 조회 작업을 먼저 모두 시작 (요청 구간 측정은 작업 스레드로 전달)
+                        Map<String, CompletableFuture<List<SensorMeasurementResponse>>> futures = new LinkedHashMap<>();
+                        for (Sensor sensor : sensors) {
+                                futures.put(sensor.getName(), CompletableFuture.supplyAsync(RequestTimings.wrap(() ->
+                                        toResponses(sensor.getId(),
+                                                findBetween(sensor.getName(), start, end, resolution))),
+                                        fanOutExecutor
+                                ));
+                        }
 
-                        // 각 센서별로 InfluxDB에서 최근 durationSec 동안의 데이터를 조회하여 Map으로 그룹핑
-                        return sensors.stream()
+                        // key → 센서 이름, value → 조회 결과 (실패한 센서는 빈 목록)
+                        return futures.entrySet().stream()
                                 .collect(Collectors.toMap(
-                                        Sensor::getName, // key → 센서 이름 (예: "temperature", "wind_speed")
-                                        // value → 비동기적으로 InfluxDB 조회 후 Response 변환
-                                        sensor -> {
+                                        Map.Entry::getKey,
+                                        entry -> {
                                                 try {
-                                                        return CompletableFuture.supplyAsync(() ->
-                                                                influxDBRepository.findBySensorIdBetween(bucket, sensor.getName(), start, end).stream()
-                                                                 // InfluxDB에서 조회한 SensorMeasurement → SensorMeasurementResponse 변환
-                                                                        .map(m -> new SensorMeasurementResponse(
-                                                                                sensor.getId(),
-                                                                                m.getValue(),
-                                                                                m.getSensingDate()
-                                                                        ))
-                                                                        .toList()
-                                                        ).join();// Future 결과를 기다려서 List<SensorMeasurementResponse> 반환
+                                                        return entry.getValue().join();
                                                 } catch (Exception e) {
-                                                        log.error("❌ 센서별 조회 실패: {}", sensor.getName(), e);
+                                                        log.error("❌ 센서별 조회 실패: {}", entry.getKey(), e);
                                                         return List.<SensorMeasurementResponse>of();
                                                 }
                                         }
@@ -215,4 +261,291 @@ public class MeasurementService {
                 }
         }
 
+        /**
+         * ✅ 지점별 기간 조회 (센서 1개, 지점 집합)
+         * - 지점 집합을 filter 하나로 묶어 계층 구간당 쿼리 1회 → 결과를 station 태그로 나눔 (지점 수만큼 조회하지 않음)
+         * - stations가 비면 전 지점, 지정한 지점은 관측이 없어도 빈 목록으로 포함
+         * @throws CustomException INVALID_REQUEST - 지점 수 초과 / NOT_FOUND - 없는 센서
+         */
+        @Transactional(readOnly = true)
+        public Map<String, List<SensorMeasurementResponse>> getMeasurementsByStation(String sensorName, List<String> stations,
+                                                                                     Instant start, Instant end, Duration resolution) {
+                List<String> stationSet = normalizeStations(stations);
+                Long sensorId = requireSensorId(sensorName);
+
+                List<SensorMeasurement> rows;
+                try {
+                        rows = findBetween(sensorName, stationSet, start, end, resolution);
+                } catch (Exception e) {
+                        log.error("❌ 지점별 조회 오류", e);
+                        throw new CustomException(ErrorCode.INTERNAL_ERROR);
+                }
+
+                return RequestTimings.time("mapping", () -> {
+                        Map<String, List<SensorMeasurementResponse>> byStation = new LinkedHashMap<>();
+                        stationSet.forEach(station -> byStation.put(station, new ArrayList<>()));
+                        for (SensorMeasurement m : rows) {
+                                String station = m.getStation() == null ? NO_STATION : m.getStation();
+                                byStation.computeIfAbsent(station, k -> new ArrayList<>())
+                                        .add(new SensorMeasurementResponse(sensorId, m.getValue(), m.getSensingDate()));
+                        }
+                        return byStation;
+                });
+        }
+
+        /**
+         * ✅ 지점 간 집계 (예: 권역 평균/최고 기온)
+         * - 지점 집합을 합쳐 [start, end)를 every 창으로 나눈 뒤 창별 fn 값 → InfluxDB에서 group + aggregateWindow
+         * - 계층 선택은 every를 요구 해상도로 사용, 계층 경계는 창 경계로 내려 맞춤 (창이 두 구간에 걸치지 않음)
+         * - ⚠️ 계층 버킷은 평균값이므로 MAX/MIN은 계층 간격 평균 중 최대/최소
+         * @throws CustomException INVALID_REQUEST - 잘못된 구간/every, 창 수·지점 수 초과 / NOT_FOUND - 없는 센서
+         */
+        @Transactional(readOnly = true)
+        public List<SensorMeasurementResponse> getStationAggregate(String sensorName, List<String> stations, Instant start, Instant end,
+                                                                   Duration every, StationAggregate fn) {
+                if (every == null || every.getSeconds() <= 0 || !start.isBefore(end)) {
+                        throw new CustomException(ErrorCode.INVALID_REQUEST);
+                }
+                long windows = (Duration.between(start, end).getSeconds() + every.getSeconds() - 1) / every.getSeconds();
+                if (windows > maxAggregateWindows) {
+                        throw new CustomException(ErrorCode.INVALID_REQUEST);
+                }
+                List<String> stationSet = normalizeStations(stations);
+                Long sensorId = requireSensorId(sensorName);
+
+                List<SensorMeasurement> rows = new ArrayList<>();
+                try {
+                        for (QueryTierRouter.Segment segment : alignedSegments(start, end, every)) {
+                                rows.addAll(influxDBRepository.findStationAggregate(segment.bucket(), sensorName, stationSet,
+                                        segment.start(), segment.end(), every, fn.name().toLowerCase()));
+                        }
+                } catch (Exception e) {
+                        log.error("❌ 지점 간 집계 오류", e);
+                        throw new CustomException(ErrorCode.INTERNAL_ERROR);
+                }
+                return toResponses(sensorId, rows);
+        }
+
+        /**
+         * ✅ 한 지점의 여러 센서를 같은 시각 격자에 맞춘 표 (열 단위)
+         * - 지점 1곳만 조회 → 지점별 시계열이 한 칸에서 평균/보간되며 섞이지 않음
+         * - 격자: [start, end)를 step 간격으로 나눈 칸, 칸 값은 method(MEAN/LAST/LINEAR)로 계산 후 fill로 빈 칸 채움
+         * - MEAN/LAST + 계층 구간 1개 + 저장소 지원 → InfluxDB에서 aggregateWindow + pivot (쿼리 1회)
+         * - 그 외 → 센서별 원본을 병렬 조회해 한 번 순회로 리샘플링 (정렬된 시계열 merge)
+         * @throws CustomException INVALID_REQUEST - 잘못된 지점/구간/step, 칸 수 초과 / NOT_FOUND - 없는 센서
+         */
+        public WideTableResponse getWideTable(List<String> sensorNames, String station, Instant start, Instant end,
+                                              Duration step, SeriesResampler.Method method, SeriesResampler.Fill fill) {
+                List<String> sensors = sensorNames.stream().map(String::trim).filter(n -> !n.isEmpty()).distinct().toList();
+                String stationId = station == null ? "" : station.trim();
+                if (sensors.isEmpty() || stationId.isEmpty() || stationId.contains(",")
+                        || step == null || step.toMillis() <= 0 || !start.isBefore(end)) {
+                        throw new CustomException(ErrorCode.INVALID_REQUEST);
+                }
+                long cellsLong = (Duration.between(start, end).toMillis() + step.toMillis() - 1) / step.toMillis();
+                if (cellsLong * sensors.size() > wideMaxCells) {
+                        throw new CustomException(ErrorCode.INVALID_REQUEST);
+                }
+                int cells = (int) cellsLong;
+                for (String sensor : sensors) {
+                        if (RequestTimings.time("sensor_db", () -> findSensorByName(sensor)).isEmpty()) {
+                                throw new CustomException(ErrorCode.NOT_FOUND);
+                        }
+                }
+
+                Instant gridStart = start.plus(READ_TIME_SHIFT);
+                List<QueryTierRouter.Segment> segments = queryTierRouter.route(start, end, step);
+                boolean pivot = method != SeriesResampler.Method.LINEAR && segments.size() == 1 && influxDBRepository.supportsPivot();
+
+                Map<String, Double[]> columns;
+                try {
+                        columns = pivot
+                                ? pivotColumns(segments.get(0).bucket(), sensors, stationId, start, end, gridStart, step, cells, method)
+                                : mergeColumns(sensors, stationId, start, end, gridStart, step, cells, method);
+                } catch (CustomException e) {
+                        throw e;
+                } catch (Exception e) {
+                        log.error("❌ 격자 조회 오류", e);
+                        throw new CustomException(ErrorCode.INTERNAL_ERROR);
+                }
+
+                List<Instant> times = new ArrayList<>(cells);
+                for (int i = 0; i < cells; i++) {
+                        times.add(gridStart.plus(step.multipliedBy(i)));
+                }
+                List<List<Double>> values = new ArrayList<>(sensors.size());
+                for (String sensor : sensors) {
+                        values.add(Arrays.asList(SeriesResampler.fill(columns.get(sensor), fill)));
+                }
+                return WideTableResponse.builder()
+                        .stepSec(step.getSeconds())
+                        .method(method.name())
+                        .fill(fill.name())
+                        .source(pivot ? "pivot" : "merge")
+                        .station(stationId)
+                        .columns(sensors)
+                        .time(times)
+                        .values(values)
+                        .build();
+        }
+
+        private Map<String, Double[]> pivotColumns(String segmentBucket, List<String> sensors, String station,
+                                                   Instant start, Instant end, Instant gridStart, Duration step, int cells,
+                                                   SeriesResampler.Method method) {
+                List<WindowedRow> rows = influxDBRepository.findPivoted(segmentBucket, sensors, station, start, end, step,
+                        method == SeriesResampler.Method.LAST ? "last" : "mean");
+
+                Map<String, Double[]> columns = new LinkedHashMap<>();
+                sensors.forEach(sensor -> columns.put(sensor, new Double[cells]));
+                long stepMillis = step.toMillis();
+                for (WindowedRow row : rows) {
+                        long offset = row.time().toEpochMilli() - gridStart.toEpochMilli();
+                        if (offset < 0 || offset / stepMillis >= cells) continue;
+                        int i = (int) (offset / stepMillis);
+                        row.values().forEach((sensor, value) -> {
+                                Double[] column = columns.get(sensor);
+                                if (column != null) column[i] = value;
+                        });
+                }
+                return columns;
+        }
+
+        // 센서별 원본(해당 지점만) 병렬 조회 → 격자 리샘플링 (선형 보간은 앞뒤 관측까지 포함하도록 구간 확장)
+        private Map<String, Double[]> mergeColumns(List<String> sensors, String station, Instant start, Instant end,
+                                                   Instant gridStart, Duration step, int cells, SeriesResampler.Method method) {
+                List<String> stations = List.of(station);
+                Duration maxGap = Duration.ofSeconds(maxInterpolationGapSec);
+                Instant from = method == SeriesResampler.Method.LINEAR ? start.minus(maxGap) : start;
+                Instant to = method == SeriesResampler.Method.LINEAR ? end.plus(maxGap) : end;
+
+                Map<String, CompletableFuture<Double[]>> futures = new LinkedHashMap<>();
+                for (String sensor : sensors) {
+                        futures.put(sensor, CompletableFuture.supplyAsync(RequestTimings.wrap(() ->
+                                SeriesResampler.resample(findBetween(sensor, stations, from, to, step), gridStart, step, cells, method, maxGap)),
+                                fanOutExecutor));
+                }
+
+                Map<String, Double[]> columns = new LinkedHashMap<>();
+                futures.forEach((sensor, future) -> columns.put(sensor, future.join()));
+                return columns;
+        }
+
+        /**
+         * 계층별 조회 구간 순서대로 이어 붙임 (대부분 구간 1개)
+         */
+        private List<SensorMeasurement> findBetween(String sensorName, Instant start, Instant end, Duration resolution) {
+                return findBetween(sensorName, List.of(), start, end, resolution);
+        }
+
+        private List<SensorMeasurement> findBetween(String sensorName, List<String> stations, Instant start, Instant end,
+                                                    Duration resolution) {
+                List<QueryTierRouter.Segment> segments = queryTierRouter.route(start, end, resolution);
+                if (segments.size() == 1) {
+                        QueryTierRouter.Segment segment = segments.get(0);
+                        return findSegment(segment.bucket(), sensorName, stations, segment.start(), segment.end());
+                }
+
+                List<SensorMeasurement> rows = new ArrayList<>();
+                for (QueryTierRouter.Segment segment : segments) {
+                        rows.addAll(findSegment(segment.bucket(), sensorName, stations, segment.start(), segment.end()));
+                }
+                return rows;
+        }
+
+        /**
+         * 계층 구간 경계(watermark)를 start 기준 every 창 경계로 내림 → 창마다 한 구간에서만 집계
+         * - 내린 만큼은 원본 버킷이 조회 (원본은 최근 구간이라 보존 중)
+         */
+        private List<QueryTierRouter.Segment> alignedSegments(Instant start, Instant end, Duration every) {
+                List<QueryTierRouter.Segment> segments = queryTierRouter.route(start, end, every);
+                if (segments.size() == 1) return segments;
+
+                long everySec = every.getSeconds();
+                List<QueryTierRouter.Segment> aligned = new ArrayList<>(segments.size());
+                Instant from = start;
+                for (int i = 0; i < segments.size(); i++) {
+                        QueryTierRouter.Segment segment = segments.get(i);
+                        Instant to = end;
+                        if (i < segments.size() - 1) {
+                                long offset = Duration.between(start, segment.end()).getSeconds();
+                                to = start.plusSeconds(offset / everySec * everySec);
+                        }
+                        if (from.isBefore(to)) {
+                                aligned.add(new QueryTierRouter.Segment(segment.tier(), segment.bucket(), from, to));
+                                from = to;
+                        }
+                }
+                return aligned;
+        }
+
+        // =========================
+        // 동일 조회 합류 (QueryCoalescer)
+        // =========================
+        private Optional<Sensor> findSensorByName(String sensorName) {
+                return queryCoalescer.execute("sensor_by_name", List.of(sensorName), () -> sensorRepository.findByName(sensorName));
+        }
+
+        private Long requireSensorId(String sensorName) {
+                return RequestTimings.time("sensor_db", () -> findSensorByName(sensorName))
+                        .map(Sensor::getId)
+                        .orElseThrow(() -> new CustomException(ErrorCode.NOT_FOUND));
+        }
+
+        // 상대 구간(-durationSec)은 진행 중인 같은 조회에만 합류 (시작 시각 차이 = 선행 조회 소요 시간 이내)
+        private List<SensorMeasurement> findWithin(String sensorName, long durationSec) {
+                return queryCoalescer.execute("within", List.of(bucket, sensorName, durationSec),
+                        () -> influxDBRepository.findBySensorIdWithin(bucket, sensorName, durationSec));
+        }
+
+        /**
+         * 구간을 granularity 단위로 넓혀 조회 → 같은 단위 안의 요청은 한 번만 조회, 각자 [start, end)만 사용
+         * - stations가 있으면 지점 집합 filter 쿼리 (지점 집합도 합류 키에 포함)
+         */
+        private List<SensorMeasurement> findSegment(String segmentBucket, String sensorName, List<String> stations,
+                                                    Instant start, Instant end) {
+                long step = Math.max(1, coalesceGranularitySec);
+                Instant from = Instant.ofEpochSecond(Math.floorDiv(start.getEpochSecond(), step) * step);
+                Instant to = Instant.ofEpochSecond(-Math.floorDiv(-end.getEpochSecond(), step) * step);
+                if (to.isBefore(end)) to = to.plusSeconds(step); // 초 미만 단위가 남은 경우
+                Instant queryTo = to;
+
+                // 장기간 구간은 slice로 나눠 동시에 조회 (RangeQuerySplitter)
+                String op = stations.isEmpty() ? "between" : "between_stations";
+                List<SensorMeasurement> rows = queryCoalescer.execute(op, List.of(segmentBucket, sensorName, stations, from, queryTo),
+                        () -> rangeQuerySplitter.fetch(segmentBucket, from, queryTo, slice -> stations.isEmpty()
+                                ? influxDBRepository.findBySensorIdBetween(segmentBucket, sensorName, slice.start(), slice.end())
+                                : influxDBRepository.findBySensorAndStationsBetween(segmentBucket, sensorName, stations,
+                                        slice.start(), slice.end())));
+                if (from.equals(start) && queryTo.equals(end)) return rows;
+
+                Instant shiftedStart = start.plus(READ_TIME_SHIFT);
+                Instant shiftedEnd = end.plus(READ_TIME_SHIFT);
+                return rows.stream()
+                        .filter(m -> !m.getSensingDate().isBefore(shiftedStart) && m.getSensingDate().isBefore(shiftedEnd))
+                        .toList();
+        }
+
+        // 지점 코드 정리 (공백 제거, 중복 제거, 정렬 → 같은 집합은 같은 합류 키)
+        private List<String> normalizeStations(List<String> stations) {
+                if (stations == null) return List.of();
+                List<String> normalized = stations.stream().map(String::trim).filter(s -> !s.isEmpty()).distinct().sorted().toList();
+                if (normalized.size() > maxStationsPerRequest) {
+                        throw new CustomException(ErrorCode.INVALID_REQUEST);
+                }
+                return normalized;
+        }
+
+        /**
+         * InfluxDB에서 조회한 SensorMeasurement → SensorMeasurementResponse 변환
+         */
+        private List<SensorMeasurementResponse> toResponses(Long sensorId, List<SensorMeasurement> rows) {
+                return RequestTimings.time("mapping", () -> rows.stream()
+                        .map(m -> new SensorMeasurementResponse(
+                                sensorId,
+                                m.getValue(),
+                                m.getSensingDate()
+                        ))
+                        .toList());
+        }
+
 }
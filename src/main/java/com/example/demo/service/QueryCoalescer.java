@@ -0,0 +1,105 @@
+package com.example.demo.service;
+
+import com.example.demo.util.RequestTimings;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * 📌 동일 조회 single-flight (진행 중인 같은 조회에 합류)
+ * - 같은 key의 조회가 진행 중이면 새로 실행하지 않고 그 결과(디코딩된 목록)를 함께 사용
+ * - 완료되면 바로 제거 → 결과 캐시가 아님 (정시 대시보드 폴링처럼 동시에 몰리는 요청만 합쳐짐)
+ * - 선행 조회가 max-wait-ms 안에 끝나지 않으면 직접 조회 (선행 요청 지연이 합류 요청에 전파되지 않도록)
+ * - 선행 조회가 실패하면 합류 요청도 같은 예외 (호출 측의 기존 예외 처리 그대로)
+ */
+@Slf4j
+@Service
+public class QueryCoalescer {
+
+    private final boolean enabled;
+    private final long maxWaitMs;
+    private final MeterRegistry meterRegistry;
+
+    private final Map<List<Object>, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+    private final Map<String, Counter> leaders = new ConcurrentHashMap<>();
+    private final Map<String, Counter> joined = new ConcurrentHashMap<>();
+
+    public QueryCoalescer(MeterRegistry meterRegistry,
+                          @Value("${query.coalesce.enabled:true}") boolean enabled,
+                          @Value("${query.coalesce.max-wait-ms:30000}") long maxWaitMs) {
+        this.meterRegistry = meterRegistry;
+        this.enabled = enabled;
+        this.maxWaitMs = maxWaitMs;
+        Gauge.builder("query.coalesce.inflight", inFlight, Map::size)
+                .description("진행 중인 합류 가능 조회 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * ✅ 같은 (op, key) 조회가 진행 중이면 합류, 아니면 직접 실행
+     * @param op  조회 종류 (메트릭 태그)
+     * @param key 정규화된 조회 조건 (equals/hashCode 가능한 값)
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T execute(String op, List<?> key, Supplier<T> loader) {
+        if (!enabled) return loader.get();
+
+        List<Object> fullKey = List.of(op, key);
+        CompletableFuture<Object> mine = new CompletableFuture<>();
+        CompletableFuture<Object> existing = inFlight.putIfAbsent(fullKey, mine);
+
+        if (existing != null) {
+            counter(joined, op, "joined").increment();
+            return (T) RequestTimings.time("coalesce_wait", () -> await(existing, loader));
+        }
+
+        counter(leaders, op, "leader").increment();
+        try {
+            T result = loader.get();
+            mine.complete(result);
+            return result;
+        } catch (RuntimeException | Error e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(fullKey, mine);
+        }
+    }
+
+    private Object await(CompletableFuture<Object> existing, Supplier<?> loader) {
+        try {
+            return existing.get(maxWaitMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            log.warn("⚠️ 합류한 조회가 {}ms 안에 끝나지 않아 직접 조회", maxWaitMs);
+            return loader.get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException re) throw re;
+            if (e.getCause() instanceof Error err) throw err;
+            throw new IllegalStateException(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    // 📊 coalescing 비율 = joined / (leader + joined)
+    private Counter counter(Map<String, Counter> counters, String op, String role) {
+        return counters.computeIfAbsent(op, k -> Counter.builder("query.coalesce")
+                .description("single-flight 조회 (leader: 실제 실행, joined: 진행 중 조회에 합류)")
+                .tag("op", op)
+                .tag("role", role)
+                .register(meterRegistry));
+    }
+}
@@ -0,0 +1,123 @@
+package com.example.demo.service;
+
+import com.example.demo.config.RetentionTierProperties;
+import com.example.demo.exception.CustomException;
+import com.example.demo.exception.ErrorCode;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.convert.DurationStyle;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 📌 기간 조회 → 요구 해상도를 만족하는 가장 거친 계층 버킷 선택
+ * - 요구 해상도: resolution 파라미터 (미지정 시 기간 / max-points-per-series)
+ * - 계층 사용 조건: 다운샘플 간격 ≤ 요구 해상도, 보존 기간이 시작 시각을 포함, 집계 완료 시각(watermark) 확인됨
+ * - 원본 보존 기간보다 오래된 구간은 해상도를 만족하지 못해도 남아 있는 가장 세밀한 계층 사용
+ * - 아직 집계되지 않은 최근 구간(watermark 이후)은 원본 버킷에서 이어 붙임
+ */
+@Service
+@RequiredArgsConstructor
+public class QueryTierRouter {
+
+    public static final String RAW = "raw";
+
+    private final RetentionTierProperties properties;
+
+    @Value("${influx.bucket}")
+    private String bucket;
+
+    // 계층 이름 → 이 시각 이전 구간은 집계 완료 (TierDownsampler가 갱신)
+    private final Map<String, Instant> watermarks = new ConcurrentHashMap<>();
+
+    /** 조회 구간 1개 (버킷 + [start, end)) */
+    public record Segment(String tier, String bucket, Instant start, Instant end) {}
+
+    public List<Segment> route(Instant start, Instant end, Duration resolution) {
+        if (!properties.isEnabled() || properties.getLevels().isEmpty()) {
+            return List.of(new Segment(RAW, bucket, start, end));
+        }
+
+        Instant now = Instant.now();
+        Duration wanted = resolution != null
+                ? resolution
+                : Duration.between(start, end).dividedBy(Math.max(1, properties.getMaxPointsPerSeries()));
+        boolean rawCovers = properties.getRawRetentionDays() <= 0
+                || !start.isBefore(now.minus(properties.getRawRetentionDays(), ChronoUnit.DAYS));
+
+        // 거친 계층부터 (간격 내림차순)
+        List<RetentionTierProperties.Level> coarsestFirst = properties.getLevels().stream()
+                .sorted(Comparator.comparing(RetentionTierProperties.Level::getEvery).reversed())
+                .toList();
+
+        RetentionTierProperties.Level chosen = null;
+        for (RetentionTierProperties.Level level : coarsestFirst) {
+            if (level.getEvery().compareTo(wanted) <= 0 && usable(level, start, now)) {
+                chosen = level;
+                break;
+            }
+        }
+        if (chosen == null && !rawCovers) {
+            // 원본이 이미 만료된 구간 → 남아 있는 가장 세밀한 계층
+            for (int i = coarsestFirst.size() - 1; i >= 0 && chosen == null; i--) {
+                if (usable(coarsestFirst.get(i), start, now)) chosen = coarsestFirst.get(i);
+            }
+        }
+        if (chosen == null) {
+            return List.of(new Segment(RAW, bucket, start, end));
+        }
+
+        Instant watermark = watermarks.get(chosen.getName());
+        List<Segment> segments = new ArrayList<>(2);
+        Instant tierEnd = watermark.isBefore(end) ? watermark : end;
+        if (start.isBefore(tierEnd)) {
+            segments.add(new Segment(chosen.getName(), bucketOf(chosen), start, tierEnd));
+        }
+        if (tierEnd.isBefore(end)) {
+            segments.add(new Segment(RAW, bucket, start.isAfter(tierEnd) ? start : tierEnd, end));
+        }
+        return segments;
+    }
+
+    private boolean usable(RetentionTierProperties.Level level, Instant start, Instant now) {
+        if (!watermarks.containsKey(level.getName())) return false;
+        return level.getRetentionDays() <= 0 || !start.isBefore(now.minus(level.getRetentionDays(), ChronoUnit.DAYS));
+    }
+
+    public String bucketOf(RetentionTierProperties.Level level) {
+        return bucket + "_" + level.getName();
+    }
+
+    public void advance(String tier, Instant watermark) {
+        watermarks.merge(tier, watermark, (previous, next) -> next.isAfter(previous) ? next : previous);
+    }
+
+    public Map<String, Instant> watermarks() {
+        return new LinkedHashMap<>(watermarks);
+    }
+
+    /**
+     * ✅ resolution 파라미터 해석
+     * - 미지정/"auto" → null (기간에 맞춰 자동), "raw" → 원본, 그 외 "10m", "1h", "PT1H" 등
+     */
+    public static Duration parseResolution(String resolution) {
+        if (resolution == null || resolution.isBlank() || resolution.equalsIgnoreCase("auto")) return null;
+        if (resolution.equalsIgnoreCase(RAW)) return Duration.ZERO;
+        try {
+            Duration parsed = DurationStyle.detectAndParse(resolution);
+            if (parsed.isNegative()) throw new CustomException(ErrorCode.INVALID_REQUEST);
+            return parsed;
+        } catch (IllegalArgumentException e) {
+            throw new CustomException(ErrorCode.INVALID_REQUEST);
+        }
+    }
+}
@@ -0,0 +1,199 @@
+package com.example.demo.service;
+
+import com.example.demo.util.RequestTimings;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * 📌 장기간 기간 조회 분할 실행
+ * - min-span-hours 이상 구간을 시간 순서의 [start, end) slice로 나눠 동시에 조회 → 응답 시간 ≈ slice 1개 조회 시간
+ * - slice 크기는 버킷별 최근 시간당 행 수(EWMA)로 조정: slice당 약 target-rows-per-slice 행, 최대 max-slices개
+ * - 결과는 slice 순서대로 이어 붙임 (slice끼리 시간 구간이 겹치지 않으므로 전체 재정렬 없음)
+ * - blocking: 전용 스레드 풀(parallelism) → 한 slice가 실패/요청 스레드 중단 시 남은 slice 취소
+ * - reactive: mergeSequential(동시 parallelism개) → 클라이언트 연결 종료/limit 도달 시 남은 slice 구독 취소
+ * ⚠️ 여러 지점 데이터는 slice 안에서 지점별로 묶여 나옴 (분할 전에도 지점별 순서였음)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RangeQuerySplitter {
+
+    /** 조회 구간 [start, end) */
+    public record Slice(Instant start, Instant end) {}
+
+    private final MeterRegistry meterRegistry;
+
+    @Value("${query.split.enabled:true}")
+    private boolean enabled;
+
+    // 이보다 짧은 구간은 분할하지 않음
+    @Value("${query.split.min-span-hours:168}")
+    private long minSpanHours;
+
+    // 버킷별 행 수 통계가 없을 때 slice 크기 (약 1개월)
+    @Value("${query.split.default-slice-hours:720}")
+    private long defaultSliceHours;
+
+    @Value("${query.split.min-slice-hours:24}")
+    private long minSliceHours;
+
+    @Value("${query.split.target-rows-per-slice:20000}")
+    private long targetRowsPerSlice;
+
+    @Value("${query.split.max-slices:8}")
+    private int maxSlices;
+
+    @Value("${query.split.parallelism:8}")
+    private int parallelism;
+
+    private ThreadPoolExecutor executor;
+
+    // 버킷 → 시간당 행 수 (EWMA)
+    private final Map<String, Double> rowsPerHour = new ConcurrentHashMap<>();
+    private static final double EWMA_ALPHA = 0.3;
+
+    private DistributionSummary sliceCount;
+
+    @PostConstruct
+    public void init() {
+        // 대기열이 차면 요청 스레드에서 직접 실행 (slice 작업은 다른 작업을 기다리지 않으므로 교착 없음)
+        executor = new ThreadPoolExecutor(parallelism, parallelism, 0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(parallelism * 16),
+                new CustomizableThreadFactory("query-slice-"),
+                new ThreadPoolExecutor.CallerRunsPolicy());
+        sliceCount = DistributionSummary.builder("query.split.slices")
+                .description("기간 조회 1건당 분할 slice 수")
+                .register(meterRegistry);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * ✅ 구간 분할 (분할 대상이 아니면 구간 1개)
+     */
+    public List<Slice> split(String bucket, Instant start, Instant end) {
+        long spanSeconds = Duration.between(start, end).getSeconds();
+        if (!enabled || spanSeconds < minSpanHours * 3600) return List.of(new Slice(start, end));
+
+        Double rate = rowsPerHour.get(bucket);
+        long sliceHours = rate == null || rate <= 0
+                ? defaultSliceHours
+                : Math.max(minSliceHours, (long) (targetRowsPerSlice / rate));
+        long sliceSeconds = Math.max(3600, sliceHours * 3600);
+        if ((spanSeconds + sliceSeconds - 1) / sliceSeconds > maxSlices) {
+            sliceSeconds = (spanSeconds + maxSlices - 1) / Math.max(1, maxSlices);
+        }
+
+        List<Slice> slices = new ArrayList<>();
+        for (Instant from = start; from.isBefore(end); ) {
+            Instant to = from.plusSeconds(sliceSeconds);
+            if (to.isAfter(end)) to = end;
+            slices.add(new Slice(from, to));
+            from = to;
+        }
+        return slices;
+    }
+
+    /**
+     * ✅ blocking 분할 조회 (slice 순서대로 이어 붙인 결과)
+     */
+    public <T> List<T> fetch(String bucket, Instant start, Instant end, Function<Slice, List<T>> query) {
+        List<Slice> slices = split(bucket, start, end);
+        sliceCount.record(slices.size());
+        if (slices.size() == 1) {
+            return observed(bucket, slices.get(0), query);
+        }
+
+        List<Future<List<T>>> futures = new ArrayList<>(slices.size());
+        for (Slice slice : slices) {
+            // 요청 구간 측정은 요청 스레드에서 감싸 작업 스레드로 전달
+            Supplier<List<T>> task = RequestTimings.wrap(() -> observed(bucket, slice, query));
+            futures.add(executor.submit(task::get));
+        }
+
+        List<T> rows = new ArrayList<>();
+        try {
+            for (Future<List<T>> future : futures) {
+                rows.addAll(future.get());
+            }
+            return rows;
+        } catch (ExecutionException e) {
+            cancel(futures);
+            if (e.getCause() instanceof RuntimeException re) throw re;
+            throw new IllegalStateException(e.getCause());
+        } catch (InterruptedException e) {
+            cancel(futures);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * ✅ reactive 분할 조회 (동시에 구독, 결과는 slice 순서대로 방출)
+     */
+    public <T> Flux<T> stream(String bucket, Instant start, Instant end, Function<Slice, Flux<T>> query) {
+        List<Slice> slices = split(bucket, start, end);
+        sliceCount.record(slices.size());
+        if (slices.size() == 1) return counted(bucket, slices.get(0), query);
+
+        return Flux.mergeSequential(
+                Flux.fromIterable(slices).map(slice -> counted(bucket, slice, query)),
+                parallelism, 256);
+    }
+
+    // =========================
+    // 보조
+    // =========================
+    private <T> List<T> observed(String bucket, Slice slice, Function<Slice, List<T>> query) {
+        List<T> rows = query.apply(slice);
+        observe(bucket, slice, rows.size());
+        return rows;
+    }
+
+    private <T> Flux<T> counted(String bucket, Slice slice, Function<Slice, Flux<T>> query) {
+        return Flux.defer(() -> {
+            AtomicLong rows = new AtomicLong();
+            return query.apply(slice)
+                    .doOnNext(row -> rows.incrementAndGet())
+                    .doOnComplete(() -> observe(bucket, slice, rows.get()));
+        });
+    }
+
+    // 완료된 slice의 시간당 행 수 반영 (다음 분할 크기 조정)
+    private void observe(String bucket, Slice slice, long rows) {
+        double hours = Duration.between(slice.start(), slice.end()).getSeconds() / 3600.0;
+        if (hours < 1) return;
+        double rate = rows / hours;
+        rowsPerHour.merge(bucket, rate, (old, now) -> old * (1 - EWMA_ALPHA) + now * EWMA_ALPHA);
+    }
+
+    private static void cancel(List<? extends Future<?>> futures) {
+        for (Future<?> future : futures) future.cancel(true);
+    }
+}
@@ -0,0 +1,58 @@
+package com.example.demo.service;
+
+import com.example.demo.domain.RateLimitBucketState;
+import com.example.demo.repository.RateLimitBucketStateRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 📌 MariaDB 기반 Bucket 상태 저장소 (분산 요청 제한용)
+ * - 토큰은 1분에 limitPerMinute개씩 연속 충전되는 token bucket
+ * - 한 번에 여러 개를 임대(lease)해 인스턴스 로컬에서 소비 → 요청마다 DB 왕복하지 않음
+ * - 동시 갱신은 @Version 낙관적 락으로 감지 (호출 측에서 재시도)
+ */
+@Service
+@RequiredArgsConstructor
+public class RateLimitStateStore {
+
+    private static final double MILLIS_PER_MINUTE = 60_000.0;
+
+    private final RateLimitBucketStateRepository repository;
+
+    /**
+     * 임대 결과
+     *
+     * @param granted    임대된 토큰 수 (required 미만이면 0)
+     * @param waitMillis granted == 0 일 때 required 만큼 충전되기까지 대기 시간
+     */
+    public record Lease(long granted, long waitMillis) {}
+
+    /**
+     * ✅ 토큰 임대
+     * - 최소 required 개를 확보할 수 있을 때만 최대 wanted 개까지 임대
+     * - returned: 이전 임대분 중 쓰지 않은 토큰 반납 (같은 트랜잭션에서 먼저 반영, 용량 초과분은 버림)
+     */
+    @Transactional
+    public Lease lease(String bucketKey, int limitPerMinute, long required, long wanted, long returned, long nowMs) {
+        RateLimitBucketState state = repository.findById(bucketKey)
+                .orElseGet(() -> RateLimitBucketState.builder()
+                        .bucketKey(bucketKey)
+                        .tokens((double) limitPerMinute)
+                        .lastRefillMs(nowMs)
+                        .build());
+
+        double ratePerMs = limitPerMinute / MILLIS_PER_MINUTE;
+        long elapsed = Math.max(0, nowMs - state.getLastRefillMs());
+        double tokens = Math.min(limitPerMinute, state.getTokens() + elapsed * ratePerMs + Math.max(0, returned));
+
+        long granted = tokens >= required ? (long) Math.min(wanted, Math.floor(tokens)) : 0;
+        long waitMillis = granted > 0 ? 0 : (long) Math.ceil((required - tokens) / ratePerMs);
+
+        state.setTokens(tokens - granted);
+        state.setLastRefillMs(Math.max(nowMs, state.getLastRefillMs()));
+        repository.saveAndFlush(state);
+
+        return new Lease(granted, waitMillis);
+    }
+}
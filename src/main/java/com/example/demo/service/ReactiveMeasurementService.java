@@ -0,0 +1,106 @@
+package com.example.demo.service;
+
+import com.example.demo.domain.Sensor;
+import com.example.demo.domain.SensorMeasurement;
+import com.example.demo.dto.SensorMeasurementResponse;
+import com.example.demo.repository.ReactiveInfluxDBRepository;
+import com.example.demo.repository.SensorRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * 📌 Non-blocking 조회 서비스
+ * - InfluxDB 조회는 Reactive API로 처리 → 요청 스레드가 Influx 응답을 기다리며 점유되지 않음
+ * - Sensor(JPA) 조회만 blocking 이므로 boundedElastic 스케줄러에서 실행
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ReactiveMeasurementService {
+
+        private final ReactiveInfluxDBRepository reactiveInfluxDBRepository;
+        private final SensorRepository sensorRepository;
+        private final QueryTierRouter queryTierRouter;
+        private final RangeQuerySplitter rangeQuerySplitter;
+
+        @Value("${influx.bucket}")
+        private String bucket;
+
+        /**
+         * ✅ 조회 (sensorId 기반)
+         */
+        public Flux<SensorMeasurementResponse> getMeasurements(Long sensorId, long durationSec) {
+                return stream(
+                        Mono.fromCallable(() -> sensorRepository.findById(sensorId)),
+                        "id=" + sensorId,
+                        sensor -> reactiveInfluxDBRepository.findBySensorIdWithin(bucket, sensor.getName(), durationSec)
+                );
+        }
+
+        /**
+         * ✅ 조회 (sensorName 기반)
+         */
+        public Flux<SensorMeasurementResponse> getMeasurementsByName(String sensorName, long durationSec) {
+                return stream(
+                        Mono.fromCallable(() -> sensorRepository.findByName(sensorName)),
+                        "name=" + sensorName,
+                        sensor -> reactiveInfluxDBRepository.findBySensorIdWithin(bucket, sensorName, durationSec)
+                );
+        }
+
+        /**
+         * ✅ 기간 조회 (계층 구간이 여러 개면 순서대로 이어서 스트리밍)
+         * - 장기간 구간은 slice로 나눠 동시에 조회, 방출은 시간 순서 (RangeQuerySplitter)
+         * - limit > 0: limit건 방출 후 남은 slice 조회 취소
+         */
+        public Flux<SensorMeasurementResponse> getMeasurementsBetween(String sensorName, Instant start, Instant end,
+                                                                      Duration resolution, long limit) {
+                Flux<SensorMeasurementResponse> result = stream(
+                        Mono.fromCallable(() -> sensorRepository.findByName(sensorName)),
+                        "name=" + sensorName,
+                        sensor -> Flux.concat(queryTierRouter.route(start, end, resolution).stream()
+                                .map(segment -> rangeQuerySplitter.stream(segment.bucket(), segment.start(), segment.end(),
+                                        slice -> reactiveInfluxDBRepository.findBySensorIdBetween(
+                                                segment.bucket(), sensorName, slice.start(), slice.end())))
+                                .toList())
+                );
+                return limit > 0 ? result.take(limit) : result;
+        }
+
+        /**
+         * Sensor 조회(blocking, boundedElastic) → InfluxDB 스트림(non-blocking) → Response 변환
+         */
+        private Flux<SensorMeasurementResponse> stream(Mono<Optional<Sensor>> sensorLookup,
+                                                       String sensorKey,
+                                                       Function<Sensor, Flux<SensorMeasurement>> query) {
+                return sensorLookup
+                        .subscribeOn(Schedulers.boundedElastic())
+                        .flatMapMany(sensor -> {
+                                if (sensor.isEmpty()) {
+                                        log.error("❌ 조회 실패: Sensor not found: {}", sensorKey);
+                                        return Flux.empty();
+                                }
+                                Long sensorId = sensor.get().getId();
+                                return query.apply(sensor.get())
+                                        .map(m -> new SensorMeasurementResponse(
+                                                sensorId,
+                                                m.getValue(),
+                                                m.getSensingDate()
+                                        ));
+                        })
+                        .onErrorResume(e -> {
+                                log.error("❌ InfluxDB Reactive 조회 오류", e);
+                                return Flux.empty();
+                        });
+        }
+}
@@ -0,0 +1,295 @@
+package com.example.demo.service;
+
+import com.example.demo.config.RetentionTierProperties;
+import com.example.demo.domain.SensorMeasurement;
+import com.example.demo.repository.InfluxTierRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 📌 원본 버킷 → 다운샘플 계층 버킷 주기적 집계 (influx.tiers.enabled=true, InfluxDB 저장소)
+ * - 기동 시 버킷 생성/보존 기간 적용 (실패하면 다음 실행에서 재시도)
+ * - 계층별 [이전 집계 시점 또는 now - recompute-hours, now - settle) 구간을 slice 단위로 다시 집계
+ *   → 누락 재수집으로 늦게 들어온 원본도 반영 (같은 시각 포인트는 덮어쓰기)
+ * - 집계가 끝난 시각을 QueryTierRouter에 알려 해당 계층 조회 허용
+ * - 원본 보존 기간 밖 아카이브는 원본 버킷에 남지 않으므로 ArchiveTiers(앱 내 집계)로 계층 버킷에 직접 기록
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@ConditionalOnExpression("${influx.tiers.enabled:false} and '${storage.type:influx}' == 'influx'")
+public class TierDownsampler {
+
+    // 아카이브 계층 기록 1회당 최대 포인트 수
+    private static final int ARCHIVE_WRITE_BATCH = 5000;
+
+    private final InfluxTierRepository influxTierRepository;
+    private final RetentionTierProperties properties;
+    private final QueryTierRouter queryTierRouter;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${influx.bucket}")
+    private String bucket;
+
+    private volatile boolean bucketsReady = false;
+
+    // 계층 이름 → 마지막 집계 종료 시각
+    private final Map<String, Instant> lastStop = new ConcurrentHashMap<>();
+    private final Map<String, Timer> timers = new ConcurrentHashMap<>();
+
+    @Scheduled(fixedDelayString = "${influx.tiers.interval-ms:600000}",
+            initialDelayString = "${influx.tiers.initial-delay-ms:30000}")
+    public synchronized void downsampleScheduled() {
+        if (!ensureBuckets()) return;
+
+        for (RetentionTierProperties.Level level : properties.getLevels()) {
+            try {
+                downsample(level);
+            } catch (Exception e) {
+                log.error("❌ 다운샘플 실패 (tier={})", level.getName(), e);
+            }
+        }
+    }
+
+    /**
+     * ✅ 지정 구간 전 계층 재집계 (아카이브 적재 등 과거 데이터 백필 후)
+     * - 원본 버킷에서 다시 집계하므로 원본 보존 기간 안쪽만 대상
+     * - 그보다 오래된 아카이브 구간은 archiveTiers()가 적재 중에 집계해 기록
+     */
+    public synchronized void rebuild(Instant start, Instant end) {
+        if (!ensureBuckets()) return;
+
+        Instant rawFrom = rawRetentionStart(Instant.now());
+        if (rawFrom != null && start.isBefore(rawFrom)) start = rawFrom;
+        for (RetentionTierProperties.Level level : properties.getLevels()) {
+            Instant from = align(start, level.getEvery());
+            Instant to = align(end, level.getEvery()).plus(level.getEvery());
+            if (!from.isBefore(to)) continue;
+            long points = run(level, from, to);
+            log.info("🔁 계층 재집계: tier={} {} ~ {} ({}포인트)", level.getName(), from, to, points);
+        }
+    }
+
+    /**
+     * ✅ 아카이브 파일 1개용 계층 집계기 생성
+     */
+    public ArchiveTiers archiveTiers() {
+        return new ArchiveTiers(Instant.now());
+    }
+
+    /**
+     * 📌 원본 보존 기간 밖 아카이브 포인트의 앱 내 다운샘플
+     * - 원본 버킷은 보존 기간보다 오래된 포인트를 거부 → Flux 재집계(rebuild) 불가
+     * - 계층별 창(epoch 기준 every 단위) × 센서 × 지점으로 합계/개수를 모아 평균을 계층 버킷에 바로 기록
+     * - 계층 보존 기간 밖 창은 버림 (InfluxDB가 쓰기 거부)
+     * - add()는 청크 병렬 처리 스레드에서 동시에 호출됨
+     */
+    public final class ArchiveTiers {
+
+        private final Instant rawFrom;
+        private final List<RetentionTierProperties.Level> levels;
+        private final Instant[] retainedFrom;
+        // 계층 창 → [합계, 개수]
+        private final Map<TierWindow, double[]> windows = new ConcurrentHashMap<>();
+        private volatile boolean aggregated = false;
+        private volatile boolean failed = false;
+
+        private ArchiveTiers(Instant now) {
+            this.rawFrom = rawRetentionStart(now);
+            this.levels = List.copyOf(properties.getLevels());
+            this.retainedFrom = new Instant[levels.size()];
+            for (int i = 0; i < levels.size(); i++) {
+                int days = levels.get(i).getRetentionDays();
+                retainedFrom[i] = days > 0 ? now.minus(days, ChronoUnit.DAYS) : null;
+            }
+        }
+
+        /**
+         * 원본 보존 기간 밖 포인트면 계층 창에 더하고 true (→ 원본 버킷에 쓰지 않음)
+         */
+        public boolean add(SensorMeasurement m) {
+            if (rawFrom == null || !m.getSensingDate().isBefore(rawFrom)) return false;
+
+            Double value = m.getValue();
+            if (value == null || value.isNaN()) return true;
+            aggregated = true;
+            for (int i = 0; i < levels.size(); i++) {
+                Instant windowStart = align(m.getSensingDate(), levels.get(i).getEvery());
+                if (retainedFrom[i] != null && windowStart.isBefore(retainedFrom[i])) continue;
+                windows.merge(new TierWindow(i, m.getSensorId(), m.getStation(), windowStart),
+                        new double[]{value, 1}, (a, b) -> {
+                            a[0] += b[0];
+                            a[1] += b[1];
+                            return a;
+                        });
+            }
+            return true;
+        }
+
+        public int size() {
+            return windows.size();
+        }
+
+        /** 원본 보존 기간 밖 포인트가 하나라도 있었는지 */
+        public boolean aggregated() {
+            return aggregated;
+        }
+
+        /** 기록 실패 여부 (실패한 창은 버려지므로 파일 전체 재적재 필요) */
+        public boolean failed() {
+            return failed;
+        }
+
+        /**
+         * ✅ 모인 창 평균을 계층 버킷에 기록 후 비움
+         * @return 기록한 포인트 수
+         */
+        public synchronized long flush() {
+            if (windows.isEmpty()) return 0;
+            if (!ensureBuckets()) {
+                failed = true;
+                throw new IllegalStateException("tier buckets are not ready");
+            }
+
+            List<List<SensorMeasurement>> perLevel = new ArrayList<>();
+            for (int i = 0; i < levels.size(); i++) perLevel.add(new ArrayList<>());
+            for (Iterator<Map.Entry<TierWindow, double[]>> it = windows.entrySet().iterator(); it.hasNext(); ) {
+                Map.Entry<TierWindow, double[]> e = it.next();
+                it.remove();
+                TierWindow w = e.getKey();
+                double[] acc = e.getValue();
+                perLevel.get(w.level()).add(new SensorMeasurement(w.sensor(), w.station(), acc[0] / acc[1], w.start()));
+            }
+
+            long points = 0;
+            try {
+                for (int i = 0; i < levels.size(); i++) {
+                    List<SensorMeasurement> list = perLevel.get(i);
+                    String target = queryTierRouter.bucketOf(levels.get(i));
+                    for (int from = 0; from < list.size(); from += ARCHIVE_WRITE_BATCH) {
+                        List<SensorMeasurement> batch = list.subList(from, Math.min(list.size(), from + ARCHIVE_WRITE_BATCH));
+                        influxTierRepository.write(target, batch);
+                        points += batch.size();
+                    }
+                    if (!list.isEmpty()) {
+                        log.info("🔁 아카이브 계층 기록: tier={} ({}포인트)", levels.get(i).getName(), list.size());
+                    }
+                }
+            } catch (RuntimeException e) {
+                failed = true;
+                throw e;
+            }
+            return points;
+        }
+    }
+
+    private record TierWindow(int level, String sensor, String station, Instant start) {}
+
+    private void downsample(RetentionTierProperties.Level level) {
+        Duration every = level.getEvery();
+        Instant now = Instant.now();
+        Instant stop = align(now.minus(properties.getSettleMinutes(), ChronoUnit.MINUTES), every);
+        Instant recompute = stop.minus(properties.getRecomputeHours(), ChronoUnit.HOURS);
+
+        Instant from = lastStop.get(level.getName());
+        if (from == null) {
+            from = initialStart(level, now);
+        }
+        if (recompute.isBefore(from)) from = recompute;
+
+        Instant rawFrom = rawRetentionStart(now);
+        if (rawFrom != null && from.isBefore(rawFrom)) from = rawFrom;
+        from = align(from, every);
+
+        long points = from.isBefore(stop) ? run(level, from, stop) : 0;
+        lastStop.put(level.getName(), stop);
+        queryTierRouter.advance(level.getName(), stop);
+        log.debug("다운샘플 완료: tier={} {} ~ {} ({}포인트)", level.getName(), from, stop, points);
+    }
+
+    /**
+     * 첫 실행: 계층 버킷의 마지막 시각부터 (비어 있으면 backfill-days 전부터)
+     * - 이전 실행에서 집계된 구간은 바로 조회에 사용
+     */
+    private Instant initialStart(RetentionTierProperties.Level level, Instant now) {
+        Instant backfillFrom = now.minus(properties.getBackfillDays(), ChronoUnit.DAYS);
+        Instant latest = influxTierRepository.latestTime(queryTierRouter.bucketOf(level), backfillFrom);
+        if (latest == null) return backfillFrom;
+
+        queryTierRouter.advance(level.getName(), latest);
+        return latest;
+    }
+
+    private long run(RetentionTierProperties.Level level, Instant from, Instant to) {
+        Timer timer = timers.computeIfAbsent(level.getName(), name -> Timer.builder("influx.downsample")
+                .description("계층 버킷 집계 시간")
+                .tag("tier", name)
+                .register(meterRegistry));
+
+        Duration slice = Duration.ofHours(Math.max(1, properties.getSliceHours()));
+        long points = 0;
+        for (Instant sliceStart = from; sliceStart.isBefore(to); sliceStart = sliceStart.plus(slice)) {
+            Instant sliceEnd = sliceStart.plus(slice).isBefore(to) ? sliceStart.plus(slice) : to;
+            Instant s = sliceStart;
+            points += timer.record(() -> influxTierRepository.downsample(
+                    bucket, queryTierRouter.bucketOf(level), level.getEvery(), s, sliceEnd));
+        }
+        return points;
+    }
+
+    private boolean ensureBuckets() {
+        if (bucketsReady) return true;
+        try {
+            if (properties.getRawRetentionDays() > 0) {
+                influxTierRepository.ensureBucket(bucket, properties.getRawRetentionDays());
+            }
+            for (RetentionTierProperties.Level level : properties.getLevels()) {
+                influxTierRepository.ensureBucket(queryTierRouter.bucketOf(level), level.getRetentionDays());
+                registerLagGauge(level);
+            }
+            bucketsReady = true;
+            return true;
+        } catch (Exception e) {
+            log.error("❌ 계층 버킷 준비 실패 → 다음 실행에서 재시도", e);
+            return false;
+        }
+    }
+
+    // 📊 계층별 집계 지연 (현재 - watermark)
+    private void registerLagGauge(RetentionTierProperties.Level level) {
+        Gauge.builder("influx.tier.lag.seconds", () -> {
+                    Instant watermark = queryTierRouter.watermarks().get(level.getName());
+                    return watermark == null ? Double.NaN : Instant.now().getEpochSecond() - watermark.getEpochSecond();
+                })
+                .description("다운샘플 계층 집계 지연")
+                .tag("tier", level.getName())
+                .strongReference(true)
+                .register(meterRegistry);
+    }
+
+    private Instant rawRetentionStart(Instant now) {
+        return properties.getRawRetentionDays() > 0 ? now.minus(properties.getRawRetentionDays(), ChronoUnit.DAYS) : null;
+    }
+
+    // epoch 기준 every 단위 내림 (aggregateWindow 창 경계와 동일)
+    private static Instant align(Instant time, Duration every) {
+        long step = every.toMillis();
+        return Instant.ofEpochMilli(Math.floorDiv(time.toEpochMilli(), step) * step);
+    }
+}
@@ -0,0 +1,159 @@
+package com.example.demo.util;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * 📌 요청 단위 구간별 소요 시간 (Server-Timing / 느린 요청 로그용)
+ * - RequestTimingFilter가 샘플링된 요청에만 생성해 현재 스레드에 바인딩
+ * - 바인딩되지 않은 스레드(스케줄러, 미샘플 요청)에서는 모든 기록 메서드가 즉시 반환
+ * - fan-out 작업은 wrap()으로 감싸 같은 요청 객체에 누적 (병렬 구간은 합산 시간)
+ */
+public class RequestTimings {
+
+    private static final ThreadLocal<RequestTimings> CURRENT = new ThreadLocal<>();
+    private static final int MAX_QUERIES = 20; // 느린 요청 로그에 남길 쿼리 수 상한
+
+    // 구간 이름 → 누적 시간/횟수 (기록 순서 유지)
+    private final Map<String, Phase> phases = Collections.synchronizedMap(new LinkedHashMap<>());
+    private final List<QueryRecord> queries = Collections.synchronizedList(new ArrayList<>());
+    private final LongAdder droppedQueries = new LongAdder();
+
+    private static final class Phase {
+        private final LongAdder nanos = new LongAdder();
+        private final LongAdder count = new LongAdder();
+    }
+
+    /** 실행된 쿼리 1건 (Flux 원문, 결과 행 수, 소요 시간) */
+    public record QueryRecord(String op, String query, long rows, double millis) {}
+
+    // =========================
+    // 바인딩
+    // =========================
+    public static RequestTimings current() {
+        return CURRENT.get();
+    }
+
+    public static void bind(RequestTimings timings) {
+        CURRENT.set(timings);
+    }
+
+    public static void unbind() {
+        CURRENT.remove();
+    }
+
+    /**
+     * ✅ 다른 스레드에서 실행될 작업에 현재 요청의 측정 객체 전달
+     */
+    public static <T> Supplier<T> wrap(Supplier<T> task) {
+        RequestTimings timings = current();
+        if (timings == null) return task;
+        return () -> {
+            RequestTimings previous = current();
+            bind(timings);
+            try {
+                return task.get();
+            } finally {
+                if (previous == null) unbind(); else bind(previous);
+            }
+        };
+    }
+
+    // =========================
+    // 기록
+    // =========================
+    public static <T> T time(String phase, Supplier<T> block) {
+        RequestTimings timings = current();
+        if (timings == null) return block.get();
+
+        long started = System.nanoTime();
+        try {
+            return block.get();
+        } finally {
+            timings.add(phase, System.nanoTime() - started);
+        }
+    }
+
+    public static void record(String phase, long nanos) {
+        RequestTimings timings = current();
+        if (timings != null) timings.add(phase, nanos);
+    }
+
+    /**
+     * ✅ 시계열 쿼리 기록 (구간 "influx"에 합산 + 쿼리 원문 보관)
+     */
+    public static void recordQuery(String op, String query, long rows, long nanos) {
+        RequestTimings timings = current();
+        if (timings != null) timings.addQuery(op, query, rows, nanos);
+    }
+
+    public void addQuery(String op, String query, long rows, long nanos) {
+        add("influx", nanos);
+        if (queries.size() < MAX_QUERIES) {
+            queries.add(new QueryRecord(op, query, rows, nanos / 1_000_000.0));
+        } else {
+            droppedQueries.increment();
+        }
+    }
+
+    public void add(String phase, long nanos) {
+        Phase p = phases.computeIfAbsent(phase, k -> new Phase());
+        p.nanos.add(nanos);
+        p.count.increment();
+    }
+
+    // =========================
+    // 출력
+    // =========================
+
+    /** 구간별 누적 시간 (ms) */
+    public Map<String, Double> phaseMillis() {
+        Map<String, Double> result = new LinkedHashMap<>();
+        synchronized (phases) {
+            phases.forEach((name, p) -> result.put(name, p.nanos.sum() / 1_000_000.0));
+        }
+        return result;
+    }
+
+    public List<QueryRecord> queries() {
+        synchronized (queries) {
+            return List.copyOf(queries);
+        }
+    }
+
+    public long droppedQueries() {
+        return droppedQueries.sum();
+    }
+
+    public long totalRows() {
+        synchronized (queries) {
+            return queries.stream().mapToLong(QueryRecord::rows).sum();
+        }
+    }
+
+    /**
+     * ✅ Server-Timing 헤더 값
+     * 예) apikey;dur=0.4, sensor_db;dur=1.2, influx;dur=812.0;desc="5 calls", app;dur=830.5
+     */
+    public String toServerTiming(long appNanos) {
+        StringBuilder sb = new StringBuilder();
+        synchronized (phases) {
+            phases.forEach((name, p) -> {
+                sb.append(name).append(";dur=").append(format(p.nanos.sum()));
+                long count = p.count.sum();
+                if (count > 1) sb.append(";desc=\"").append(count).append(" calls\"");
+                sb.append(", ");
+            });
+        }
+        return sb.append("app;dur=").append(format(appNanos)).toString();
+    }
+
+    private static String format(long nanos) {
+        return String.valueOf(Math.round(nanos / 10_000.0) / 100.0);
+    }
+}
@@ -0,0 +1,127 @@
+package com.example.demo.util;
+
+import com.example.demo.domain.SensorMeasurement;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * 📌 시계열 → 고정 간격 격자 리샘플링 (한 번 순회)
+ * - 격자 i번째 칸: [gridStart + i*step, gridStart + (i+1)*step)
+ * - MEAN / LAST: 칸 안 값의 평균 / 마지막 값
+ * - LINEAR: 칸 시작 시각의 값을 앞뒤 관측으로 선형 보간 (두 관측 간격이 maxGap을 넘으면 보간하지 않음)
+ * - 값이 없는 칸은 null → fill()로 채움
+ */
+public class SeriesResampler {
+
+    public enum Method { MEAN, LAST, LINEAR }
+
+    public enum Fill { NONE, PREVIOUS, ZERO }
+
+    private SeriesResampler() {
+        throw new AssertionError("SeriesResampler is a utility class and cannot be instantiated.");
+    }
+
+    public static Double[] resample(List<SensorMeasurement> rows, Instant gridStart, Duration step, int cells,
+                                    Method method, Duration maxGap) {
+        List<SensorMeasurement> sorted = sortedByTime(rows);
+        return method == Method.LINEAR
+                ? interpolate(sorted, gridStart, step, cells, maxGap)
+                : aggregate(sorted, gridStart, step, cells, method);
+    }
+
+    private static Double[] aggregate(List<SensorMeasurement> rows, Instant gridStart, Duration step, int cells, Method method) {
+        Double[] result = new Double[cells];
+        int[] counts = new int[cells];
+        long stepMillis = step.toMillis();
+        long startMillis = gridStart.toEpochMilli();
+
+        for (SensorMeasurement m : rows) {
+            if (m.getValue() == null || m.getSensingDate() == null) continue;
+            long offset = m.getSensingDate().toEpochMilli() - startMillis;
+            if (offset < 0) continue;
+            long index = offset / stepMillis;
+            if (index >= cells) break; // 정렬되어 있으므로 이후는 모두 격자 밖
+            int i = (int) index;
+            if (method == Method.LAST || result[i] == null) {
+                result[i] = m.getValue();
+            } else {
+                result[i] += m.getValue();
+            }
+            counts[i]++;
+        }
+        if (method == Method.MEAN) {
+            for (int i = 0; i < cells; i++) {
+                if (counts[i] > 1) result[i] /= counts[i];
+            }
+        }
+        return result;
+    }
+
+    private static Double[] interpolate(List<SensorMeasurement> rows, Instant gridStart, Duration step, int cells, Duration maxGap) {
+        Double[] result = new Double[cells];
+        List<SensorMeasurement> valid = rows.stream()
+                .filter(m -> m.getValue() != null && m.getSensingDate() != null)
+                .toList();
+        if (valid.isEmpty()) return result;
+
+        long stepMillis = step.toMillis();
+        long maxGapMillis = maxGap.toMillis();
+        int j = 0;
+        for (int i = 0; i < cells; i++) {
+            long t = gridStart.toEpochMilli() + i * stepMillis;
+            // valid[j] = t 이하 마지막 관측
+            while (j + 1 < valid.size() && valid.get(j + 1).getSensingDate().toEpochMilli() <= t) j++;
+
+            SensorMeasurement before = valid.get(j);
+            long beforeT = before.getSensingDate().toEpochMilli();
+            if (beforeT == t) {
+                result[i] = before.getValue();
+            } else if (beforeT < t && j + 1 < valid.size()) {
+                SensorMeasurement after = valid.get(j + 1);
+                long afterT = after.getSensingDate().toEpochMilli();
+                if (afterT - beforeT <= maxGapMillis) {
+                    double ratio = (double) (t - beforeT) / (afterT - beforeT);
+                    result[i] = before.getValue() + (after.getValue() - before.getValue()) * ratio;
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * ✅ 빈 칸 채우기 (PREVIOUS: 직전 값 유지, ZERO: 0)
+     */
+    public static Double[] fill(Double[] column, Fill fill) {
+        if (fill == Fill.NONE) return column;
+        Double previous = null;
+        for (int i = 0; i < column.length; i++) {
+            if (column[i] != null) {
+                previous = column[i];
+            } else if (fill == Fill.PREVIOUS) {
+                column[i] = previous;
+            } else {
+                column[i] = 0.0;
+            }
+        }
+        return column;
+    }
+
+    // 이미 정렬되어 있으면 그대로 (단일 지점 조회는 항상 정렬됨)
+    private static List<SensorMeasurement> sortedByTime(List<SensorMeasurement> rows) {
+        for (int i = 1; i < rows.size(); i++) {
+            Instant prev = rows.get(i - 1).getSensingDate();
+            Instant cur = rows.get(i).getSensingDate();
+            if (prev != null && cur != null && cur.isBefore(prev)) {
+                List<SensorMeasurement> copy = new ArrayList<>(rows);
+                copy.sort(Comparator.comparing(SensorMeasurement::getSensingDate,
+                        Comparator.nullsFirst(Comparator.naturalOrder())));
+                return copy;
+            }
+        }
+        return rows;
+    }
+}
@@ -0,0 +1,66 @@
+package com.example.demo.util;
+
+import java.util.ArrayDeque;
+
+/**
+ * 📌 시각 기준 슬라이딩 윈도우 (sum / min / max / count)
+ * - 구간: (마지막 포인트 시각 - span, 마지막 포인트 시각]
+ * - 포인트는 시각 오름차순으로 추가 (호출 측에서 보장) → 추가/만료 모두 amortized O(1)
+ * - min/max는 단조 deque (만료될 때까지 최솟값/최댓값이 될 수 없는 포인트는 바로 버림)
+ * - 스레드 안전하지 않음 (호출 측에서 시리즈 단위로 동기화)
+ */
+public class SlidingWindow {
+
+    private record Point(long time, double value) {}
+
+    private final long spanMillis;
+    private final ArrayDeque<Point> points = new ArrayDeque<>();
+    private final ArrayDeque<Point> minCandidates = new ArrayDeque<>();
+    private final ArrayDeque<Point> maxCandidates = new ArrayDeque<>();
+    private double sum;
+
+    public SlidingWindow(long spanMillis) {
+        this.spanMillis = spanMillis;
+    }
+
+    public void add(long time, double value) {
+        Point point = new Point(time, value);
+        points.addLast(point);
+        sum += value;
+        while (!minCandidates.isEmpty() && minCandidates.peekLast().value() >= value) minCandidates.pollLast();
+        minCandidates.addLast(point);
+        while (!maxCandidates.isEmpty() && maxCandidates.peekLast().value() <= value) maxCandidates.pollLast();
+        maxCandidates.addLast(point);
+        evict(time - spanMillis);
+    }
+
+    private void evict(long cutoff) {
+        while (!points.isEmpty() && points.peekFirst().time() <= cutoff) {
+            Point expired = points.pollFirst();
+            sum -= expired.value();
+            if (minCandidates.peekFirst() == expired) minCandidates.pollFirst();
+            if (maxCandidates.peekFirst() == expired) maxCandidates.pollFirst();
+        }
+        if (points.isEmpty()) sum = 0; // 누적 오차 정리
+    }
+
+    public int count() {
+        return points.size();
+    }
+
+    public double sum() {
+        return sum;
+    }
+
+    public double mean() {
+        return points.isEmpty() ? Double.NaN : sum / points.size();
+    }
+
+    public double min() {
+        return minCandidates.isEmpty() ? Double.NaN : minCandidates.peekFirst().value();
+    }
+
+    public double max() {
+        return maxCandidates.isEmpty() ? Double.NaN : maxCandidates.peekFirst().value();
+    }
+}
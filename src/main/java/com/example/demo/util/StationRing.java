@@ -0,0 +1,57 @@
+package com.example.demo.util;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+/**
+ * 📌 지점 → 노드 consistent hash ring
+ * - 노드마다 virtualNodes개 지점을 링에 배치, 지점은 시계 방향 첫 노드가 담당
+ * - 노드가 추가/제거되면 그 노드 구간의 지점만 이동 (나머지 지점의 담당 노드는 유지)
+ * - 같은 멤버 목록이면 모든 노드가 같은 결과를 계산 (노드 간 통신 없음)
+ */
+public class StationRing {
+
+    private final NavigableMap<Long, String> ring = new TreeMap<>();
+
+    public StationRing(Collection<String> nodes, int virtualNodes) {
+        for (String node : nodes) {
+            for (int i = 0; i < virtualNodes; i++) {
+                ring.put(hash(node + "#" + i), node);
+            }
+        }
+    }
+
+    /** 지점 담당 노드 (멤버가 없으면 null) */
+    public String owner(String station) {
+        if (ring.isEmpty()) return null;
+        Map.Entry<Long, String> entry = ring.ceilingEntry(hash(station));
+        return entry != null ? entry.getValue() : ring.firstEntry().getValue();
+    }
+
+    public List<String> ownedBy(String node, Collection<String> stations) {
+        List<String> owned = new ArrayList<>();
+        for (String station : stations) {
+            if (node.equals(owner(station))) owned.add(station);
+        }
+        return owned;
+    }
+
+    // MD5 앞 8바이트 (JVM/노드와 무관하게 같은 값)
+    private static long hash(String key) {
+        try {
+            byte[] digest = MessageDigest.getInstance("MD5").digest(key.getBytes(StandardCharsets.UTF_8));
+            long h = 0;
+            for (int i = 0; i < 8; i++) h = (h << 8) | (digest[i] & 0xff);
+            return h;
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
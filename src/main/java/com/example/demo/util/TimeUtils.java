@@ -27,9 +27,20 @@ public class TimeUtils {
         return nowMinusHours(1);
     }
 
+    /** Instant를 KMA 요청 형식(yyyyMMddHHmm, 한국시간)으로 변환 */
+    public static String toTm(java.time.Instant instant) {
+        return instant.atZone(SEOUL_ZONE).format(FORMATTER);
+    }
+
     /** 문자열을 Instant로 변환 */
     public static java.time.Instant toInstant(String tm) {
         LocalDateTime ldt = LocalDateTime.parse(tm, FORMATTER);
         return ldt.atZone(SEOUL_ZONE).toInstant();
     }
+
+    /** 대기 시간(ns) → Retry-After 헤더 값(초, 올림, 최소 1) */
+    public static long toRetryAfterSeconds(long waitNanos) {
+        long oneSecond = java.util.concurrent.TimeUnit.SECONDS.toNanos(1);
+        return Math.max(1, waitNanos / oneSecond + (waitNanos % oneSecond == 0 ? 0 : 1));
+    }
 }
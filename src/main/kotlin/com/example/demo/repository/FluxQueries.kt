@@ -0,0 +1,155 @@
+package com.example.demo.repository
+
+import java.time.Duration
+import java.time.Instant
+import java.time.format.DateTimeFormatter
+
+/**
+ * 📌 Flux 쿼리 문자열 모음
+ * - Blocking / Reactive Repository 구현체가 동일한 쿼리를 사용하도록 한 곳에서 관리
+ */
+internal object FluxQueries {
+
+    fun sensorWithin(bucket: String, sensorName: String, durationSec: Long): String {
+        val safeSensorName = escapeForFlux(sensorName)
+        return """
+            from(bucket: "$bucket")
+            |> range(start: -${durationSec}s)
+            |> filter(fn: (r) => r._measurement == "sensor_data")
+            |> filter(fn: (r) => r["sensor"] == "$safeSensorName")
+            |> filter(fn: (r) => r._field == "value")
+            |> timeShift(duration: 9h)
+        """.trimIndent()
+    }
+
+    fun all(bucket: String): String {
+        return """
+            from(bucket: "$bucket")
+            |> range(start: 0) 
+            |> filter(fn: (r) => r._measurement == "sensor_data")
+            |> filter(fn: (r) => r._field == "value")
+            |> timeShift(duration: 9h)
+        """.trimIndent()
+    }
+
+    fun sensorBetween(bucket: String, sensorName: String, start: Instant, end: Instant): String {
+        val safeSensorName = escapeForFlux(sensorName)
+        return """
+            from(bucket: "$bucket")
+            |> range(start: ${format(start)}, stop: ${format(end)})
+            |> filter(fn: (r) => r._measurement == "sensor_data")
+            |> filter(fn: (r) => r["sensor"] == "$safeSensorName")
+            |> filter(fn: (r) => r._field == "value")
+            |> timeShift(duration: 9h)
+        """.trimIndent()
+    }
+
+    /**
+     * 센서 1개 + 지점 집합 원본 (stations가 비면 전 지점)
+     * - (sensor, station) 시리즈별 테이블로 반환 → 지점 여러 개를 쿼리 1회로 조회
+     */
+    fun sensorStationsBetween(bucket: String, sensorName: String, stations: List<String>, start: Instant, end: Instant): String {
+        val safeSensorName = escapeForFlux(sensorName)
+        return """
+            from(bucket: "$bucket")
+            |> range(start: ${format(start)}, stop: ${format(end)})
+            |> filter(fn: (r) => r._measurement == "sensor_data")
+            |> filter(fn: (r) => r["sensor"] == "$safeSensorName")${stationFilter(stations)}
+            |> filter(fn: (r) => r._field == "value")
+            |> timeShift(duration: 9h)
+        """.trimIndent()
+    }
+
+    /**
+     * 지점 간 집계: 지점 집합을 센서 기준으로 합친 뒤 창(every)별 fn (mean | max | min)
+     * - 창 경계를 start에 맞추기 위해 offset = start mod every
+     */
+    fun stationAggregate(
+        bucket: String, sensorName: String, stations: List<String>, start: Instant, end: Instant, every: Duration, fn: String
+    ): String {
+        val safeSensorName = escapeForFlux(sensorName)
+        val everySec = every.seconds
+        val offsetSec = Math.floorMod(start.epochSecond, everySec)
+        return """
+            from(bucket: "$bucket")
+            |> range(start: ${format(start)}, stop: ${format(end)})
+            |> filter(fn: (r) => r._measurement == "sensor_data")
+            |> filter(fn: (r) => r["sensor"] == "$safeSensorName")${stationFilter(stations)}
+            |> filter(fn: (r) => r._field == "value")
+            |> group(columns: ["sensor"])
+            |> aggregateWindow(every: ${everySec}s, offset: ${offsetSec}s, fn: $fn, timeSrc: "_start", createEmpty: false)
+            |> timeShift(duration: 9h)
+        """.trimIndent()
+    }
+
+    /**
+     * (sensor, station) 시리즈별 마지막 포인트 (timeShift 미적용, UTC)
+     */
+    fun latest(bucket: String, lookback: Duration): String {
+        return """
+            from(bucket: "$bucket")
+            |> range(start: -${lookback.seconds}s)
+            |> filter(fn: (r) => r._measurement == "sensor_data")
+            |> filter(fn: (r) => r._field == "value")
+            |> last()
+        """.trimIndent()
+    }
+
+    fun observedHours(bucket: String, station: String, start: Instant, end: Instant): String {
+        val safeStation = escapeForFlux(station)
+        return """
+            from(bucket: "$bucket")
+            |> range(start: ${format(start)}, stop: ${format(end)})
+            |> filter(fn: (r) => r._measurement == "sensor_data")
+            |> filter(fn: (r) => r["station"] == "$safeStation")
+            |> filter(fn: (r) => r._field == "value")
+            |> aggregateWindow(every: 1h, fn: count, timeSrc: "_start", createEmpty: false)
+            |> keep(columns: ["_time", "_value", "sensor"])
+        """.trimIndent()
+    }
+
+    /**
+     * 한 지점의 센서별 step 집계 → 시각별 한 행으로 pivot
+     * - 창 경계를 start에 맞추기 위해 offset = start mod step
+     * - 지점 1곳 → 센서마다 시계열 1개 (지점 간 값이 섞이지 않음)
+     */
+    fun sensorsPivoted(
+        bucket: String, sensorNames: List<String>, station: String, start: Instant, end: Instant, step: Duration, fn: String
+    ): String {
+        val sensorFilter = sensorNames.joinToString(" or ") { "r[\"sensor\"] == \"${escapeForFlux(it)}\"" }
+        val stepSec = step.seconds
+        val offsetSec = Math.floorMod(start.epochSecond, stepSec)
+        return """
+            from(bucket: "$bucket")
+            |> range(start: ${format(start)}, stop: ${format(end)})
+            |> filter(fn: (r) => r._measurement == "sensor_data")
+            |> filter(fn: (r) => $sensorFilter)${stationFilter(listOf(station))}
+            |> filter(fn: (r) => r._field == "value")
+            |> group(columns: ["sensor"])
+            |> aggregateWindow(every: ${stepSec}s, offset: ${offsetSec}s, fn: $fn, timeSrc: "_start", createEmpty: false)
+            |> timeShift(duration: 9h)
+            |> pivot(rowKey: ["_time"], columnKey: ["sensor"], valueColumn: "_value")
+            |> group()
+            |> sort(columns: ["_time"])
+        """.trimIndent()
+    }
+
+    // 지점 집합 filter 줄 (비어 있으면 생략)
+    private fun stationFilter(stations: List<String>): String {
+        if (stations.isEmpty()) return ""
+        val condition = stations.joinToString(" or ") { "r[\"station\"] == \"${escapeForFlux(it)}\"" }
+        return "\n            |> filter(fn: (r) => $condition)"
+    }
+
+    fun format(instant: Instant): String = DateTimeFormatter.ISO_INSTANT.format(instant)
+
+    /**
+     * ⚠️ Flux Injection 방어: 따옴표/백슬래시 등 이스케이프 처리
+     */
+    fun escapeForFlux(input: String): String {
+        return input
+            .replace("\\", "\\\\")  // 백슬래시 → 이스케이프
+            .replace("\"", "\\\"")  // 큰따옴표 → \"
+            .replace("'", "\\'")    // 작은따옴표 → \'
+    }
+}
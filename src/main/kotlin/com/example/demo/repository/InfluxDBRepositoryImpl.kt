@@ -1,77 +1,183 @@
 package com.example.demo.repository
 
 import com.example.demo.domain.SensorMeasurement
+import com.example.demo.domain.WindowedRow
+import com.example.demo.util.RequestTimings
 import com.influxdb.client.InfluxDBClient
 import com.influxdb.client.QueryApi
 import com.influxdb.client.WriteApiBlocking
-import com.influxdb.client.domain.WritePrecision
+import io.micrometer.core.instrument.Counter
+import io.micrometer.core.instrument.MeterRegistry
+import io.micrometer.core.instrument.Timer
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty
 import org.springframework.stereotype.Repository
+import java.time.Duration
 import java.time.Instant
-import java.time.format.DateTimeFormatter
+import java.util.concurrent.TimeUnit
 
 @Repository
-class InfluxDBRepositoryImpl(influxDBClient: InfluxDBClient) : InfluxDBRepository {
+@ConditionalOnProperty(name = ["storage.type"], havingValue = "influx", matchIfMissing = true)
+class InfluxDBRepositoryImpl(influxDBClient: InfluxDBClient, meterRegistry: MeterRegistry) : InfluxDBRepository {
 
     private val writeApi: WriteApiBlocking = influxDBClient.writeApiBlocking
     private val queryApi: QueryApi = influxDBClient.queryApi
 
+    // 📊 메트릭 (요청마다 조회하지 않도록 미리 등록)
+    private val writeTimer: Timer = Timer.builder("influx.write")
+        .description("InfluxDB 쓰기 지연 시간")
+        .register(meterRegistry)
+    private val pointsWritten: Counter = Counter.builder("influx.points.written")
+        .description("InfluxDB에 기록한 포인트 수")
+        .register(meterRegistry)
+    private val queryTimers: Map<String, Timer> = listOf("within", "all", "between", "between_stations", "station_aggregate", "latest", "observed_hours", "pivot")
+        .associateWith { op ->
+            Timer.builder("influx.query")
+                .description("InfluxDB Flux 쿼리 실행 + 매핑 시간")
+                .tag("op", op)
+                .register(meterRegistry)
+        }
+    private val rowsRead: Counter = Counter.builder("influx.query.rows")
+        .description("InfluxDB 조회 결과 행 수")
+        .register(meterRegistry)
+
     override fun save(measurement: SensorMeasurement) {
-        writeApi.writeMeasurement(WritePrecision.MS, measurement)
+        timed(writeTimer) { writeApi.writePoint(SensorPoints.toPoint(measurement)) }
+        pointsWritten.increment()
+    }
+
+    override fun saveAll(measurements: List<SensorMeasurement>) {
+        if (measurements.isEmpty()) return
+        val points = measurements.map(SensorPoints::toPoint)
+        timed(writeTimer) { writeApi.writePoints(points) }
+        pointsWritten.increment(points.size.toDouble())
     }
 
     override fun findBySensorIdWithin(bucket: String, sensorName: String, durationSec: Long): List<SensorMeasurement> {
-        val safeSensorName = escapeForFlux(sensorName)
-        val flux = """
-            from(bucket: "$bucket")
-            |> range(start: -${durationSec}s)
-            |> filter(fn: (r) => r._measurement == "sensor_data")
-            |> filter(fn: (r) => r["sensor"] == "$safeSensorName")
-            |> filter(fn: (r) => r._field == "value")
-            |> timeShift(duration: 9h)
-        """.trimIndent()
-
-        return queryApi.query(flux, SensorMeasurement::class.java)
+        val flux = FluxQueries.sensorWithin(bucket, sensorName, durationSec)
+
+        return query("within", flux)
     }
 
     override fun findAll(bucket: String): List<SensorMeasurement> {
-        val flux = """
-            from(bucket: "$bucket")
-            |> range(start: 0) 
-            |> filter(fn: (r) => r._measurement == "sensor_data")
-            |> filter(fn: (r) => r._field == "value")
-            |> timeShift(duration: 9h)
-        """.trimIndent()
-
-        return queryApi.query(flux, SensorMeasurement::class.java)
+        val flux = FluxQueries.all(bucket)
+
+        return query("all", flux)
     }
 
     /**
      * ✅ 기간별 조회 (start ~ end)
      */
     override fun findBySensorIdBetween(bucket: String, sensorName: String, start: Instant, end: Instant): List<SensorMeasurement> {
-        val safeSensorName = escapeForFlux(sensorName)
-        val startStr = DateTimeFormatter.ISO_INSTANT.format(start)
-        val endStr = DateTimeFormatter.ISO_INSTANT.format(end)
-
-        val flux = """
-            from(bucket: "$bucket")
-            |> range(start: $startStr, stop: $endStr)
-            |> filter(fn: (r) => r._measurement == "sensor_data")
-            |> filter(fn: (r) => r["sensor"] == "$safeSensorName")
-            |> filter(fn: (r) => r._field == "value")
-            |> timeShift(duration: 9h)
-        """.trimIndent()
-
-        return queryApi.query(flux, SensorMeasurement::class.java)
+        val flux = FluxQueries.sensorBetween(bucket, sensorName, start, end)
+
+        return query("between", flux)
+    }
+
+    /**
+     * ✅ 지점 집합 기간 조회 (쿼리 1회, 지점별 시리즈는 station 태그로 구분)
+     */
+    override fun findBySensorAndStationsBetween(
+        bucket: String, sensorName: String, stations: List<String>, start: Instant, end: Instant
+    ): List<SensorMeasurement> {
+        val flux = FluxQueries.sensorStationsBetween(bucket, sensorName, stations, start, end)
+
+        return query("between_stations", flux)
+    }
+
+    /**
+     * ✅ 지점 간 창별 집계 (group(sensor) → aggregateWindow, 원본 포인트 전송 없음)
+     */
+    override fun findStationAggregate(
+        bucket: String, sensorName: String, stations: List<String>, start: Instant, end: Instant, every: Duration, fn: String
+    ): List<SensorMeasurement> {
+        require(fn in STATION_AGGREGATE_FNS) { "unsupported fn: $fn" }
+        val flux = FluxQueries.stationAggregate(bucket, sensorName, stations, start, end, every, fn)
+
+        return query("station_aggregate", flux)
+    }
+
+    /**
+     * ✅ 시리즈별 마지막 포인트 (last()는 시리즈 테이블마다 1행 → 시리즈 수만큼만 전송)
+     */
+    override fun findLatest(bucket: String, lookback: Duration): List<SensorMeasurement> {
+        val flux = FluxQueries.latest(bucket, lookback)
+
+        return query("latest", flux)
+    }
+
+    /**
+     * ✅ 누락 구간 탐지용 시간대별 count
+     * - aggregateWindow(count)로 1시간 단위 건수만 받아옴 → 원본 포인트 전송 없음
+     * - timeShift 미적용 (UTC 기준 시각 그대로 비교)
+     */
+    override fun findObservedHours(bucket: String, station: String, start: Instant, end: Instant): Map<String, Set<Instant>> {
+        val flux = FluxQueries.observedHours(bucket, station, start, end)
+
+        val tables = timed(queryTimers.getValue("observed_hours")) { queryApi.query(flux) }
+
+        val observed = mutableMapOf<String, MutableSet<Instant>>()
+        for (table in tables) {
+            for (record in table.records) {
+                val sensor = record.getValueByKey("sensor") as? String ?: continue
+                val time = record.time ?: continue
+                val count = (record.value as? Number)?.toLong() ?: 0L
+                if (count > 0) {
+                    observed.getOrPut(sensor) { mutableSetOf() }.add(time)
+                }
+            }
+        }
+        return observed
     }
 
+    override fun supportsPivot(): Boolean = true
+
     /**
-     * ⚠️ Flux Injection 방어: 따옴표/백슬래시 등 이스케이프 처리
+     * ✅ 한 지점의 센서 여러 개 step 집계 + pivot (시각별 한 행, 센서별 열)
      */
-    private fun escapeForFlux(input: String): String {
-        return input
-            .replace("\\", "\\\\")  // 백슬래시 → 이스케이프
-            .replace("\"", "\\\"")  // 큰따옴표 → \"
-            .replace("'", "\\'")    // 작은따옴표 → \'
+    override fun findPivoted(
+        bucket: String, sensorNames: List<String>, station: String, start: Instant, end: Instant, step: Duration, fn: String
+    ): List<WindowedRow> {
+        require(fn == "mean" || fn == "last") { "unsupported fn: $fn" }
+        val flux = FluxQueries.sensorsPivoted(bucket, sensorNames, station, start, end, step, fn)
+
+        val started = System.nanoTime()
+        val tables = timed(queryTimers.getValue("pivot")) { queryApi.query(flux) }
+
+        val rows = ArrayList<WindowedRow>()
+        for (table in tables) {
+            for (record in table.records) {
+                val time = record.time ?: continue
+                val values = LinkedHashMap<String, Double>()
+                for (sensor in sensorNames) {
+                    (record.getValueByKey(sensor) as? Number)?.let { values[sensor] = it.toDouble() }
+                }
+                rows.add(WindowedRow(time, values))
+            }
+        }
+        rowsRead.increment(rows.size.toDouble())
+        RequestTimings.recordQuery("pivot", flux, rows.size.toLong(), System.nanoTime() - started)
+        return rows
+    }
+
+    private fun query(op: String, flux: String): List<SensorMeasurement> {
+        val start = System.nanoTime()
+        val result = timed(queryTimers.getValue(op)) { queryApi.query(flux, SensorMeasurement::class.java) }
+        rowsRead.increment(result.size.toDouble())
+        // 요청 단위 구간 측정 (Server-Timing / 느린 요청 로그)
+        RequestTimings.recordQuery(op, flux, result.size.toLong(), System.nanoTime() - start)
+        return result
+    }
+
+    private inline fun <T> timed(timer: Timer, block: () -> T): T {
+        val start = System.nanoTime()
+        try {
+            return block()
+        } finally {
+            timer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS)
+        }
+    }
+
+    companion object {
+        private val STATION_AGGREGATE_FNS = setOf("mean", "max", "min")
     }
 }
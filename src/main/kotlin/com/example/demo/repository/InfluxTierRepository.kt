@@ -0,0 +1,108 @@
+package com.example.demo.repository
+
+import com.example.demo.domain.SensorMeasurement
+import com.influxdb.client.InfluxDBClient
+import com.influxdb.client.domain.BucketRetentionRules
+import org.slf4j.LoggerFactory
+import org.springframework.beans.factory.annotation.Value
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty
+import org.springframework.stereotype.Repository
+import java.time.Duration
+import java.time.Instant
+
+/**
+ * ✅ 보존 기간 계층용 InfluxDB 작업
+ * - 버킷 생성 / 보존 기간 변경
+ * - 다운샘플: aggregateWindow(mean) 결과를 to()로 계층 버킷에 바로 기록 (앱으로 포인트 전송 없음)
+ * - 원본이 없는 구간(보존 기간 밖 아카이브)은 앱에서 집계한 포인트를 직접 기록
+ */
+@Repository
+@ConditionalOnProperty(name = ["storage.type"], havingValue = "influx", matchIfMissing = true)
+class InfluxTierRepository(
+    private val influxDBClient: InfluxDBClient,
+    @Value("\${influx.org}") private val org: String
+) {
+
+    /**
+     * 📌 버킷이 없으면 생성, 보존 기간이 다르면 변경
+     * @param retentionDays 0 = 무기한 (everySeconds가 Int라 최대 약 68년)
+     */
+    fun ensureBucket(name: String, retentionDays: Int) {
+        require(retentionDays in 0..MAX_RETENTION_DAYS) { "retention-days out of range (0..$MAX_RETENTION_DAYS): $retentionDays" }
+        val bucketsApi = influxDBClient.bucketsApi
+        val everySeconds = retentionDays * SECONDS_PER_DAY
+        val rule = BucketRetentionRules().everySeconds(everySeconds)
+
+        val existing = bucketsApi.findBucketByName(name)
+        if (existing == null) {
+            val orgId = influxDBClient.organizationsApi.findOrganizations().firstOrNull { it.name == org }?.id
+                ?: throw IllegalStateException("InfluxDB organization not found: $org")
+            bucketsApi.createBucket(name, rule, orgId)
+            log.info("🪣 버킷 생성: {} (보존 {}일)", name, if (retentionDays > 0) retentionDays else "무기한")
+            return
+        }
+
+        val current: Int = existing.retentionRules.firstOrNull()?.everySeconds ?: 0
+        if (current != everySeconds) {
+            existing.retentionRules = listOf(rule)
+            bucketsApi.updateBucket(existing)
+            log.info("🪣 버킷 보존 기간 변경: {} {}s → {}s", name, current, everySeconds)
+        }
+    }
+
+    /**
+     * ✅ [start, stop) 원본 → every 간격 평균 → target 버킷 기록
+     * @return 기록한 포인트 수
+     */
+    fun downsample(source: String, target: String, every: Duration, start: Instant, stop: Instant): Long {
+        val flux = """
+            from(bucket: "$source")
+            |> range(start: ${FluxQueries.format(start)}, stop: ${FluxQueries.format(stop)})
+            |> filter(fn: (r) => r._measurement == "sensor_data")
+            |> filter(fn: (r) => r._field == "value")
+            |> aggregateWindow(every: ${every.seconds}s, fn: mean, timeSrc: "_start", createEmpty: false)
+            |> to(bucket: "$target", org: "${FluxQueries.escapeForFlux(org)}")
+            |> group()
+            |> count()
+        """.trimIndent()
+
+        return influxDBClient.queryApi.query(flux)
+            .flatMap { it.records }
+            .sumOf { (it.value as? Number)?.toLong() ?: 0L }
+    }
+
+    /**
+     * ✅ 앱에서 집계한 포인트를 target 버킷에 기록
+     */
+    fun write(target: String, measurements: List<SensorMeasurement>) {
+        if (measurements.isEmpty()) return
+        influxDBClient.writeApiBlocking.writePoints(target, org, measurements.map(SensorPoints::toPoint))
+    }
+
+    /**
+     * 📌 버킷의 마지막 포인트 시각 (start 이후, 없으면 null)
+     */
+    fun latestTime(bucket: String, start: Instant): Instant? {
+        val flux = """
+            from(bucket: "$bucket")
+            |> range(start: ${FluxQueries.format(start)})
+            |> filter(fn: (r) => r._measurement == "sensor_data")
+            |> filter(fn: (r) => r._field == "value")
+            |> last()
+            |> group()
+            |> max(column: "_time")
+        """.trimIndent()
+
+        return influxDBClient.queryApi.query(flux)
+            .flatMap { it.records }
+            .mapNotNull { it.time }
+            .maxOrNull()
+    }
+
+    companion object {
+        private val log = LoggerFactory.getLogger(InfluxTierRepository::class.java)
+
+        private const val SECONDS_PER_DAY = 86_400
+        private const val MAX_RETENTION_DAYS = Int.MAX_VALUE / SECONDS_PER_DAY
+    }
+}
@@ -0,0 +1,67 @@
+package com.example.demo.repository
+
+import com.example.demo.domain.SensorMeasurement
+import com.example.demo.util.RequestTimings
+import com.influxdb.client.reactive.InfluxDBClientReactive
+import com.influxdb.client.reactive.QueryReactiveApi
+import io.micrometer.core.instrument.MeterRegistry
+import io.micrometer.core.instrument.Timer
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty
+import org.springframework.stereotype.Repository
+import reactor.core.publisher.Flux
+import java.time.Instant
+import java.util.concurrent.TimeUnit
+import java.util.concurrent.atomic.AtomicLong
+
+/**
+ * ✅ Reactive 조회 구현체
+ * - InfluxDB Reactive Query API(Publisher) → Reactor Flux 변환
+ * - 구독자가 요청한 만큼만 레코드를 당겨오므로(backpressure) 대용량 결과도 스트리밍 가능
+ */
+@Repository
+@ConditionalOnProperty(name = ["storage.type"], havingValue = "influx", matchIfMissing = true)
+class ReactiveInfluxDBRepositoryImpl(
+    influxDBClientReactive: InfluxDBClientReactive,
+    meterRegistry: MeterRegistry
+) : ReactiveInfluxDBRepository {
+
+    private val queryApi: QueryReactiveApi = influxDBClientReactive.queryReactiveApi
+
+    // 📊 구독 시작 ~ 스트림 종료(완료/취소/오류)까지 시간
+    private val queryTimers: Map<String, Timer> = listOf("reactive_within", "reactive_between")
+        .associateWith { op ->
+            Timer.builder("influx.query")
+                .description("InfluxDB Flux 쿼리 실행 + 매핑 시간")
+                .tag("op", op)
+                .register(meterRegistry)
+        }
+
+    override fun findBySensorIdWithin(bucket: String, sensorName: String, durationSec: Long): Flux<SensorMeasurement> {
+        val flux = FluxQueries.sensorWithin(bucket, sensorName, durationSec)
+
+        return query("reactive_within", flux)
+    }
+
+    override fun findBySensorIdBetween(bucket: String, sensorName: String, start: Instant, end: Instant): Flux<SensorMeasurement> {
+        val flux = FluxQueries.sensorBetween(bucket, sensorName, start, end)
+
+        return query("reactive_between", flux)
+    }
+
+    private fun query(op: String, flux: String): Flux<SensorMeasurement> {
+        val timer = queryTimers.getValue(op)
+        // 요청 스레드에서 조립될 때의 구간 측정 객체 (스트림 종료 시 다른 스레드에서 기록)
+        val timings = RequestTimings.current()
+        return Flux.defer {
+            val start = System.nanoTime()
+            val rows = AtomicLong()
+            val source = Flux.from(queryApi.query(flux, SensorMeasurement::class.java))
+            (if (timings != null) source.doOnNext { rows.incrementAndGet() } else source)
+                .doFinally {
+                    val elapsed = System.nanoTime() - start
+                    timer.record(elapsed, TimeUnit.NANOSECONDS)
+                    timings?.addQuery(op, flux, rows.get(), elapsed)
+                }
+        }
+    }
+}
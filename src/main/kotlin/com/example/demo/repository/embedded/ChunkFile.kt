@@ -0,0 +1,207 @@
+package com.example.demo.repository.embedded
+
+import org.slf4j.LoggerFactory
+import java.nio.ByteBuffer
+import java.nio.ByteOrder
+import java.nio.MappedByteBuffer
+import java.nio.channels.FileChannel
+import java.nio.file.Files
+import java.nio.file.Path
+import java.nio.file.StandardCopyOption
+import java.nio.file.StandardOpenOption
+import java.util.TreeMap
+import java.util.zip.CRC32
+
+/**
+ * 📌 시리즈(sensor, station) 1개 × 시간 파티션 1개 = 파일 1개
+ * - 쓰기: 배치마다 압축 블록 1개를 파일 끝에 추가 (append-only)
+ * - 읽기: 파일 전체를 mmap → 범위가 겹치는 블록만 디코딩
+ * - 기동 시 블록 헤더/CRC 검사 → 마지막 불완전 블록(쓰기 중 종료)은 잘라냄
+ * - 압축(compaction): 여러 블록을 정렬/중복 제거한 블록 1개로 다시 씀 (임시 파일 → 원자적 교체)
+ *
+ * 블록 레이아웃 (32byte 헤더 + payload)
+ *   magic(int) count(int) minTime(long) maxTime(long) payloadLength(int) crc32(int) payload
+ */
+internal class ChunkFile(val path: Path) {
+
+    data class Block(val offset: Long, val count: Int, val minTime: Long, val maxTime: Long, val payloadLength: Int)
+
+    /** 읽기 시점의 블록 목록 + 그 블록들을 모두 포함하는 mmap 버퍼 */
+    class Snapshot(val buffer: ByteBuffer?, val blocks: List<Block>)
+
+    @Volatile
+    var blocks: List<Block> = emptyList()
+        private set
+
+    private var channel: FileChannel? = null
+    private var size = 0L
+    private var mapped: MappedByteBuffer? = null
+    private var mappedSize = 0L
+
+    /**
+     * ✅ 기존 파일 열기 + 손상된 꼬리 블록 정리
+     */
+    @Synchronized
+    fun open() {
+        if (channel != null) return
+        Files.createDirectories(path.parent)
+        val ch = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE)
+
+        val loaded = ArrayList<Block>()
+        val header = ByteBuffer.allocate(HEADER_BYTES).order(ByteOrder.BIG_ENDIAN)
+        val fileSize = ch.size()
+        var position = 0L
+        while (position + HEADER_BYTES <= fileSize) {
+            header.clear()
+            ch.read(header, position)
+            header.flip()
+            if (header.getInt(0) != MAGIC) break
+            val count = header.getInt(4)
+            val payloadLength = header.getInt(24)
+            if (count <= 0 || payloadLength <= 0 || position + HEADER_BYTES + payloadLength > fileSize) break
+
+            val payload = ByteBuffer.allocate(payloadLength)
+            ch.read(payload, position + HEADER_BYTES)
+            val crc = CRC32().apply { update(payload.array()) }
+            if (crc.value.toInt() != header.getInt(28)) break
+
+            loaded.add(Block(position, count, header.getLong(8), header.getLong(16), payloadLength))
+            position += HEADER_BYTES + payloadLength
+        }
+
+        if (position < fileSize) {
+            log.warn("⚠️ 청크 파일 꼬리 손상 → {}byte 잘라냄: {}", fileSize - position, path)
+            ch.truncate(position)
+        }
+
+        channel = ch
+        size = position
+        blocks = loaded
+    }
+
+    /**
+     * ✅ 블록 추가 (times 오름차순, 중복 없음)
+     */
+    @Synchronized
+    fun append(times: LongArray, values: DoubleArray, count: Int, fsync: Boolean) {
+        open()
+        val payload = GorillaCodec.encode(times, values, count)
+        val crc = CRC32().apply { update(payload) }
+
+        val block = ByteBuffer.allocate(HEADER_BYTES + payload.size).order(ByteOrder.BIG_ENDIAN)
+            .putInt(MAGIC)
+            .putInt(count)
+            .putLong(times[0])
+            .putLong(times[count - 1])
+            .putInt(payload.size)
+            .putInt(crc.value.toInt())
+            .put(payload)
+        block.flip()
+
+        val ch = channel!!
+        var position = size
+        while (block.hasRemaining()) {
+            position += ch.write(block, position)
+        }
+        if (fsync) ch.force(false)
+
+        blocks = blocks + Block(size, count, times[0], times[count - 1], payload.size)
+        size = position
+    }
+
+    @Synchronized
+    fun snapshot(): Snapshot {
+        open()
+        if (size == 0L) return Snapshot(null, emptyList())
+        if (mapped == null || mappedSize < size) {
+            mapped = channel!!.map(FileChannel.MapMode.READ_ONLY, 0, size)
+            mappedSize = size
+        }
+        return Snapshot(mapped, blocks)
+    }
+
+    /**
+     * ✅ [from, to) 범위 읽기 (시각 오름차순)
+     * - 블록 1개만 겹치면 바로 전달, 여러 개면 병합 (같은 시각은 나중 블록 값 → 재수집 덮어쓰기)
+     */
+    fun read(from: Long, to: Long, sink: (Long, Double) -> Unit) {
+        val snapshot = snapshot()
+        val buffer = snapshot.buffer ?: return
+        val overlapping = snapshot.blocks.filter { it.maxTime >= from && it.minTime < to }
+        if (overlapping.isEmpty()) return
+
+        if (overlapping.size == 1) {
+            val block = overlapping[0]
+            val times = LongArray(block.count)
+            val values = DoubleArray(block.count)
+            decode(buffer, block, times, values)
+            for (i in 0 until block.count) {
+                if (times[i] >= from && times[i] < to) sink(times[i], values[i])
+            }
+            return
+        }
+
+        val merged = TreeMap<Long, Double>()
+        for (block in overlapping) {
+            val times = LongArray(block.count)
+            val values = DoubleArray(block.count)
+            decode(buffer, block, times, values)
+            for (i in 0 until block.count) {
+                if (times[i] >= from && times[i] < to) merged[times[i]] = values[i]
+            }
+        }
+        for ((time, value) in merged) sink(time, value)
+    }
+
+    /**
+     * ✅ 블록 병합 (블록 수가 minBlocks 이상일 때만)
+     * - 임시 파일에 블록 1개로 기록 → fsync → 원자적 교체
+     * - 진행 중인 읽기는 이전 mmap 버퍼/블록 목록으로 계속 읽음
+     */
+    @Synchronized
+    fun compact(minBlocks: Int): Boolean {
+        open()
+        if (blocks.size < minBlocks) return false
+
+        val merged = TreeMap<Long, Double>()
+        read(Long.MIN_VALUE, Long.MAX_VALUE) { time, value -> merged[time] = value }
+        val times = LongArray(merged.size)
+        val values = DoubleArray(merged.size)
+        var i = 0
+        for ((time, value) in merged) {
+            times[i] = time
+            values[i] = value
+            i++
+        }
+
+        val tmp = path.resolveSibling(path.fileName.toString() + ".compact")
+        Files.deleteIfExists(tmp)
+        val rewritten = ChunkFile(tmp)
+        rewritten.append(times, values, times.size, true)
+        rewritten.close()
+
+        close()
+        Files.move(tmp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE)
+        open()
+        return true
+    }
+
+    @Synchronized
+    fun close() {
+        channel?.close()
+        channel = null
+        mapped = null
+        mappedSize = 0
+    }
+
+    private fun decode(buffer: ByteBuffer, block: Block, times: LongArray, values: DoubleArray) {
+        GorillaCodec.decode(buffer, (block.offset + HEADER_BYTES).toInt(), block.payloadLength, block.count, times, values)
+    }
+
+    companion object {
+        private val log = LoggerFactory.getLogger(ChunkFile::class.java)
+
+        const val MAGIC = 0x54534331 // "TSC1"
+        const val HEADER_BYTES = 32
+    }
+}
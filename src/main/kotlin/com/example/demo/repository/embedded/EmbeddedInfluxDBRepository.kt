@@ -0,0 +1,283 @@
+package com.example.demo.repository.embedded
+
+import com.example.demo.domain.SensorMeasurement
+import com.example.demo.domain.WindowedRow
+import com.example.demo.repository.InfluxDBRepository
+import com.example.demo.util.RequestTimings
+import io.micrometer.core.instrument.Counter
+import io.micrometer.core.instrument.Gauge
+import io.micrometer.core.instrument.MeterRegistry
+import io.micrometer.core.instrument.Timer
+import org.slf4j.LoggerFactory
+import org.springframework.beans.factory.DisposableBean
+import org.springframework.beans.factory.annotation.Value
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty
+import org.springframework.scheduling.annotation.Scheduled
+import org.springframework.stereotype.Repository
+import java.nio.file.Path
+import java.time.Duration
+import java.time.Instant
+import java.time.temporal.ChronoUnit
+import java.util.concurrent.TimeUnit
+
+/**
+ * ✅ 임베디드 시계열 저장소 기반 Repository (storage.type=embedded)
+ * - InfluxDB 없이 로컬 디스크의 청크 파일에 저장/조회
+ * - 조회 결과는 InfluxDB 구현과 동일하게 시각 +9h(KST) 적용, 누락 탐지(observed hours)는 UTC 그대로
+ * - bucket 인자는 사용하지 않음 (저장소 디렉터리 1개 = 버킷 1개)
+ * - 메트릭 이름은 InfluxDB 구현과 동일 → 대시보드/알림 그대로 사용
+ */
+@Repository
+@ConditionalOnProperty(name = ["storage.type"], havingValue = "embedded")
+class EmbeddedInfluxDBRepository(
+    @Value("\${storage.embedded.dir:./data/tsdb}") dir: String,
+    @Value("\${storage.embedded.partition-hours:24}") partitionHours: Long,
+    @Value("\${storage.embedded.fsync:false}") fsync: Boolean,
+    @Value("\${storage.embedded.compaction-min-blocks:4}") private val compactionMinBlocks: Int,
+    meterRegistry: MeterRegistry
+) : InfluxDBRepository, DisposableBean {
+
+    private val store = EmbeddedTimeSeriesStore(Path.of(dir), partitionHours, fsync)
+
+    // 📊 메트릭
+    private val writeTimer: Timer = Timer.builder("influx.write")
+        .description("InfluxDB 쓰기 지연 시간")
+        .register(meterRegistry)
+    private val pointsWritten: Counter = Counter.builder("influx.points.written")
+        .description("InfluxDB에 기록한 포인트 수")
+        .register(meterRegistry)
+    private val queryTimers: Map<String, Timer> =
+        listOf("within", "all", "between", "between_stations", "station_aggregate", "latest", "observed_hours", "pivot")
+            .associateWith { op ->
+                Timer.builder("influx.query")
+                    .description("InfluxDB Flux 쿼리 실행 + 매핑 시간")
+                    .tag("op", op)
+                    .register(meterRegistry)
+            }
+    private val rowsRead: Counter = Counter.builder("influx.query.rows")
+        .description("InfluxDB 조회 결과 행 수")
+        .register(meterRegistry)
+
+    init {
+        Gauge.builder("embedded.store.files") { store.fileCount() }
+            .description("임베디드 저장소 청크 파일 수")
+            .register(meterRegistry)
+    }
+
+    override fun save(measurement: SensorMeasurement) {
+        saveAll(listOf(measurement))
+    }
+
+    override fun saveAll(measurements: List<SensorMeasurement>) {
+        if (measurements.isEmpty()) return
+        val start = System.nanoTime()
+        val written = try {
+            store.write(measurements)
+        } finally {
+            writeTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS)
+        }
+        pointsWritten.increment(written.toDouble())
+    }
+
+    override fun findBySensorIdWithin(bucket: String, sensorName: String, durationSec: Long): List<SensorMeasurement> {
+        return query("within", describeWithin(sensorName, durationSec)) { within(sensorName, durationSec) }
+    }
+
+    override fun findAll(bucket: String): List<SensorMeasurement> {
+        return query("all", "all") { read({ true }, Long.MIN_VALUE, Long.MAX_VALUE) }
+    }
+
+    override fun findBySensorIdBetween(bucket: String, sensorName: String, start: Instant, end: Instant): List<SensorMeasurement> {
+        return query("between", describeBetween(sensorName, start, end)) { between(sensorName, start, end) }
+    }
+
+    override fun findBySensorAndStationsBetween(
+        bucket: String, sensorName: String, stations: List<String>, start: Instant, end: Instant
+    ): List<SensorMeasurement> {
+        val description = describeStations(sensorName, stations, start, end)
+        return query("between_stations", description) {
+            read(stationFilter(sensorName, stations), start.toEpochMilli(), end.toEpochMilli())
+        }
+    }
+
+    /**
+     * ✅ 지점 간 창별 집계 (InfluxDB 구현과 동일: 창 = start부터 every 간격, 시각 = 창 시작 +9h, 빈 창 제외)
+     */
+    override fun findStationAggregate(
+        bucket: String, sensorName: String, stations: List<String>, start: Instant, end: Instant, every: Duration, fn: String
+    ): List<SensorMeasurement> {
+        require(fn == "mean" || fn == "max" || fn == "min") { "unsupported fn: $fn" }
+        val description = "${describeStations(sensorName, stations, start, end)} every=${every.seconds}s fn=$fn"
+        return query("station_aggregate", description) {
+            val from = start.toEpochMilli()
+            val everyMillis = every.toMillis()
+            // 창 번호 → [합계, 건수, 최대, 최소]
+            val windows = sortedMapOf<Long, DoubleArray>()
+            store.scan(stationFilter(sensorName, stations), from, end.toEpochMilli()) { _, time, value ->
+                val acc = windows.getOrPut((time - from) / everyMillis) {
+                    doubleArrayOf(0.0, 0.0, Double.NEGATIVE_INFINITY, Double.POSITIVE_INFINITY)
+                }
+                acc[0] += value
+                acc[1] += 1.0
+                if (value > acc[2]) acc[2] = value
+                if (value < acc[3]) acc[3] = value
+            }
+            windows.map { (index, acc) ->
+                val value = when (fn) {
+                    "max" -> acc[2]
+                    "min" -> acc[3]
+                    else -> acc[0] / acc[1]
+                }
+                SensorMeasurement(sensorName, null, value, Instant.ofEpochMilli(from + index * everyMillis + KST_SHIFT_MILLIS))
+            }
+        }
+    }
+
+    override fun supportsPivot(): Boolean = true
+
+    /**
+     * ✅ 한 지점의 센서 여러 개 step 집계 → 시각별 한 행 (InfluxDB 구현의 aggregateWindow(offset = start) + pivot과 동일한 창)
+     * - mean: 창 안 평균, last: 창 안 가장 늦은 시각의 값
+     */
+    override fun findPivoted(
+        bucket: String, sensorNames: List<String>, station: String, start: Instant, end: Instant, step: Duration, fn: String
+    ): List<WindowedRow> {
+        require(fn == "mean" || fn == "last") { "unsupported fn: $fn" }
+        val started = System.nanoTime()
+        val from = start.toEpochMilli()
+        val stepMillis = step.toMillis()
+        val sensors = sensorNames.toSet()
+        // 창 번호 → 센서 → [합계, 건수, 마지막 시각, 마지막 값]
+        val windows = sortedMapOf<Long, MutableMap<String, DoubleArray>>()
+        try {
+            store.scan({ it.sensor in sensors && it.station == station }, from, end.toEpochMilli()) { key, time, value ->
+                val acc = windows.getOrPut((time - from) / stepMillis) { HashMap() }
+                    .getOrPut(key.sensor) { doubleArrayOf(0.0, 0.0, Double.NEGATIVE_INFINITY, Double.NaN) }
+                acc[0] += value
+                acc[1] += 1.0
+                if (time >= acc[2]) {
+                    acc[2] = time.toDouble()
+                    acc[3] = value
+                }
+            }
+        } finally {
+            queryTimers.getValue("pivot").record(System.nanoTime() - started, TimeUnit.NANOSECONDS)
+        }
+        val rows = windows.map { (index, perSensor) ->
+            val values = LinkedHashMap<String, Double>()
+            for (sensor in sensorNames) {
+                val acc = perSensor[sensor] ?: continue
+                values[sensor] = if (fn == "last") acc[3] else acc[0] / acc[1]
+            }
+            WindowedRow(Instant.ofEpochMilli(from + index * stepMillis + KST_SHIFT_MILLIS), values)
+        }
+        rowsRead.increment(rows.size.toDouble())
+        RequestTimings.recordQuery("pivot", "embedded sensors=$sensorNames station=$station range=[$start, $end) step=${step.seconds}s fn=$fn",
+            rows.size.toLong(), System.nanoTime() - started)
+        return rows
+    }
+
+    /**
+     * ✅ 시리즈별 마지막 포인트 (시리즈 내부는 시각 오름차순 → 마지막으로 받은 값)
+     */
+    override fun findLatest(bucket: String, lookback: Duration): List<SensorMeasurement> {
+        return query("latest", "embedded latest range=-${lookback.seconds}s") {
+            val now = System.currentTimeMillis()
+            val latest = LinkedHashMap<EmbeddedTimeSeriesStore.SeriesKey, SensorMeasurement>()
+            store.scan({ true }, now - lookback.toMillis(), now) { key, time, value ->
+                latest[key] = SensorMeasurement(key.sensor, key.station, value, Instant.ofEpochMilli(time))
+            }
+            latest.values.toList()
+        }
+    }
+
+    /**
+     * ✅ 누락 구간 탐지용 시간대별 관측 여부 (timeShift 미적용, UTC 정시)
+     */
+    override fun findObservedHours(bucket: String, station: String, start: Instant, end: Instant): Map<String, Set<Instant>> {
+        val started = System.nanoTime()
+        val observed = mutableMapOf<String, MutableSet<Instant>>()
+        try {
+            store.scan({ it.station == station }, start.toEpochMilli(), end.toEpochMilli()) { key, time, _ ->
+                observed.getOrPut(key.sensor) { mutableSetOf() }
+                    .add(Instant.ofEpochMilli(time).truncatedTo(ChronoUnit.HOURS))
+            }
+        } finally {
+            queryTimers.getValue("observed_hours").record(System.nanoTime() - started, TimeUnit.NANOSECONDS)
+        }
+        return observed
+    }
+
+    /**
+     * ✅ 주기적 압축 (작은 블록이 여러 개 쌓인 파일 → 블록 1개로 재작성)
+     */
+    @Scheduled(
+        fixedDelayString = "\${storage.embedded.compaction-interval-ms:300000}",
+        initialDelayString = "\${storage.embedded.compaction-interval-ms:300000}"
+    )
+    fun compact() {
+        val started = System.currentTimeMillis()
+        val compacted = store.compact(compactionMinBlocks)
+        if (compacted > 0) {
+            log.info("🗜️ 임베디드 저장소 압축 완료: 파일 {}개, {}ms", compacted, System.currentTimeMillis() - started)
+        }
+    }
+
+    override fun destroy() {
+        store.close()
+    }
+
+    // =========================
+    // 내부
+    // =========================
+
+    // Flux range(start: -Ns)와 동일: [now - N초, now)
+    internal fun within(sensorName: String, durationSec: Long): List<SensorMeasurement> {
+        val now = System.currentTimeMillis()
+        return read({ it.sensor == sensorName }, now - durationSec * 1000, now)
+    }
+
+    internal fun between(sensorName: String, start: Instant, end: Instant): List<SensorMeasurement> =
+        read({ it.sensor == sensorName }, start.toEpochMilli(), end.toEpochMilli())
+
+    private fun stationFilter(sensorName: String, stations: List<String>): (EmbeddedTimeSeriesStore.SeriesKey) -> Boolean {
+        val stationSet = stations.toSet()
+        return { it.sensor == sensorName && (stationSet.isEmpty() || it.station in stationSet) }
+    }
+
+    private fun read(filter: (EmbeddedTimeSeriesStore.SeriesKey) -> Boolean, from: Long, to: Long): List<SensorMeasurement> {
+        val result = ArrayList<SensorMeasurement>()
+        store.scan(filter, from, to) { key, time, value ->
+            result.add(SensorMeasurement(key.sensor, key.station, value, Instant.ofEpochMilli(time + KST_SHIFT_MILLIS)))
+        }
+        return result
+    }
+
+    private fun query(op: String, description: String, block: () -> List<SensorMeasurement>): List<SensorMeasurement> {
+        val start = System.nanoTime()
+        val result = try {
+            block()
+        } finally {
+            queryTimers.getValue(op).record(System.nanoTime() - start, TimeUnit.NANOSECONDS)
+        }
+        rowsRead.increment(result.size.toDouble())
+        RequestTimings.recordQuery(op, description, result.size.toLong(), System.nanoTime() - start)
+        return result
+    }
+
+    // 느린 요청 로그용 조회 설명 (Flux 원문 대신)
+    internal fun describeWithin(sensorName: String, durationSec: Long) = "embedded sensor=$sensorName range=-${durationSec}s"
+
+    internal fun describeBetween(sensorName: String, start: Instant, end: Instant) =
+        "embedded sensor=$sensorName range=[$start, $end)"
+
+    private fun describeStations(sensorName: String, stations: List<String>, start: Instant, end: Instant) =
+        "embedded sensor=$sensorName stations=${stations.ifEmpty { listOf("*") }} range=[$start, $end)"
+
+    companion object {
+        private val log = LoggerFactory.getLogger(EmbeddedInfluxDBRepository::class.java)
+
+        // InfluxDB 구현의 timeShift(duration: 9h)와 동일
+        private const val KST_SHIFT_MILLIS = 9 * 3_600_000L
+    }
+}
@@ -0,0 +1,58 @@
+package com.example.demo.repository.embedded
+
+import com.example.demo.domain.SensorMeasurement
+import com.example.demo.repository.ReactiveInfluxDBRepository
+import com.example.demo.util.RequestTimings
+import io.micrometer.core.instrument.MeterRegistry
+import io.micrometer.core.instrument.Timer
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty
+import org.springframework.stereotype.Repository
+import reactor.core.publisher.Flux
+import reactor.core.scheduler.Schedulers
+import java.time.Instant
+import java.util.concurrent.TimeUnit
+
+/**
+ * ✅ 임베디드 저장소 Reactive 조회 (storage.type=embedded)
+ * - 파일 읽기는 blocking → boundedElastic에서 실행 후 Flux로 방출
+ */
+@Repository
+@ConditionalOnProperty(name = ["storage.type"], havingValue = "embedded")
+class EmbeddedReactiveInfluxDBRepository(
+    private val repository: EmbeddedInfluxDBRepository,
+    meterRegistry: MeterRegistry
+) : ReactiveInfluxDBRepository {
+
+    private val queryTimers: Map<String, Timer> = listOf("reactive_within", "reactive_between")
+        .associateWith { op ->
+            Timer.builder("influx.query")
+                .description("InfluxDB Flux 쿼리 실행 + 매핑 시간")
+                .tag("op", op)
+                .register(meterRegistry)
+        }
+
+    override fun findBySensorIdWithin(bucket: String, sensorName: String, durationSec: Long): Flux<SensorMeasurement> {
+        val description = repository.describeWithin(sensorName, durationSec)
+
+        return query("reactive_within", description) { repository.within(sensorName, durationSec) }
+    }
+
+    override fun findBySensorIdBetween(bucket: String, sensorName: String, start: Instant, end: Instant): Flux<SensorMeasurement> {
+        val description = repository.describeBetween(sensorName, start, end)
+
+        return query("reactive_between", description) { repository.between(sensorName, start, end) }
+    }
+
+    private fun query(op: String, description: String, block: () -> List<SensorMeasurement>): Flux<SensorMeasurement> {
+        // 요청 스레드에서 조립될 때의 구간 측정 객체 (실행은 다른 스레드)
+        val timings = RequestTimings.current()
+        return Flux.defer {
+            val start = System.nanoTime()
+            val result = block()
+            val elapsed = System.nanoTime() - start
+            queryTimers.getValue(op).record(elapsed, TimeUnit.NANOSECONDS)
+            timings?.addQuery(op, description, result.size.toLong(), elapsed)
+            Flux.fromIterable(result)
+        }.subscribeOn(Schedulers.boundedElastic())
+    }
+}
@@ -0,0 +1,181 @@
+package com.example.demo.repository.embedded
+
+import com.example.demo.domain.SensorMeasurement
+import org.slf4j.LoggerFactory
+import java.nio.charset.StandardCharsets
+import java.nio.file.Files
+import java.nio.file.Path
+import java.util.HexFormat
+import java.util.TreeMap
+import java.util.concurrent.ConcurrentHashMap
+import java.util.concurrent.ConcurrentSkipListMap
+
+/**
+ * 📌 로컬 파일 기반 시계열 저장소 (InfluxDB 대체용)
+ * - 디렉터리: <root>/<sensor>/<station>/<파티션 시작(epoch ms)>.chunk
+ * - 시리즈별 파티션 인덱스(정렬 맵) → 범위 조회 시 겹치는 파티션 파일만 읽음
+ * - 시각은 밀리초 정밀도, null/NaN/무한대 값은 저장하지 않음 (InfluxDB Point와 동일)
+ */
+class EmbeddedTimeSeriesStore(
+    private val root: Path,
+    partitionHours: Long,
+    private val fsync: Boolean
+) : AutoCloseable {
+
+    data class SeriesKey(val sensor: String, val station: String?)
+
+    private val partitionMillis = partitionHours * 3_600_000L
+
+    // 시리즈 → 파티션 시작 시각 → 청크 파일
+    private val series = ConcurrentHashMap<SeriesKey, ConcurrentSkipListMap<Long, ChunkFile>>()
+
+    init {
+        require(partitionHours > 0) { "partitionHours must be positive" }
+        Files.createDirectories(root)
+        load()
+    }
+
+    /**
+     * ✅ 기동 시 디렉터리 스캔 → 인덱스 복원 (압축 중 남은 임시 파일은 삭제)
+     */
+    private fun load() {
+        var files = 0
+        Files.newDirectoryStream(root).use { sensors ->
+            for (sensorDir in sensors) {
+                if (!Files.isDirectory(sensorDir)) continue
+                Files.newDirectoryStream(sensorDir).use { stations ->
+                    for (stationDir in stations) {
+                        if (!Files.isDirectory(stationDir)) continue
+                        val key = SeriesKey(decodeName(sensorDir.fileName.toString())!!, decodeName(stationDir.fileName.toString()))
+                        Files.newDirectoryStream(stationDir).use { chunks ->
+                            for (chunk in chunks) {
+                                val name = chunk.fileName.toString()
+                                if (name.endsWith(".compact")) {
+                                    Files.deleteIfExists(chunk)
+                                } else if (name.endsWith(CHUNK_SUFFIX)) {
+                                    val start = name.removeSuffix(CHUNK_SUFFIX).toLong()
+                                    val file = ChunkFile(chunk)
+                                    file.open()
+                                    partitions(key)[start] = file
+                                    files++
+                                }
+                            }
+                        }
+                    }
+                }
+            }
+        }
+        log.info("📂 임베디드 시계열 저장소 로드: {} (시리즈 {}개, 파일 {}개)", root, series.size, files)
+    }
+
+    /**
+     * ✅ 쓰기: 시리즈/파티션별로 묶어 정렬·중복 제거 후 블록 1개씩 추가
+     * @return 저장한 포인트 수
+     */
+    fun write(measurements: List<SensorMeasurement>): Int {
+        val grouped = HashMap<SeriesKey, HashMap<Long, MutableList<SensorMeasurement>>>()
+        for (m in measurements) {
+            val value = m.value ?: continue
+            val sensor = m.sensorId ?: continue
+            val time = m.sensingDate ?: continue
+            if (value.isNaN() || value.isInfinite()) continue
+            val partition = partitionStart(time.toEpochMilli())
+            grouped.getOrPut(SeriesKey(sensor, m.station)) { HashMap() }
+                .getOrPut(partition) { ArrayList() }
+                .add(m)
+        }
+
+        var written = 0
+        for ((key, byPartition) in grouped) {
+            for ((partition, points) in byPartition) {
+                // 시각 오름차순 + 같은 시각은 마지막 값 유지
+                val latest = TreeMap<Long, Double>()
+                for (p in points) latest[p.sensingDate.toEpochMilli()] = p.value
+                val times = LongArray(latest.size)
+                val values = DoubleArray(latest.size)
+                var i = 0
+                for ((time, value) in latest) {
+                    times[i] = time
+                    values[i] = value
+                    i++
+                }
+                chunkFile(key, partition).append(times, values, times.size, fsync)
+                written += times.size
+            }
+        }
+        return written
+    }
+
+    /**
+     * ✅ 범위 조회 [from, to) - 시리즈 정렬 순서(sensor, station)대로, 시리즈 내부는 시각 오름차순
+     */
+    fun scan(filter: (SeriesKey) -> Boolean, from: Long, to: Long, sink: (SeriesKey, Long, Double) -> Unit) {
+        val keys = series.keys.filter(filter)
+            .sortedWith(compareBy<SeriesKey> { it.sensor }.thenBy(nullsFirst(naturalOrder<String>())) { it.station })
+        for (key in keys) {
+            val partitions = series[key] ?: continue
+            val fromPartition = if (from == Long.MIN_VALUE) Long.MIN_VALUE else partitionStart(from)
+            for (file in partitions.subMap(fromPartition, true, to, false).values) {
+                file.read(from, to) { time, value -> sink(key, time, value) }
+            }
+        }
+    }
+
+    /**
+     * ✅ 블록이 minBlocks개 이상 쌓인 파일 압축
+     * @return 압축한 파일 수
+     */
+    fun compact(minBlocks: Int): Int {
+        var compacted = 0
+        for (partitions in series.values) {
+            for (file in partitions.values) {
+                try {
+                    if (file.compact(minBlocks)) compacted++
+                } catch (e: Exception) {
+                    log.error("❌ 청크 파일 압축 실패: {}", file.path, e)
+                }
+            }
+        }
+        return compacted
+    }
+
+    fun seriesCount(): Int = series.size
+
+    fun fileCount(): Int = series.values.sumOf { it.size }
+
+    override fun close() {
+        series.values.forEach { partitions -> partitions.values.forEach(ChunkFile::close) }
+    }
+
+    private fun partitions(key: SeriesKey): ConcurrentSkipListMap<Long, ChunkFile> =
+        series.computeIfAbsent(key) { ConcurrentSkipListMap() }
+
+    // ChunkFile 생성은 I/O 없음 → computeIfAbsent가 중복 호출돼도 안전, 실제 파일은 append 시 생성
+    private fun chunkFile(key: SeriesKey, partition: Long): ChunkFile =
+        partitions(key).computeIfAbsent(partition) {
+            ChunkFile(root.resolve(encodeName(key.sensor)).resolve(encodeName(key.station)).resolve("$partition$CHUNK_SUFFIX"))
+        }
+
+    private fun partitionStart(epochMillis: Long): Long = Math.floorDiv(epochMillis, partitionMillis) * partitionMillis
+
+    companion object {
+        private val log = LoggerFactory.getLogger(EmbeddedTimeSeriesStore::class.java)
+
+        private const val CHUNK_SUFFIX = ".chunk"
+        private const val NO_STATION = "_none"
+        private val SAFE_NAME = Regex("[A-Za-z0-9][A-Za-z0-9._-]*")
+
+        /** ⚠️ 경로 조작 방지: 안전한 문자만 그대로, 그 외는 "~hex" */
+        internal fun encodeName(name: String?): String = when {
+            name == null -> NO_STATION
+            SAFE_NAME.matches(name) -> name
+            else -> "~" + HexFormat.of().formatHex(name.toByteArray(StandardCharsets.UTF_8))
+        }
+
+        internal fun decodeName(dirName: String): String? = when {
+            dirName == NO_STATION -> null
+            dirName.startsWith("~") -> String(HexFormat.of().parseHex(dirName.substring(1)), StandardCharsets.UTF_8)
+            else -> dirName
+        }
+    }
+}
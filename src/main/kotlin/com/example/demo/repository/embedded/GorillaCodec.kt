@@ -0,0 +1,170 @@
+package com.example.demo.repository.embedded
+
+import java.nio.ByteBuffer
+
+/**
+ * 📌 Gorilla 방식 시계열 압축 (블록 단위)
+ * - 시각: 첫 값 64bit, 이후 delta-of-delta 가변 길이 (정시 수집 → 대부분 1bit)
+ * - 값: 직전 값과 XOR → 0이면 1bit, 아니면 의미 있는 비트 구간만 기록
+ * - 입력은 시각 오름차순, 중복 시각 없음 (ChunkFile에서 정렬/중복 제거 후 호출)
+ */
+internal object GorillaCodec {
+
+    fun encode(times: LongArray, values: DoubleArray, count: Int): ByteArray {
+        require(count > 0) { "빈 블록은 인코딩하지 않음" }
+        val writer = BitWriter(count * 4 + 16)
+
+        // 시각
+        writer.writeBits(times[0], 64)
+        var prevTime = times[0]
+        var prevDelta = 0L
+        for (i in 1 until count) {
+            val delta = times[i] - prevTime
+            writeDeltaOfDelta(writer, delta - prevDelta)
+            prevDelta = delta
+            prevTime = times[i]
+        }
+
+        // 값
+        var prevBits = java.lang.Double.doubleToRawLongBits(values[0])
+        writer.writeBits(prevBits, 64)
+        var prevLeading = -1
+        var prevTrailing = 0
+        for (i in 1 until count) {
+            val bits = java.lang.Double.doubleToRawLongBits(values[i])
+            val xor = bits xor prevBits
+            if (xor == 0L) {
+                writer.writeBits(0, 1)
+            } else {
+                writer.writeBits(1, 1)
+                val leading = minOf(java.lang.Long.numberOfLeadingZeros(xor), 31)
+                val trailing = java.lang.Long.numberOfTrailingZeros(xor)
+                if (prevLeading >= 0 && leading >= prevLeading && trailing >= prevTrailing) {
+                    // 직전 구간 재사용
+                    writer.writeBits(0, 1)
+                    writer.writeBits(xor ushr prevTrailing, 64 - prevLeading - prevTrailing)
+                } else {
+                    val significant = 64 - leading - trailing
+                    writer.writeBits(1, 1)
+                    writer.writeBits(leading.toLong(), 5)
+                    writer.writeBits((significant - 1).toLong(), 6)
+                    writer.writeBits(xor ushr trailing, significant)
+                    prevLeading = leading
+                    prevTrailing = trailing
+                }
+            }
+            prevBits = bits
+        }
+        return writer.toByteArray()
+    }
+
+    /**
+     * ✅ 블록 디코딩 (mmap 버퍼에서 직접 읽음, 중간 배열 없음)
+     */
+    fun decode(buffer: ByteBuffer, offset: Int, length: Int, count: Int, times: LongArray, values: DoubleArray) {
+        val reader = BitReader(buffer, offset, length)
+
+        times[0] = reader.readBits(64)
+        var prevDelta = 0L
+        for (i in 1 until count) {
+            prevDelta += readDeltaOfDelta(reader)
+            times[i] = times[i - 1] + prevDelta
+        }
+
+        var bits = reader.readBits(64)
+        values[0] = java.lang.Double.longBitsToDouble(bits)
+        var prevLeading = 0
+        var prevTrailing = 0
+        for (i in 1 until count) {
+            if (reader.readBits(1) == 1L) {
+                val xor: Long
+                if (reader.readBits(1) == 0L) {
+                    xor = reader.readBits(64 - prevLeading - prevTrailing) shl prevTrailing
+                } else {
+                    val leading = reader.readBits(5).toInt()
+                    val significant = reader.readBits(6).toInt() + 1
+                    val trailing = 64 - leading - significant
+                    xor = reader.readBits(significant) shl trailing
+                    prevLeading = leading
+                    prevTrailing = trailing
+                }
+                bits = bits xor xor
+            }
+            values[i] = java.lang.Double.longBitsToDouble(bits)
+        }
+    }
+
+    // '0' | '10'+7bit | '110'+9bit | '1110'+12bit | '1111'+64bit (2의 보수)
+    private fun writeDeltaOfDelta(writer: BitWriter, dod: Long) {
+        when (dod) {
+            0L -> writer.writeBits(0, 1)
+            in -64L..63L -> { writer.writeBits(0b10, 2); writer.writeBits(dod, 7) }
+            in -256L..255L -> { writer.writeBits(0b110, 3); writer.writeBits(dod, 9) }
+            in -2048L..2047L -> { writer.writeBits(0b1110, 4); writer.writeBits(dod, 12) }
+            else -> { writer.writeBits(0b1111, 4); writer.writeBits(dod, 64) }
+        }
+    }
+
+    private fun readDeltaOfDelta(reader: BitReader): Long {
+        if (reader.readBits(1) == 0L) return 0
+        if (reader.readBits(1) == 0L) return signExtend(reader.readBits(7), 7)
+        if (reader.readBits(1) == 0L) return signExtend(reader.readBits(9), 9)
+        if (reader.readBits(1) == 0L) return signExtend(reader.readBits(12), 12)
+        return reader.readBits(64)
+    }
+
+    private fun signExtend(value: Long, bits: Int): Long = (value shl (64 - bits)) shr (64 - bits)
+}
+
+/**
+ * 비트 단위 쓰기 (상위 비트부터)
+ */
+internal class BitWriter(initialBytes: Int) {
+
+    private var buffer = ByteArray(maxOf(16, initialBytes))
+    private var bitPosition = 0L
+
+    /** value의 하위 bits개 비트를 기록 (1..64) */
+    fun writeBits(value: Long, bits: Int) {
+        var remaining = bits
+        while (remaining > 0) {
+            val byteIndex = (bitPosition ushr 3).toInt()
+            if (byteIndex >= buffer.size) {
+                buffer = buffer.copyOf(buffer.size * 2)
+            }
+            val free = 8 - (bitPosition and 7).toInt()
+            val n = minOf(free, remaining)
+            val chunk = ((value ushr (remaining - n)) and ((1L shl n) - 1)).toInt()
+            buffer[byteIndex] = (buffer[byteIndex].toInt() or (chunk shl (free - n))).toByte()
+            remaining -= n
+            bitPosition += n
+        }
+    }
+
+    fun toByteArray(): ByteArray = buffer.copyOf(((bitPosition + 7) ushr 3).toInt())
+}
+
+/**
+ * 비트 단위 읽기 (ByteBuffer 절대 위치 읽기 → 여러 스레드가 같은 mmap 버퍼 공유 가능)
+ */
+internal class BitReader(private val buffer: ByteBuffer, private val offset: Int, private val length: Int) {
+
+    private var bitPosition = 0L
+
+    fun readBits(bits: Int): Long {
+        var result = 0L
+        var remaining = bits
+        while (remaining > 0) {
+            val byteIndex = (bitPosition ushr 3).toInt()
+            check(byteIndex < length) { "청크 블록이 손상됨 (payload 범위 초과)" }
+            val available = 8 - (bitPosition and 7).toInt()
+            val n = minOf(available, remaining)
+            val b = buffer.get(offset + byteIndex).toInt() and 0xFF
+            val chunk = (b ushr (available - n)) and ((1 shl n) - 1)
+            result = (result shl n) or chunk.toLong()
+            remaining -= n
+            bitPosition += n
+        }
+        return result
+    }
+}
@@ -0,0 +1,138 @@
+package com.example.demo.config;
+
+import com.example.demo.service.RateLimitStateStore;
+import com.github.benmanes.caffeine.cache.Scheduler;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 📌 분산 요청 제한기 (H2 MariaDB 모드 저장소)
+ * - 각 호출이 실제 트랜잭션으로 커밋되도록 테스트 트랜잭션 미사용
+ */
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:ratelimit;MODE=MariaDB;DB_CLOSE_DELAY=-1",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.hibernate.ddl-auto=create-drop"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(RateLimitStateStore.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class DistributedApiKeyRateLimiterTest {
+
+    private static final long PREFETCH = 5;
+    private static final long LEASE_TTL_MS = 1000;
+    private static final long DB_TIMEOUT_MS = 2000;
+
+    @Autowired
+    private RateLimitStateStore stateStore;
+
+    private final AtomicLong now = new AtomicLong(1_000_000L);
+
+    private DistributedApiKeyRateLimiter newNode() {
+        ApiKeyRateLimiter noFallback = (key, limit, tokens) -> {
+            throw new AssertionError("DB 저장소가 정상인데 로컬 대체 사용");
+        };
+        return new DistributedApiKeyRateLimiter(stateStore, noFallback, PREFETCH, LEASE_TTL_MS, 30, DB_TIMEOUT_MS,
+                now::get, Runnable::run, Scheduler.disabledScheduler());
+    }
+
+    @Test
+    void lowRateKeyIsNotThrottledByPrefetch() {
+        DistributedApiKeyRateLimiter node = newNode();
+
+        // 임대 만료 간격으로 한 건씩 → 쓰지 않은 임대분이 반납되어 한도 전체 사용 가능
+        int allowed = 0;
+        for (int i = 0; i < 10; i++) {
+            if (node.tryConsume("low-rate", 10, 1) == 0) {
+                allowed++;
+            }
+            now.addAndGet(LEASE_TTL_MS + 100);
+        }
+
+        assertThat(allowed).isEqualTo(10);
+    }
+
+    @Test
+    void limitIsSharedAcrossNodes() {
+        DistributedApiKeyRateLimiter nodeA = newNode();
+        DistributedApiKeyRateLimiter nodeB = newNode();
+
+        int allowed = 0;
+        for (int i = 0; i < 60; i++) {
+            DistributedApiKeyRateLimiter node = i % 2 == 0 ? nodeA : nodeB;
+            if (node.tryConsume("shared", 20, 1) == 0) {
+                allowed++;
+            }
+        }
+
+        assertThat(allowed).isEqualTo(20);
+        assertThat(nodeA.tryConsume("shared", 20, 1)).isPositive();
+    }
+
+    @Test
+    void expiredIdleLeaseIsReturnedToStore() {
+        DistributedApiKeyRateLimiter nodeA = newNode();
+        DistributedApiKeyRateLimiter nodeB = newNode();
+
+        // A: 1건 사용 + 4건 임대 보유 후 유휴
+        assertThat(nodeA.tryConsume("idle", 10, 1)).isZero();
+        now.addAndGet(LEASE_TTL_MS + 100);
+        nodeA.expireLeases();
+
+        // B: A가 반납한 4건 포함 9건 사용 가능
+        int allowed = 0;
+        for (int i = 0; i < 20; i++) {
+            if (nodeB.tryConsume("idle", 10, 1) == 0) {
+                allowed++;
+            }
+        }
+
+        assertThat(allowed).isEqualTo(9);
+    }
+
+    @Test
+    void slowStoreFallsBackToLocalLimitsWithinTimeout() {
+        AtomicInteger storeCalls = new AtomicInteger();
+        RateLimitStateStore hangingStore = new RateLimitStateStore(null) {
+            @Override
+            public Lease lease(String bucketKey, int limitPerMinute, long required, long wanted, long returned, long nowMs) {
+                storeCalls.incrementAndGet();
+                try {
+                    Thread.sleep(10_000); // 커넥션 풀 대기 중인 DB
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return new Lease(0, 0);
+            }
+        };
+        AtomicInteger fallbackCalls = new AtomicInteger();
+        ApiKeyRateLimiter fallback = (key, limit, tokens) -> {
+            fallbackCalls.incrementAndGet();
+            return 0;
+        };
+        DistributedApiKeyRateLimiter node = new DistributedApiKeyRateLimiter(hangingStore, fallback, PREFETCH,
+                LEASE_TTL_MS, 30, 100, now::get, Runnable::run, Scheduler.disabledScheduler());
+
+        long started = System.nanoTime();
+        assertThat(node.tryConsume("hanging", 10, 1)).isZero();
+        assertThat(System.nanoTime() - started).isLessThan(2_000_000_000L);
+
+        // db-retry-sec 동안은 DB를 다시 기다리지 않음
+        assertThat(node.tryConsume("hanging", 10, 1)).isZero();
+        assertThat(storeCalls.get()).isEqualTo(1);
+        assertThat(fallbackCalls.get()).isEqualTo(2);
+        node.shutdown();
+    }
+}
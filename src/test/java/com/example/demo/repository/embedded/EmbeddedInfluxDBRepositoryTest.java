@@ -0,0 +1,117 @@
+package com.example.demo.repository.embedded;
+
+import com.example.demo.domain.SensorMeasurement;
+import com.example.demo.domain.WindowedRow;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 📌 임베디드 저장소 (ChunkFile + GorillaCodec) 쓰기 → 압축 → 재시작 후 조회
+ */
+class EmbeddedInfluxDBRepositoryTest {
+
+    private static final String BUCKET = "unused";
+    private static final Instant START = Instant.parse("2024-05-01T00:00:00Z");
+    private static final Duration KST = Duration.ofHours(9);
+
+    @TempDir
+    Path dir;
+
+    private EmbeddedInfluxDBRepository open() {
+        // 파티션 1시간 / 블록 2개 이상이면 압축
+        return new EmbeddedInfluxDBRepository(dir.toString(), 1, false, 2, new SimpleMeterRegistry());
+    }
+
+    @Test
+    void measurementsSurviveCompactionAndRestart() {
+        // 2시간(파티션 2개) 동안 지점 2곳, 불규칙 간격·값
+        List<SensorMeasurement> first = new ArrayList<>();
+        List<SensorMeasurement> second = new ArrayList<>();
+        for (int i = 0; i < 120; i++) {
+            Instant time = START.plusSeconds(i * 60L + (i % 7));
+            (i % 2 == 0 ? first : second).add(new SensorMeasurement("TA", "108", 12.5 + i * 0.137, time));
+            first.add(new SensorMeasurement("TA", "112", -3.25 - i * 0.01, time));
+        }
+
+        EmbeddedInfluxDBRepository repository = open();
+        repository.saveAll(first);
+        repository.saveAll(second);
+        repository.compact();
+        repository.destroy();
+
+        EmbeddedInfluxDBRepository reopened = open();
+        try {
+            List<SensorMeasurement> seoul = reopened.findBySensorAndStationsBetween(
+                    BUCKET, "TA", List.of("108"), START, START.plus(2, ChronoUnit.HOURS));
+
+            assertThat(seoul).hasSize(120);
+            for (int i = 0; i < 120; i++) {
+                SensorMeasurement m = seoul.get(i);
+                assertThat(m.getStation()).isEqualTo("108");
+                assertThat(m.getValue()).isEqualTo(12.5 + i * 0.137);
+                // 조회 결과는 InfluxDB 구현과 동일하게 +9h
+                assertThat(m.getSensingDate()).isEqualTo(START.plusSeconds(i * 60L + (i % 7)).plus(KST));
+            }
+
+            assertThat(reopened.findBySensorIdBetween(BUCKET, "TA", START, START.plus(2, ChronoUnit.HOURS)))
+                    .hasSize(240);
+        } finally {
+            reopened.destroy();
+        }
+    }
+
+    @Test
+    void stationAggregateUsesWindowStart() {
+        EmbeddedInfluxDBRepository repository = open();
+        try {
+            repository.saveAll(List.of(
+                    new SensorMeasurement("RN", "108", 1.0, START.plusSeconds(10)),
+                    new SensorMeasurement("RN", "112", 3.0, START.plusSeconds(20)),
+                    new SensorMeasurement("RN", "108", 8.0, START.plusSeconds(3600))));
+
+            List<SensorMeasurement> windows = repository.findStationAggregate(BUCKET, "RN", List.of("108", "112"),
+                    START, START.plus(2, ChronoUnit.HOURS), Duration.ofHours(1), "mean");
+
+            assertThat(windows).extracting(SensorMeasurement::getValue).containsExactly(2.0, 8.0);
+            assertThat(windows).extracting(SensorMeasurement::getSensingDate)
+                    .containsExactly(START.plus(KST), START.plus(KST).plus(1, ChronoUnit.HOURS));
+        } finally {
+            repository.destroy();
+        }
+    }
+
+    @Test
+    void pivotReadsOnlyRequestedStation() {
+        EmbeddedInfluxDBRepository repository = open();
+        try {
+            repository.saveAll(List.of(
+                    new SensorMeasurement("TA", "108", 10.0, START.plusSeconds(10)),
+                    new SensorMeasurement("TA", "108", 12.0, START.plusSeconds(50)),
+                    new SensorMeasurement("TA", "112", 30.0, START.plusSeconds(60)),
+                    new SensorMeasurement("HM", "108", 55.0, START.plusSeconds(20))));
+
+            List<WindowedRow> mean = repository.findPivoted(BUCKET, List.of("TA", "HM"), "108",
+                    START, START.plus(1, ChronoUnit.HOURS), Duration.ofHours(1), "mean");
+            List<WindowedRow> last = repository.findPivoted(BUCKET, List.of("TA", "HM"), "108",
+                    START, START.plus(1, ChronoUnit.HOURS), Duration.ofHours(1), "last");
+
+            assertThat(mean).singleElement().satisfies(row -> {
+                assertThat(row.time()).isEqualTo(START.plus(KST));
+                assertThat(row.values()).containsEntry("TA", 11.0).containsEntry("HM", 55.0);
+            });
+            assertThat(last).singleElement().satisfies(row -> assertThat(row.values()).containsEntry("TA", 12.0));
+        } finally {
+            repository.destroy();
+        }
+    }
+}